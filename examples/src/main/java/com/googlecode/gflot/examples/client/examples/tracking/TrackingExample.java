@@ -2,9 +2,9 @@ package com.googlecode.gflot.examples.client.examples.tracking;
 
 import ca.nanometrics.gflot.client.Axes;
 import ca.nanometrics.gflot.client.DataPoint;
+import ca.nanometrics.gflot.client.Interpolation;
 import ca.nanometrics.gflot.client.PlotModel;
 import ca.nanometrics.gflot.client.Series;
-import ca.nanometrics.gflot.client.SeriesData;
 import ca.nanometrics.gflot.client.SeriesHandler;
 import ca.nanometrics.gflot.client.SimplePlot;
 import ca.nanometrics.gflot.client.event.PlotHoverListener;
@@ -22,6 +22,7 @@ import ca.nanometrics.gflot.client.options.PointsSeriesOptions;
 import ca.nanometrics.gflot.client.options.PointsSeriesOptions.PointSymbol;
 
 import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.JsArrayNumber;
 import com.google.gwt.i18n.client.NumberFormat;
 import com.google.gwt.uibinder.client.UiBinder;
 import com.google.gwt.uibinder.client.UiField;
@@ -191,38 +192,23 @@ public class TrackingExample
             return;
         }
 
-        int i = 0;
-        int j = 0;
+        // the value of each series under the mouse, found by binary search
+        JsArrayNumber values = plot1.valuesAtX( xPos, Interpolation.LINEAR );
+        JsArrayNumber nearestValues = null;
         Series[] dataset = model1.getSeries();
         StringBuilder builder = new StringBuilder();
-        for ( i = 0; i < dataset.length; i++ )
+        for ( int i = 0; i < dataset.length; i++ )
         {
             Series series = dataset[i];
-            SeriesData data = series.getData();
-            // find the nearest points, x-wise
-            for ( j = 0; j < data.size(); j++ )
+            double y = values.get( i );
+            if ( Double.isNaN( y ) )
             {
-                if ( data.getX( j ) > xPos )
+                // outside the series, clamp to its nearest point
+                if ( null == nearestValues )
                 {
-                    break;
+                    nearestValues = plot1.valuesAtX( xPos, Interpolation.NEAREST );
                 }
-            }
-
-            // now interpolate
-            double y;
-            DataPoint p1 = data.getDataPoint( j - 1 );
-            DataPoint p2 = data.getDataPoint( j );
-            if ( p1 == null )
-            {
-                y = p2.getY();
-            }
-            else if ( p2 == null )
-            {
-                y = p1.getY();
-            }
-            else
-            {
-                y = p1.getY() + ( p2.getY() - p1.getY() ) * ( xPos - p1.getX() ) / ( p2.getX() - p1.getX() );
+                y = nearestValues.get( i );
             }
 
             if ( builder.length() > 0 )
@@ -101,7 +101,8 @@
                         lineWidth: 2, // in pixels
                         fill: false,
                         fillColor: null,
-                        steps: false
+                        steps: false,
+                        decimate: false // collapse the points falling in the same pixel column
                     },
                     bars: {
                         show: false,
@@ -133,7 +134,9 @@
                     clickable: false,
                     hoverable: false,
                     autoHighlight: true, // highlight in case mouse is near
-                    mouseActiveRadius: 10 // how far the mouse can be away to activate an item
+                    mouseActiveRadius: 10, // how far the mouse can be away to activate an item
+                    hoverIndex: null, // "sorted" or "grid" to index the points for the hit-testing
+                    hoverThrottle: null // minimum delay in ms between two hover processings, null processes every move
                 },
                 hooks: {}
             },
@@ -145,6 +148,11 @@
         plotOffset = { left: 0, right: 0, top: 0, bottom: 0},
         canvasWidth = 0, canvasHeight = 0,
         plotWidth = 0, plotHeight = 0,
+        drawCount = 0,      // incremented on every draw, lets deferred drawing detect a redraw
+        progressiveLayers = [], // offscreen canvas of each series drawn progressively
+        compositing = false, // set while the progressive layers are composited into the frame
+        hitIndexes = [],    // hit-test index of each series, built lazily
+        initializedPlugins = [], // plugins whose init has been called on this plot
         hooks = {
             processOptions: [],
             processRawData: [],
@@ -161,6 +169,12 @@
         plot.setData = setData;
         plot.setupGrid = setupGrid;
         plot.draw = draw;
+        plot.drawSeriesRange = function (index, from, to) {
+            drawSeriesRange(series[index], progressiveLayers[index], from, to);
+        };
+        plot.completeProgressiveDraw = completeProgressiveDraw;
+        plot.initNewPlugins = initNewPlugins;
+        plot.getDrawCount = function () { return drawCount; };
         plot.getPlaceholder = function() { return placeholder; };
         plot.getCanvas = function() { return canvas; };
         plot.getPlotOffset = function() { return plotOffset; };
@@ -227,6 +241,44 @@
                 p.init(plot);
                 if (p.options)
                     $.extend(true, options, p.options);
+                initializedPlugins.push(p);
+            }
+        }
+
+        function initNewPlugins() {
+            // initialize the plugins loaded since the creation of the plot,
+            // their hooks run after the ones of the plugins already there and
+            // their default options do not override the options already set
+            var processOptionsCount = hooks.processOptions.length,
+                bindEventsCount = hooks.bindEvents.length;
+
+            for (var i = 0; i < plugins.length; ++i) {
+                var p = plugins[i];
+                if ($.inArray(p, initializedPlugins) >= 0)
+                    continue;
+                p.init(plot);
+                if (p.options)
+                    fillMissingOptions(options, p.options);
+                initializedPlugins.push(p);
+            }
+
+            executeHooks(hooks.processOptions.slice(processOptionsCount), [options]);
+            executeHooks(hooks.bindEvents.slice(bindEventsCount), [eventHolder]);
+        }
+
+        function fillMissingOptions(target, defaults) {
+            for (var key in defaults) {
+                var value = defaults[key];
+                if (target[key] === undefined) {
+                    if ($.isPlainObject(value))
+                        target[key] = $.extend(true, {}, value);
+                    else if ($.isArray(value))
+                        target[key] = $.extend(true, [], value);
+                    else
+                        target[key] = value;
+                }
+                else if ($.isPlainObject(value) && $.isPlainObject(target[key]))
+                    fillMissingOptions(target[key], value);
             }
         }
         
@@ -301,6 +353,7 @@
             series = parseData(d);
             fillInSeriesOptions();
             processData();
+            hitIndexes = [];
         }
         
         function parseData(d) {
@@ -805,6 +858,11 @@
             if (options.grid.hoverable) {
                 eventHolder.mousemove(onMouseMove);
                 eventHolder.mouseleave(onMouseLeave);
+                // the throttled hover is skipped while a button is down
+                if (options.grid.hoverThrottle != null) {
+                    eventHolder.mousedown(onMouseDown);
+                    $(document).mouseup(onMouseUp);
+                }
             }
 
             if (options.grid.clickable)
@@ -817,8 +875,18 @@
             if (redrawTimeout)
                 clearTimeout(redrawTimeout);
             
+            if (hoverTimeout)
+                clearTimeout(hoverTimeout);
+            if (hoverFrame)
+                cancelFrame(hoverFrame);
+            hoverTimeout = null;
+            hoverFrame = null;
+            hoverEvent = null;
+
             eventHolder.unbind("mousemove", onMouseMove);
             eventHolder.unbind("mouseleave", onMouseLeave);
+            eventHolder.unbind("mousedown", onMouseDown);
+            $(document).unbind("mouseup", onMouseUp);
             eventHolder.unbind("click", onClick);
             
             executeHooks(hooks.shutdown, [eventHolder]);
@@ -1006,6 +1074,9 @@
         function setupGrid() {
             var i, axes = allAxes();
 
+            // the axes may change, the hit-test indexes are in canvas space
+            hitIndexes = [];
+
             // first calculate the plot and axis box dimensions
 
             $.each(axes, function (_, axis) {
@@ -1389,7 +1460,7 @@
             else if (oticks) {
                 if ($.isFunction(oticks))
                     // generate the ticks
-                    ticks = oticks({ min: axis.min, max: axis.max });
+                    ticks = oticks({ min: axis.min, max: axis.max, tickSize: axis.tickSize, tickDecimals: axis.tickDecimals });
                 else
                     ticks = oticks;
             }
@@ -1425,10 +1496,15 @@
         }
       
         function draw() {
+            ++drawCount;
             ctx.clearRect(0, 0, canvasWidth, canvasHeight);
 
             var grid = options.grid;
 
+            // the layers of the previous progressive drawing are obsolete
+            if (!compositing)
+                progressiveLayers = [];
+
             // draw background, if any
             if (grid.show && grid.backgroundColor)
                 drawBackground();
@@ -1438,7 +1514,17 @@
 
             for (var i = 0; i < series.length; ++i) {
                 executeHooks(hooks.drawSeries, [ctx, series[i]]);
-                drawSeries(series[i]);
+                // a series with a progressiveStride is drawn later in chunks
+                // into its layer with drawSeriesRange, only a downsampled
+                // preview is drawn now
+                if (series[i].progressiveStride != null) {
+                    progressiveLayers[i] = makeProgressiveLayer();
+                    drawSeriesPreview(series[i], series[i].progressiveStride);
+                }
+                else if (compositing && progressiveLayers[i])
+                    ctx.drawImage(progressiveLayers[i], 0, 0);
+                else
+                    drawSeries(series[i]);
             }
 
             executeHooks(hooks.draw, [ctx]);
@@ -1728,11 +1814,77 @@
                 drawSeriesPoints(series);
         }
         
+        function drawSeriesWithPoints(series, points) {
+            drawSeries($.extend({}, series, {
+                datapoints: {
+                    points: points,
+                    pointsize: series.datapoints.pointsize,
+                    format: series.datapoints.format
+                }
+            }));
+        }
+
+        function drawSeriesPreview(series, stride) {
+            if (stride <= 0)
+                return;
+
+            var points = series.datapoints.points, ps = series.datapoints.pointsize,
+                step = stride * ps, preview = [];
+            for (var i = 0; i < points.length; i += step)
+                for (var m = 0; m < ps; ++m)
+                    preview.push(points[i + m]);
+            drawSeriesWithPoints(series, preview);
+        }
+
+        function makeProgressiveLayer() {
+            var c = document.createElement("canvas");
+            // excanvas only emulates the canvases of the document, the
+            // series is then drawn completely by completeProgressiveDraw
+            if (!c.getContext)
+                return null;
+            c.width = canvasWidth;
+            c.height = canvasHeight;
+            return c;
+        }
+
+        function drawSeriesRange(series, layer, from, to) {
+            if (!layer)
+                return;
+
+            var ps = series.datapoints.pointsize;
+            // lines need the previous point to join with the previous range
+            if (series.lines.show && from > 0)
+                --from;
+
+            var frameCtx = ctx;
+            ctx = layer.getContext("2d");
+            try {
+                drawSeriesWithPoints(series, series.datapoints.points.slice(from * ps, to * ps));
+            }
+            finally {
+                ctx = frameCtx;
+            }
+        }
+
+        function completeProgressiveDraw() {
+            // redraw the frame with the layers in place of the previews so
+            // the series keep their order with the grid and the hooks
+            compositing = true;
+            try {
+                draw();
+            }
+            finally {
+                compositing = false;
+                progressiveLayers = [];
+            }
+        }
+
         function drawSeriesLines(series) {
             function plotLine(datapoints, xoffset, yoffset, axisx, axisy) {
                 var points = datapoints.points,
                     ps = datapoints.pointsize,
-                    prevx = null, prevy = null;
+                    prevx = null, prevy = null,
+                    path = series.lines.decimate ? $.plot.columnDecimator(ctx) : ctx;
                 
                 ctx.beginPath();
                 for (var i = ps; i < points.length; i += ps) {
@@ -1800,12 +1952,14 @@
                     }
 
                     if (x1 != prevx || y1 != prevy)
-                        ctx.moveTo(axisx.p2c(x1) + xoffset, axisy.p2c(y1) + yoffset);
+                        path.moveTo(axisx.p2c(x1) + xoffset, axisy.p2c(y1) + yoffset);
                     
                     prevx = x2;
                     prevy = y2;
-                    ctx.lineTo(axisx.p2c(x2) + xoffset, axisy.p2c(y2) + yoffset);
+                    path.lineTo(axisx.p2c(x2) + xoffset, axisy.p2c(y2) + yoffset);
                 }
+                if (path != ctx)
+                    path.flush();
                 ctx.stroke();
             }
 
@@ -2264,8 +2418,124 @@
         // interactive features
         
         var highlights = [],
-            redrawTimeout = null;
+            redrawTimeout = null,
+            hoverEvent = null,      // latest pointer position waiting for a throttled hover
+            hoverTimeout = null,
+            hoverFrame = null,
+            lastHoverTime = 0,
+            mouseDown = false,      // a pan or a selection drag may be running
+            hoverSuspended = false, // set while a progressive redraw is running
+            requestFrame = window.requestAnimationFrame || window.webkitRequestAnimationFrame ||
+                window.mozRequestAnimationFrame || function (callback) { return setTimeout(callback, 16); },
+            cancelFrame = window.cancelAnimationFrame || window.webkitCancelAnimationFrame ||
+                window.mozCancelAnimationFrame || clearTimeout;
+
+        plot.suspendHover = function (suspended) { hoverSuspended = suspended; };
         
+        function getHitIndex(s, i) {
+            if (hitIndexes[i] === undefined) {
+                var mode = options.grid.hoverIndex;
+                hitIndexes[i] = (mode == "sorted" && buildSortedHitIndex(s)) || buildGridHitIndex(s);
+            }
+            return hitIndexes[i];
+        }
+
+        // index for the series sorted by x, the points within the mouse
+        // radius are found by bisection, returns null if not sorted
+        function buildSortedHitIndex(s) {
+            var points = s.datapoints.points, ps = s.datapoints.pointsize,
+                n = points.length / ps, axisx = s.xaxis, axisy = s.yaxis,
+                radius = options.grid.mouseActiveRadius, prev = -Infinity, j;
+
+            for (j = 0; j < points.length; j += ps) {
+                if (points[j] == null || points[j] < prev)
+                    return null;
+                prev = points[j];
+            }
+
+            return function (mouseX, mouseY) {
+                var a = axisx.c2p(mouseX - radius), b = axisx.c2p(mouseX + radius),
+                    lo = Math.min(a, b), hi = Math.max(a, b),
+                    l = 0, h = n, best = { dist: radius * radius + 1, index: -1 };
+
+                while (l < h) {
+                    var m = (l + h) >> 1;
+                    if (points[m * ps] < lo)
+                        l = m + 1;
+                    else
+                        h = m;
+                }
+
+                for (var k = l; k < n && points[k * ps] <= hi; ++k) {
+                    var y = points[k * ps + 1];
+                    if (y == null)
+                        continue;
+                    var dx = axisx.p2c(points[k * ps]) - mouseX,
+                        dy = axisy.p2c(y) - mouseY,
+                        dist = dx * dx + dy * dy;
+                    if (dist < best.dist) {
+                        best.dist = dist;
+                        best.index = k;
+                    }
+                }
+                return best;
+            };
+        }
+
+        // index bucketing the points in a uniform grid of the plot area with
+        // cells the size of the mouse radius, only the 9 cells around the
+        // mouse are searched
+        function buildGridHitIndex(s) {
+            var points = s.datapoints.points, ps = s.datapoints.pointsize,
+                axisx = s.xaxis, axisy = s.yaxis,
+                radius = options.grid.mouseActiveRadius, cell = Math.max(radius, 1),
+                cols = Math.ceil(plotWidth / cell) + 3, rows = Math.ceil(plotHeight / cell) + 3,
+                cells = {}, cxs = [], cys = [], j;
+
+            function key(col, row) {
+                return row * cols + col;
+            }
+
+            for (j = 0; j < points.length; j += ps) {
+                var x = points[j], y = points[j + 1];
+                if (x == null || y == null)
+                    continue;
+                var cx = axisx.p2c(x), cy = axisy.p2c(y),
+                    col = Math.floor(cx / cell) + 1, row = Math.floor(cy / cell) + 1;
+                // the points too far from the plot area can't be hovered
+                if (col < 0 || col >= cols || row < 0 || row >= rows)
+                    continue;
+                var k = key(col, row);
+                (cells[k] || (cells[k] = [])).push(j / ps);
+                cxs[j / ps] = cx;
+                cys[j / ps] = cy;
+            }
+
+            return function (mouseX, mouseY) {
+                var col = Math.floor(mouseX / cell) + 1, row = Math.floor(mouseY / cell) + 1,
+                    best = { dist: radius * radius + 1, index: -1 };
+
+                for (var c = col - 1; c <= col + 1; ++c) {
+                    for (var r = row - 1; r <= row + 1; ++r) {
+                        var bucket = cells[key(c, r)];
+                        if (!bucket || c < 0 || c >= cols)
+                            continue;
+                        for (var b = 0; b < bucket.length; ++b) {
+                            var index = bucket[b],
+                                dx = cxs[index] - mouseX, dy = cys[index] - mouseY,
+                                dist = dx * dx + dy * dy;
+                            // lowest index wins on ties, like the linear scan
+                            if (dist < best.dist || (dist == best.dist && index < best.index)) {
+                                best.dist = dist;
+                                best.index = index;
+                            }
+                        }
+                    }
+                }
+                return best;
+            };
+        }
+
         // returns the data item the mouse is over, or null if none is found
         function findNearbyItem(mouseX, mouseY, seriesFilter) {
             var maxDistance = options.grid.mouseActiveRadius,
@@ -2293,7 +2563,15 @@
                 if (axisy.options.inverseTransform)
                     maxy = Number.MAX_VALUE;
                 
-                if (s.lines.show || s.points.show) {
+                var hitIndex = options.grid.hoverIndex ? getHitIndex(s, i) : null;
+                if ((s.lines.show || s.points.show) && hitIndex) {
+                    var found = hitIndex(mouseX, mouseY);
+                    if (found.dist < smallestDistance) {
+                        smallestDistance = found.dist;
+                        item = [i, found.index];
+                    }
+                }
+                else if (s.lines.show || s.points.show) {
                     for (j = 0; j < points.length; j += ps) {
                         var x = points[j], y = points[j + 1];
                         if (x == null)
@@ -2361,12 +2639,59 @@
         }
 
         function onMouseMove(e) {
-            if (options.grid.hoverable)
+            if (!options.grid.hoverable)
+                return;
+
+            if (options.grid.hoverThrottle == null) {
                 triggerClickHoverEvent("plothover", e,
                                        function (s) { return s["hoverable"] != false; });
+                return;
+            }
+
+            // the mouseup is missed when the button is released outside of
+            // the browser window, the move tells the button is up again
+            if (mouseDown && e.originalEvent && e.originalEvent.buttons === 0)
+                mouseDown = false;
+
+            // only the latest position is processed, at most once per
+            // hoverThrottle ms and aligned on an animation frame
+            hoverEvent = { pageX: e.pageX, pageY: e.pageY };
+            if (hoverTimeout == null && hoverFrame == null) {
+                var delay = lastHoverTime + options.grid.hoverThrottle - new Date().getTime();
+                hoverTimeout = setTimeout(function () {
+                    hoverTimeout = null;
+                    hoverFrame = requestFrame(processHover);
+                }, Math.max(0, delay));
+            }
+        }
+
+        function processHover() {
+            // the frame may not be cancellable, a null frame means the
+            // plot has been shut down
+            if (hoverFrame == null)
+                return;
+            hoverFrame = null;
+            var e = hoverEvent;
+            hoverEvent = null;
+            // skipped while dragging or redrawing, the next move is processed
+            if (e == null || mouseDown || hoverSuspended)
+                return;
+
+            lastHoverTime = new Date().getTime();
+            triggerClickHoverEvent("plothover", e,
+                                   function (s) { return s["hoverable"] != false; });
+        }
+
+        function onMouseDown(e) {
+            mouseDown = true;
+        }
+
+        function onMouseUp(e) {
+            mouseDown = false;
         }
 
         function onMouseLeave(e) {
+            hoverEvent = null;
             if (options.grid.hoverable)
                 triggerClickHoverEvent("plothover", e,
                                        function (s) { return false; });
@@ -2622,6 +2947,56 @@
         return r.join("");
     };
     
+    // wraps the path calls of ctx so the consecutive points falling in the
+    // same pixel column only produce the entry, min, max and exit vertices
+    // of the column, the stroke looks the same but the number of path calls
+    // is bounded by the plot width. flush() ends the last column.
+    $.plot.columnDecimator = function (ctx) {
+        var column = null, count = 0,
+            entryx, miny, maxy, exitx, exity;
+
+        function flush() {
+            if (count > 1) {
+                ctx.lineTo(entryx, miny);
+                ctx.lineTo(entryx, maxy);
+                ctx.lineTo(exitx, exity);
+            }
+            column = null;
+            count = 0;
+        }
+
+        function start(x, y) {
+            column = Math.floor(x);
+            count = 1;
+            entryx = exitx = x;
+            miny = maxy = exity = y;
+        }
+
+        return {
+            moveTo: function (x, y) {
+                flush();
+                ctx.moveTo(x, y);
+                start(x, y);
+            },
+            lineTo: function (x, y) {
+                if (column != null && Math.floor(x) == column) {
+                    ++count;
+                    if (y < miny)
+                        miny = y;
+                    if (y > maxy)
+                        maxy = y;
+                    exitx = x;
+                    exity = y;
+                    return;
+                }
+                flush();
+                ctx.lineTo(x, y);
+                start(x, y);
+            },
+            flush: flush
+        };
+    };
+
     // round to nearby lower multiple of base
     function floorInBase(n, base) {
         return base * Math.floor(n / base);
@@ -1 +1 @@
-(function(b){b.color={};b.color.make=function(d,e,g,f){var c={};c.r=d||0;c.g=e||0;c.b=g||0;c.a=f!=null?f:1;c.add=function(h,j){for(var k=0;k<h.length;++k){c[h.charAt(k)]+=j}return c.normalize()};c.scale=function(h,j){for(var k=0;k<h.length;++k){c[h.charAt(k)]*=j}return c.normalize()};c.toString=function(){if(c.a>=1){return"rgb("+[c.r,c.g,c.b].join(",")+")"}else{return"rgba("+[c.r,c.g,c.b,c.a].join(",")+")"}};c.normalize=function(){function h(k,j,l){return j<k?k:(j>l?l:j)}c.r=h(0,parseInt(c.r),255);c.g=h(0,parseInt(c.g),255);c.b=h(0,parseInt(c.b),255);c.a=h(0,c.a,1);return c};c.clone=function(){return b.color.make(c.r,c.b,c.g,c.a)};return c.normalize()};b.color.extract=function(d,e){var c;do{c=d.css(e).toLowerCase();if(c!=""&&c!="transparent"){break}d=d.parent()}while(!b.nodeName(d.get(0),"body"));if(c=="rgba(0, 0, 0, 0)"){c="transparent"}return b.color.parse(c)};b.color.parse=function(c){var d,f=b.color.make;if(d=/rgb\(\s*([0-9]{1,3})\s*,\s*([0-9]{1,3})\s*,\s*([0-9]{1,3})\s*\)/.exec(c)){return f(parseInt(d[1],10),parseInt(d[2],10),parseInt(d[3],10))}if(d=/rgba\(\s*([0-9]{1,3})\s*,\s*([0-9]{1,3})\s*,\s*([0-9]{1,3})\s*,\s*([0-9]+(?:\.[0-9]+)?)\s*\)/.exec(c)){return f(parseInt(d[1],10),parseInt(d[2],10),parseInt(d[3],10),parseFloat(d[4]))}if(d=/rgb\(\s*([0-9]+(?:\.[0-9]+)?)\%\s*,\s*([0-9]+(?:\.[0-9]+)?)\%\s*,\s*([0-9]+(?:\.[0-9]+)?)\%\s*\)/.exec(c)){return f(parseFloat(d[1])*2.55,parseFloat(d[2])*2.55,parseFloat(d[3])*2.55)}if(d=/rgba\(\s*([0-9]+(?:\.[0-9]+)?)\%\s*,\s*([0-9]+(?:\.[0-9]+)?)\%\s*,\s*([0-9]+(?:\.[0-9]+)?)\%\s*,\s*([0-9]+(?:\.[0-9]+)?)\s*\)/.exec(c)){return f(parseFloat(d[1])*2.55,parseFloat(d[2])*2.55,parseFloat(d[3])*2.55,parseFloat(d[4]))}if(d=/#([a-fA-F0-9]{2})([a-fA-F0-9]{2})([a-fA-F0-9]{2})/.exec(c)){return f(parseInt(d[1],16),parseInt(d[2],16),parseInt(d[3],16))}if(d=/#([a-fA-F0-9])([a-fA-F0-9])([a-fA-F0-9])/.exec(c)){return f(parseInt(d[1]+d[1],16),parseInt(d[2]+d[2],16),parseInt(d[3]+d[3],16))}var e=b.trim(c).toLowerCase();if(e=="transparent"){return f(255,255,255,0)}else{d=a[e]||[0,0,0];return f(d[0],d[1],d[2])}};var a={aqua:[0,255,255],azure:[240,255,255],beige:[245,245,220],black:[0,0,0],blue:[0,0,255],brown:[165,42,42],cyan:[0,255,255],darkblue:[0,0,139],darkcyan:[0,139,139],darkgrey:[169,169,169],darkgreen:[0,100,0],darkkhaki:[189,183,107],darkmagenta:[139,0,139],darkolivegreen:[85,107,47],darkorange:[255,140,0],darkorchid:[153,50,204],darkred:[139,0,0],darksalmon:[233,150,122],darkviolet:[148,0,211],fuchsia:[255,0,255],gold:[255,215,0],green:[0,128,0],indigo:[75,0,130],khaki:[240,230,140],lightblue:[173,216,230],lightcyan:[224,255,255],lightgreen:[144,238,144],lightgrey:[211,211,211],lightpink:[255,182,193],lightyellow:[255,255,224],lime:[0,255,0],magenta:[255,0,255],maroon:[128,0,0],navy:[0,0,128],olive:[128,128,0],orange:[255,165,0],pink:[255,192,203],purple:[128,0,128],violet:[128,0,128],red:[255,0,0],silver:[192,192,192],white:[255,255,255],yellow:[255,255,0]}})(jQuery);(function(c){function b(av,ai,J,af){var Q=[],O={colors:["#edc240","#afd8f8","#cb4b4b","#4da74d","#9440ed"],legend:{show:true,noColumns:1,labelFormatter:null,labelBoxBorderColor:"#ccc",container:null,position:"ne",margin:5,backgroundColor:null,backgroundOpacity:0.85},xaxis:{show:null,position:"bottom",mode:null,color:null,tickColor:null,transform:null,inverseTransform:null,min:null,max:null,autoscaleMargin:null,ticks:null,tickFormatter:null,labelWidth:null,labelHeight:null,reserveSpace:null,tickLength:null,alignTicksWithAxis:null,tickDecimals:null,tickSize:null,minTickSize:null,monthNames:null,timeformat:null,twelveHourClock:false},yaxis:{autoscaleMargin:0.02,position:"left"},xaxes:[],yaxes:[],series:{points:{show:false,radius:3,lineWidth:2,fill:true,fillColor:"#ffffff",symbol:"circle"},lines:{lineWidth:2,fill:false,fillColor:null,steps:false},bars:{show:false,lineWidth:2,barWidth:1,fill:true,fillColor:null,align:"left",horizontal:false},multipleBars:false,shadowSize:3},grid:{show:true,aboveData:false,color:"#545454",backgroundColor:null,borderColor:null,tickColor:null,labelMargin:5,axisMargin:8,borderWidth:2,minBorderMargin:null,markings:null,markingsColor:"#f4f4f4",markingsLineWidth:2,clickable:false,hoverable:false,autoHighlight:true,mouseActiveRadius:10},hooks:{}},az=null,ad=null,y=null,H=null,A=null,p=[],aw=[],q={left:0,right:0,top:0,bottom:0},G=0,I=0,h=0,w=0,ak={processOptions:[],processRawData:[],processDatapoints:[],drawSeries:[],draw:[],bindEvents:[],drawOverlay:[],shutdown:[]},aq=this;aq.setData=aj;aq.setupGrid=t;aq.draw=W;aq.getPlaceholder=function(){return av};aq.getCanvas=function(){return az};aq.getPlotOffset=function(){return q};aq.width=function(){return h};aq.height=function(){return w};aq.offset=function(){var aB=y.offset();aB.left+=q.left;aB.top+=q.top;return aB};aq.getData=function(){return Q};aq.getAxes=function(){var aC={},aB;c.each(p.concat(aw),function(aD,aE){if(aE){aC[aE.direction+(aE.n!=1?aE.n:"")+"axis"]=aE}});return aC};aq.getXAxes=function(){return p};aq.getYAxes=function(){return aw};aq.c2p=C;aq.p2c=ar;aq.getOptions=function(){return O};aq.highlight=x;aq.unhighlight=T;aq.triggerRedrawOverlay=f;aq.pointOffset=function(aB){return{left:parseInt(p[aA(aB,"x")-1].p2c(+aB.x)+q.left),top:parseInt(aw[aA(aB,"y")-1].p2c(+aB.y)+q.top)}};aq.shutdown=ag;aq.resize=function(){B();g(az);g(ad)};aq.hooks=ak;F(aq);Z(J);X();aj(ai);t();W();ah();function an(aD,aB){aB=[aq].concat(aB);for(var aC=0;aC<aD.length;++aC){aD[aC].apply(this,aB)}}function F(){for(var aB=0;aB<af.length;++aB){var aC=af[aB];aC.init(aq);if(aC.options){c.extend(true,O,aC.options)}}}function Z(aC){var aB;c.extend(true,O,aC);if(O.xaxis.color==null){O.xaxis.color=O.grid.color}if(O.yaxis.color==null){O.yaxis.color=O.grid.color}if(O.xaxis.tickColor==null){O.xaxis.tickColor=O.grid.tickColor}if(O.yaxis.tickColor==null){O.yaxis.tickColor=O.grid.tickColor}if(O.grid.borderColor==null){O.grid.borderColor=O.grid.color}if(O.grid.tickColor==null){O.grid.tickColor=c.color.parse(O.grid.color).scale("a",0.22).toString()}for(aB=0;aB<Math.max(1,O.xaxes.length);++aB){O.xaxes[aB]=c.extend(true,{},O.xaxis,O.xaxes[aB])}for(aB=0;aB<Math.max(1,O.yaxes.length);++aB){O.yaxes[aB]=c.extend(true,{},O.yaxis,O.yaxes[aB])}if(O.xaxis.noTicks&&O.xaxis.ticks==null){O.xaxis.ticks=O.xaxis.noTicks}if(O.yaxis.noTicks&&O.yaxis.ticks==null){O.yaxis.ticks=O.yaxis.noTicks}if(O.x2axis){O.xaxes[1]=c.extend(true,{},O.xaxis,O.x2axis);O.xaxes[1].position="top"}if(O.y2axis){O.yaxes[1]=c.extend(true,{},O.yaxis,O.y2axis);O.yaxes[1].position="right"}if(O.grid.coloredAreas){O.grid.markings=O.grid.coloredAreas}if(O.grid.coloredAreasColor){O.grid.markingsColor=O.grid.coloredAreasColor}if(O.lines){c.extend(true,O.series.lines,O.lines)}if(O.points){c.extend(true,O.series.points,O.points)}if(O.bars){c.extend(true,O.series.bars,O.bars)}if(O.shadowSize!=null){O.series.shadowSize=O.shadowSize}for(aB=0;aB<O.xaxes.length;++aB){V(p,aB+1).options=O.xaxes[aB]}for(aB=0;aB<O.yaxes.length;++aB){V(aw,aB+1).options=O.yaxes[aB]}for(var aD in ak){if(O.hooks[aD]&&O.hooks[aD].length){ak[aD]=ak[aD].concat(O.hooks[aD])}}an(ak.processOptions,[O])}function aj(aB){Q=Y(aB);ax();z()}function Y(aE){var aC=[];for(var aB=0;aB<aE.length;++aB){var aD=c.extend(true,{},O.series);if(aE[aB].data!=null){aD.data=aE[aB].data;delete aE[aB].data;c.extend(true,aD,aE[aB]);aE[aB].data=aD.data}else{aD.data=aE[aB]}aC.push(aD)}return aC}function aA(aC,aD){var aB=aC[aD+"axis"];if(typeof aB=="object"){aB=aB.n}if(typeof aB!="number"){aB=1}return aB}function m(){return c.grep(p.concat(aw),function(aB){return aB})}function C(aE){var aC={},aB,aD;for(aB=0;aB<p.length;++aB){aD=p[aB];if(aD&&aD.used){aC["x"+aD.n]=aD.c2p(aE.left)}}for(aB=0;aB<aw.length;++aB){aD=aw[aB];if(aD&&aD.used){aC["y"+aD.n]=aD.c2p(aE.top)}}if(aC.x1!==undefined){aC.x=aC.x1}if(aC.y1!==undefined){aC.y=aC.y1}return aC}function ar(aF){var aD={},aC,aE,aB;for(aC=0;aC<p.length;++aC){aE=p[aC];if(aE&&aE.used){aB="x"+aE.n;if(aF[aB]==null&&aE.n==1){aB="x"}if(aF[aB]!=null){aD.left=aE.p2c(aF[aB]);break}}}for(aC=0;aC<aw.length;++aC){aE=aw[aC];if(aE&&aE.used){aB="y"+aE.n;if(aF[aB]==null&&aE.n==1){aB="y"}if(aF[aB]!=null){aD.top=aE.p2c(aF[aB]);break}}}return aD}function V(aC,aB){if(!aC[aB-1]){aC[aB-1]={n:aB,direction:aC==p?"x":"y",options:c.extend(true,{},aC==p?O.xaxis:O.yaxis)}}return aC[aB-1]}function ax(){var aG;var aM=Q.length,aB=[],aE=[];for(aG=0;aG<Q.length;++aG){var aJ=Q[aG].color;if(aJ!=null){--aM;if(typeof aJ=="number"){aE.push(aJ)}else{aB.push(c.color.parse(Q[aG].color))}}}for(aG=0;aG<aE.length;++aG){aM=Math.max(aM,aE[aG]+1)}var aC=[],aF=0;aG=0;while(aC.length<aM){var aI;if(O.colors.length==aG){aI=c.color.make(100,100,100)}else{aI=c.color.parse(O.colors[aG])}var aD=aF%2==1?-1:1;aI.scale("rgb",1+aD*Math.ceil(aF/2)*0.2);aC.push(aI);++aG;if(aG>=O.colors.length){aG=0;++aF}}var aH=0,aN;for(aG=0;aG<Q.length;++aG){aN=Q[aG];if(aN.color==null){aN.color=aC[aH].toString();++aH}else{if(typeof aN.color=="number"){aN.color=aC[aN.color].toString()}}if(aN.lines.show==null){var aL,aK=true;for(aL in aN){if(aN[aL]&&aN[aL].show){aK=false;break}}if(aK){aN.lines.show=true}}aN.xaxis=V(p,aA(aN,"x"));aN.yaxis=V(aw,aA(aN,"y"))}}function z(){var aO=Number.POSITIVE_INFINITY,aI=Number.NEGATIVE_INFINITY,aB=Number.MAX_VALUE,aV,aT,aS,aN,aD,aJ,aU,aP,aH,aG,aC,a2,aZ,aL;function aF(a5,a4,a3){if(a4<a5.datamin&&a4!=-aB){a5.datamin=a4}if(a3>a5.datamax&&a3!=aB){a5.datamax=a3}}c.each(m(),function(a3,a4){a4.datamin=aO;a4.datamax=aI;a4.used=false});for(aV=0;aV<Q.length;++aV){aJ=Q[aV];aJ.datapoints={points:[]};an(ak.processRawData,[aJ,aJ.data,aJ.datapoints])}for(aV=0;aV<Q.length;++aV){aJ=Q[aV];var a1=aJ.data,aX=aJ.datapoints.format;if(!aX){aX=[];aX.push({x:true,number:true,required:true});aX.push({y:true,number:true,required:true});if(aJ.bars.show||(aJ.lines.show&&aJ.lines.fill)){aX.push({y:true,number:true,required:false,defaultValue:0});if(aJ.bars.horizontal){delete aX[aX.length-1].y;aX[aX.length-1].x=true}}aJ.datapoints.format=aX}if(aJ.datapoints.pointsize!=null){continue}aJ.datapoints.pointsize=aX.length;aP=aJ.datapoints.pointsize;aU=aJ.datapoints.points;insertSteps=aJ.lines.show&&aJ.lines.steps;aJ.xaxis.used=aJ.yaxis.used=true;for(aT=aS=0;aT<a1.length;++aT,aS+=aP){aL=a1[aT];var aE=aL==null;if(!aE){for(aN=0;aN<aP;++aN){a2=aL[aN];aZ=aX[aN];if(aZ){if(aZ.number&&a2!=null){a2=+a2;if(isNaN(a2)){a2=null}else{if(a2==Infinity){a2=aB}else{if(a2==-Infinity){a2=-aB}}}}if(a2==null){if(aZ.required){aE=true}if(aZ.defaultValue!=null){a2=aZ.defaultValue}}}aU[aS+aN]=a2}}if(aE){for(aN=0;aN<aP;++aN){a2=aU[aS+aN];if(a2!=null){aZ=aX[aN];if(aZ.x){aF(aJ.xaxis,a2,a2)}if(aZ.y){aF(aJ.yaxis,a2,a2)}}aU[aS+aN]=null}}else{if(insertSteps&&aS>0&&aU[aS-aP]!=null&&aU[aS-aP]!=aU[aS]&&aU[aS-aP+1]!=aU[aS+1]){for(aN=0;aN<aP;++aN){aU[aS+aP+aN]=aU[aS+aN]}aU[aS+1]=aU[aS-aP+1];aS+=aP}}}}var aR=0;for(aV=0;aV<Q.length;++aV){aJ=Q[aV];an(ak.processDatapoints,[aJ,aJ.datapoints]);aR+=aJ.bars.barWidth}var aY=0;for(aV=0;aV<Q.length;++aV){aJ=Q[aV];aU=aJ.datapoints.points,aP=aJ.datapoints.pointsize;var aK=aO,aQ=aO,aM=aI,aW=aI;for(aT=0;aT<aU.length;aT+=aP){if(aU[aT]==null){continue}for(aN=0;aN<aP;++aN){a2=aU[aT+aN];aZ=aX[aN];if(!aZ||a2==aB||a2==-aB){continue}if(aZ.x){if(a2<aK){aK=a2}if(a2>aM){aM=a2}}if(aZ.y){if(a2<aQ){aQ=a2}if(a2>aW){aW=a2}}}}if(aJ.bars.show){if(aJ.multipleBars){if(aJ.bars.barLeft==undefined){aJ.bars.barLeft=aJ.bars.align=="left"?aY:aY-aR/2}aY+=aJ.bars.barWidth;var a0=aJ.bars.barLeft}else{var a0=aJ.bars.align=="left"?0:-aJ.bars.barWidth/2}if(aJ.bars.horizontal){aQ+=a0;aW+=a0+aJ.bars.barWidth}else{aK+=a0;aM+=a0+aJ.bars.barWidth}}aF(aJ.xaxis,aK,aM);aF(aJ.yaxis,aQ,aW)}c.each(m(),function(a3,a4){if(a4.datamin==aO){a4.datamin=null}if(a4.datamax==aI){a4.datamax=null}})}function j(aB,aC){var aD=document.createElement("canvas");aD.className=aC;aD.width=G;aD.height=I;if(!aB){c(aD).css({position:"absolute",left:0,top:0})}c(aD).appendTo(av);if(!aD.getContext){aD=window.G_vmlCanvasManager.initElement(aD)}aD.getContext("2d").save();return aD}function B(){G=av.width();I=av.height();if(G<=0||I<=0){throw"Invalid dimensions for plot, width = "+G+", height = "+I}}function g(aC){if(aC.width!=G){aC.width=G}if(aC.height!=I){aC.height=I}var aB=aC.getContext("2d");aB.restore();aB.save()}function X(){var aC,aB=av.children("canvas.base"),aD=av.children("canvas.overlay");if(aB.length==0||aD==0){av.html("");av.css({padding:0});if(av.css("position")=="static"){av.css("position","relative")}B();az=j(true,"base");ad=j(false,"overlay");aC=false}else{az=aB.get(0);ad=aD.get(0);aC=true}H=az.getContext("2d");A=ad.getContext("2d");y=c([ad,az]);if(aC){av.data("plot").shutdown();aq.resize();A.clearRect(0,0,G,I);y.unbind();av.children().not([az,ad]).remove()}av.data("plot",aq)}function ah(){if(O.grid.hoverable){y.mousemove(aa);y.mouseleave(l)}if(O.grid.clickable){y.click(R)}an(ak.bindEvents,[y])}function ag(){if(M){clearTimeout(M)}y.unbind("mousemove",aa);y.unbind("mouseleave",l);y.unbind("click",R);an(ak.shutdown,[y])}function r(aG){function aC(aH){return aH}var aF,aB,aD=aG.options.transform||aC,aE=aG.options.inverseTransform;if(aG.direction=="x"){aF=aG.scale=h/Math.abs(aD(aG.max)-aD(aG.min));aB=Math.min(aD(aG.max),aD(aG.min))}else{aF=aG.scale=w/Math.abs(aD(aG.max)-aD(aG.min));aF=-aF;aB=Math.max(aD(aG.max),aD(aG.min))}if(aD==aC){aG.p2c=function(aH){return(aH-aB)*aF}}else{aG.p2c=function(aH){return(aD(aH)-aB)*aF}}if(!aE){aG.c2p=function(aH){return aB+aH/aF}}else{aG.c2p=function(aH){return aE(aB+aH/aF)}}}function L(aD){var aB=aD.options,aF,aJ=aD.ticks||[],aI=[],aE,aK=aB.labelWidth,aG=aB.labelHeight,aC;function aH(aM,aL){return c('<div style="position:absolute;top:-10000px;'+aL+'font-size:smaller"><div class="'+aD.direction+"Axis "+aD.direction+aD.n+'Axis">'+aM.join("")+"</div></div>").appendTo(av)}if(aD.direction=="x"){if(aK==null){aK=Math.floor(G/(aJ.length>0?aJ.length:1))}if(aG==null){aI=[];for(aF=0;aF<aJ.length;++aF){aE=aJ[aF].label;if(aE){aI.push('<div class="tickLabel" style="float:left;width:'+aK+'px">'+aE+"</div>")}}if(aI.length>0){aI.push('<div style="clear:left"></div>');aC=aH(aI,"width:10000px;");aG=aC.height();aC.remove()}}}else{if(aK==null||aG==null){for(aF=0;aF<aJ.length;++aF){aE=aJ[aF].label;if(aE){aI.push('<div class="tickLabel">'+aE+"</div>")}}if(aI.length>0){aC=aH(aI,"");if(aK==null){aK=aC.children().width()}if(aG==null){aG=aC.find("div.tickLabel").height()}aC.remove()}}}if(aK==null){aK=0}if(aG==null){aG=0}aD.labelWidth=aK;aD.labelHeight=aG}function au(aD){var aC=aD.labelWidth,aL=aD.labelHeight,aH=aD.options.position,aF=aD.options.tickLength,aG=O.grid.axisMargin,aJ=O.grid.labelMargin,aK=aD.direction=="x"?p:aw,aE;var aB=c.grep(aK,function(aN){return aN&&aN.options.position==aH&&aN.reserveSpace});if(c.inArray(aD,aB)==aB.length-1){aG=0}if(aF==null){aF="full"}var aI=c.grep(aK,function(aN){return aN&&aN.reserveSpace});var aM=c.inArray(aD,aI)==0;if(!aM&&aF=="full"){aF=5}if(!isNaN(+aF)){aJ+=+aF}if(aD.direction=="x"){aL+=aJ;if(aH=="bottom"){q.bottom+=aL+aG;aD.box={top:I-q.bottom,height:aL}}else{aD.box={top:q.top+aG,height:aL};q.top+=aL+aG}}else{aC+=aJ;if(aH=="left"){aD.box={left:q.left+aG,width:aC};q.left+=aC+aG}else{q.right+=aC+aG;aD.box={left:G-q.right,width:aC}}}aD.position=aH;aD.tickLength=aF;aD.box.padding=aJ;aD.innermost=aM}function U(aB){if(aB.direction=="x"){aB.box.left=q.left;aB.box.width=h}else{aB.box.top=q.top;aB.box.height=w}}function t(){var aC,aE=m();c.each(aE,function(aF,aG){aG.show=aG.options.show;if(aG.show==null){aG.show=aG.used}aG.reserveSpace=aG.show||aG.options.reserveSpace;n(aG)});allocatedAxes=c.grep(aE,function(aF){return aF.reserveSpace});q.left=q.right=q.top=q.bottom=0;if(O.grid.show){c.each(allocatedAxes,function(aF,aG){S(aG);P(aG);ap(aG,aG.ticks);L(aG)});for(aC=allocatedAxes.length-1;aC>=0;--aC){au(allocatedAxes[aC])}var aD=O.grid.minBorderMargin;if(aD==null){aD=0;for(aC=0;aC<Q.length;++aC){aD=Math.max(aD,Q[aC].points.radius+Q[aC].points.lineWidth/2)}}for(var aB in q){q[aB]+=O.grid.borderWidth;q[aB]=Math.max(aD,q[aB])}}h=G-q.left-q.right;w=I-q.bottom-q.top;c.each(aE,function(aF,aG){r(aG)});if(O.grid.show){c.each(allocatedAxes,function(aF,aG){U(aG)});k()}o()}function n(aE){var aF=aE.options,aD=+(aF.min!=null?aF.min:aE.datamin),aB=+(aF.max!=null?aF.max:aE.datamax),aH=aB-aD;if(aH==0){var aC=aB==0?1:0.01;if(aF.min==null){aD-=aC}if(aF.max==null||aF.min!=null){aB+=aC}}else{var aG=aF.autoscaleMargin;if(aG!=null){if(aF.min==null){aD-=aH*aG;if(aD<0&&aE.datamin!=null&&aE.datamin>=0){aD=0}}if(aF.max==null){aB+=aH*aG;if(aB>0&&aE.datamax!=null&&aE.datamax<=0){aB=0}}}}aE.min=aD;aE.max=aB}function S(aG){var aM=aG.options;var aH;if(typeof aM.ticks=="number"&&aM.ticks>0){aH=aM.ticks}else{aH=0.3*Math.sqrt(aG.direction=="x"?G:I)}var aT=(aG.max-aG.min)/aH,aO,aB,aN,aR,aS,aQ,aI;if(aM.mode=="time"){var aJ={second:1000,minute:60*1000,hour:60*60*1000,day:24*60*60*1000,month:30*24*60*60*1000,year:365.2425*24*60*60*1000};var aK=[[1,"second"],[2,"second"],[5,"second"],[10,"second"],[30,"second"],[1,"minute"],[2,"minute"],[5,"minute"],[10,"minute"],[30,"minute"],[1,"hour"],[2,"hour"],[4,"hour"],[8,"hour"],[12,"hour"],[1,"day"],[2,"day"],[3,"day"],[0.25,"month"],[0.5,"month"],[1,"month"],[2,"month"],[3,"month"],[6,"month"],[1,"year"]];var aC=0;if(aM.minTickSize!=null){if(typeof aM.tickSize=="number"){aC=aM.tickSize}else{aC=aM.minTickSize[0]*aJ[aM.minTickSize[1]]}}for(var aS=0;aS<aK.length-1;++aS){if(aT<(aK[aS][0]*aJ[aK[aS][1]]+aK[aS+1][0]*aJ[aK[aS+1][1]])/2&&aK[aS][0]*aJ[aK[aS][1]]>=aC){break}}aO=aK[aS][0];aN=aK[aS][1];if(aN=="year"){aQ=Math.pow(10,Math.floor(Math.log(aT/aJ.year)/Math.LN10));aI=(aT/aJ.year)/aQ;if(aI<1.5){aO=1}else{if(aI<3){aO=2}else{if(aI<7.5){aO=5}else{aO=10}}}aO*=aQ}aG.tickSize=aM.tickSize||[aO,aN];aB=function(aX){var a2=[],a0=aX.tickSize[0],a3=aX.tickSize[1],a1=new Date(aX.min);var aW=a0*aJ[a3];if(a3=="second"){a1.setUTCSeconds(a(a1.getUTCSeconds(),a0))}if(a3=="minute"){a1.setUTCMinutes(a(a1.getUTCMinutes(),a0))}if(a3=="hour"){a1.setUTCHours(a(a1.getUTCHours(),a0))}if(a3=="month"){a1.setUTCMonth(a(a1.getUTCMonth(),a0))}if(a3=="year"){a1.setUTCFullYear(a(a1.getUTCFullYear(),a0))}a1.setUTCMilliseconds(0);if(aW>=aJ.minute){a1.setUTCSeconds(0)}if(aW>=aJ.hour){a1.setUTCMinutes(0)}if(aW>=aJ.day){a1.setUTCHours(0)}if(aW>=aJ.day*4){a1.setUTCDate(1)}if(aW>=aJ.year){a1.setUTCMonth(0)}var a5=0,a4=Number.NaN,aY;do{aY=a4;a4=a1.getTime();a2.push(a4);if(a3=="month"){if(a0<1){a1.setUTCDate(1);var aV=a1.getTime();a1.setUTCMonth(a1.getUTCMonth()+1);var aZ=a1.getTime();a1.setTime(a4+a5*aJ.hour+(aZ-aV)*a0);a5=a1.getUTCHours();a1.setUTCHours(0)}else{a1.setUTCMonth(a1.getUTCMonth()+a0)}}else{if(a3=="year"){a1.setUTCFullYear(a1.getUTCFullYear()+a0)}else{a1.setTime(a4+aW)}}}while(a4<aX.max&&a4!=aY);return a2};aR=function(aV,aY){var a0=new Date(aV);if(aM.timeformat!=null){return c.plot.formatDate(a0,aM.timeformat,aM.monthNames)}var aW=aY.tickSize[0]*aJ[aY.tickSize[1]];var aX=aY.max-aY.min;var aZ=(aM.twelveHourClock)?" %p":"";if(aW<aJ.minute){fmt="%h:%M:%S"+aZ}else{if(aW<aJ.day){if(aX<2*aJ.day){fmt="%h:%M"+aZ}else{fmt="%b %d %h:%M"+aZ}}else{if(aW<aJ.month){fmt="%b %d"}else{if(aW<aJ.year){if(aX<aJ.year){fmt="%b"}else{fmt="%b %y"}}else{fmt="%y"}}}}return c.plot.formatDate(a0,fmt,aM.monthNames)}}else{var aU=aM.tickDecimals;var aP=-Math.floor(Math.log(aT)/Math.LN10);if(aU!=null&&aP>aU){aP=aU}aQ=Math.pow(10,-aP);aI=aT/aQ;if(aI<1.5){aO=1}else{if(aI<3){aO=2;if(aI>2.25&&(aU==null||aP+1<=aU)){aO=2.5;++aP}}else{if(aI<7.5){aO=5}else{aO=10}}}aO*=aQ;if(aM.minTickSize!=null&&aO<aM.minTickSize){aO=aM.minTickSize}aG.tickDecimals=Math.max(0,aU!=null?aU:aP);aG.tickSize=aM.tickSize||aO;aB=function(aX){var aZ=[];var a0=a(aX.min,aX.tickSize),aW=0,aV=Number.NaN,aY;do{aY=aV;aV=a0+aW*aX.tickSize;aZ.push(aV);++aW}while(aV<aX.max&&aV!=aY);return aZ};aR=function(aV,aW){return aV.toFixed(aW.tickDecimals)}}if(aM.alignTicksWithAxis!=null){var aF=(aG.direction=="x"?p:aw)[aM.alignTicksWithAxis-1];if(aF&&aF.used&&aF!=aG){var aL=aB(aG);if(aL.length>0){if(aM.min==null){aG.min=Math.min(aG.min,aL[0])}if(aM.max==null&&aL.length>1){aG.max=Math.max(aG.max,aL[aL.length-1])}}aB=function(aX){var aY=[],aV,aW;for(aW=0;aW<aF.ticks.length;++aW){aV=(aF.ticks[aW].v-aF.min)/(aF.max-aF.min);aV=aX.min+aV*(aX.max-aX.min);aY.push(aV)}return aY};if(aG.mode!="time"&&aM.tickDecimals==null){var aE=Math.max(0,-Math.floor(Math.log(aT)/Math.LN10)+1),aD=aB(aG);if(!(aD.length>1&&/\..*0$/.test((aD[1]-aD[0]).toFixed(aE)))){aG.tickDecimals=aE}}}}aG.tickGenerator=aB;if(c.isFunction(aM.tickFormatter)){aG.tickFormatter=function(aV,aW){return""+aM.tickFormatter(aV,aW)}}else{aG.tickFormatter=aR}}function P(aF){var aH=aF.options.ticks,aG=[];if(aH==null||(typeof aH=="number"&&aH>0)){aG=aF.tickGenerator(aF)}else{if(aH){if(c.isFunction(aH)){aG=aH({min:aF.min,max:aF.max})}else{aG=aH}}}var aE,aB;aF.ticks=[];for(aE=0;aE<aG.length;++aE){var aC=null;var aD=aG[aE];if(typeof aD=="object"){aB=+aD[0];if(aD.length>1){aC=aD[1]}}else{aB=+aD}if(aC==null){aC=aF.tickFormatter(aB,aF)}if(!isNaN(aB)){aF.ticks.push({v:aB,label:aC})}}}function ap(aB,aC){if(aB.options.autoscaleMargin&&aC.length>0){if(aB.options.min==null){aB.min=Math.min(aB.min,aC[0].v)}if(aB.options.max==null&&aC.length>1){aB.max=Math.max(aB.max,aC[aC.length-1].v)}}}function W(){H.clearRect(0,0,G,I);var aC=O.grid;if(aC.show&&aC.backgroundColor){N()}if(aC.show&&!aC.aboveData){ac()}for(var aB=0;aB<Q.length;++aB){an(ak.drawSeries,[H,Q[aB]]);d(Q[aB])}an(ak.draw,[H]);if(aC.show&&aC.aboveData){ac()}}function D(aB,aI){var aE,aH,aG,aD,aF=m();for(i=0;i<aF.length;++i){aE=aF[i];if(aE.direction==aI){aD=aI+aE.n+"axis";if(!aB[aD]&&aE.n==1){aD=aI+"axis"}if(aB[aD]){aH=aB[aD].from;aG=aB[aD].to;break}}}if(!aB[aD]){aE=aI=="x"?p[0]:aw[0];aH=aB[aI+"1"];aG=aB[aI+"2"]}if(aH!=null&&aG!=null&&aH>aG){var aC=aH;aH=aG;aG=aC}return{from:aH,to:aG,axis:aE}}function N(){H.save();H.translate(q.left,q.top);H.fillStyle=am(O.grid.backgroundColor,w,0,"rgba(255, 255, 255, 0)");H.fillRect(0,0,h,w);H.restore()}function ac(){var aF;H.save();H.translate(q.left,q.top);var aH=O.grid.markings;if(aH){if(c.isFunction(aH)){var aK=aq.getAxes();aK.xmin=aK.xaxis.min;aK.xmax=aK.xaxis.max;aK.ymin=aK.yaxis.min;aK.ymax=aK.yaxis.max;aH=aH(aK)}for(aF=0;aF<aH.length;++aF){var aD=aH[aF],aC=D(aD,"x"),aI=D(aD,"y");if(aC.from==null){aC.from=aC.axis.min}if(aC.to==null){aC.to=aC.axis.max}if(aI.from==null){aI.from=aI.axis.min}if(aI.to==null){aI.to=aI.axis.max}if(aC.to<aC.axis.min||aC.from>aC.axis.max||aI.to<aI.axis.min||aI.from>aI.axis.max){continue}aC.from=Math.max(aC.from,aC.axis.min);aC.to=Math.min(aC.to,aC.axis.max);aI.from=Math.max(aI.from,aI.axis.min);aI.to=Math.min(aI.to,aI.axis.max);if(aC.from==aC.to&&aI.from==aI.to){continue}aC.from=aC.axis.p2c(aC.from);aC.to=aC.axis.p2c(aC.to);aI.from=aI.axis.p2c(aI.from);aI.to=aI.axis.p2c(aI.to);if(aC.from==aC.to||aI.from==aI.to){H.beginPath();H.strokeStyle=aD.color||O.grid.markingsColor;H.lineWidth=aD.lineWidth||O.grid.markingsLineWidth;H.moveTo(aC.from,aI.from);H.lineTo(aC.to,aI.to);H.stroke()}else{H.fillStyle=aD.color||O.grid.markingsColor;H.fillRect(aC.from,aI.to,aC.to-aC.from,aI.from-aI.to)}}}var aK=m(),aM=O.grid.borderWidth;for(var aE=0;aE<aK.length;++aE){var aB=aK[aE],aG=aB.box,aQ=aB.tickLength,aN,aL,aP,aJ;if(!aB.show||aB.ticks.length==0){continue}H.strokeStyle=aB.options.tickColor||c.color.parse(aB.options.color).scale("a",0.22).toString();H.lineWidth=1;if(aB.direction=="x"){aN=0;if(aQ=="full"){aL=(aB.position=="top"?0:w)}else{aL=aG.top-q.top+(aB.position=="top"?aG.height:0)}}else{aL=0;if(aQ=="full"){aN=(aB.position=="left"?0:h)}else{aN=aG.left-q.left+(aB.position=="left"?aG.width:0)}}if(!aB.innermost){H.beginPath();aP=aJ=0;if(aB.direction=="x"){aP=h}else{aJ=w}if(H.lineWidth==1){aN=Math.floor(aN)+0.5;aL=Math.floor(aL)+0.5}H.moveTo(aN,aL);H.lineTo(aN+aP,aL+aJ);H.stroke()}H.beginPath();for(aF=0;aF<aB.ticks.length;++aF){var aO=aB.ticks[aF].v;aP=aJ=0;if(aO<aB.min||aO>aB.max||(aQ=="full"&&aM>0&&(aO==aB.min||aO==aB.max))){continue}if(aB.direction=="x"){aN=aB.p2c(aO);aJ=aQ=="full"?-w:aQ;if(aB.position=="top"){aJ=-aJ}}else{aL=aB.p2c(aO);aP=aQ=="full"?-h:aQ;if(aB.position=="left"){aP=-aP}}if(H.lineWidth==1){if(aB.direction=="x"){aN=Math.floor(aN)+0.5}else{aL=Math.floor(aL)+0.5}}H.moveTo(aN,aL);H.lineTo(aN+aP,aL+aJ)}H.stroke()}if(aM){H.lineWidth=aM;H.strokeStyle=O.grid.borderColor;H.strokeRect(-aM/2,-aM/2,h+aM,w+aM)}H.restore()}function k(){av.find(".tickLabels").remove();var aG=['<div class="tickLabels" style="font-size:smaller">'];var aJ=m();for(var aD=0;aD<aJ.length;++aD){var aC=aJ[aD],aF=aC.box;if(!aC.show){continue}aG.push('<div class="'+aC.direction+"Axis "+aC.direction+aC.n+'Axis" style="color:'+aC.options.color+'">');for(var aE=0;aE<aC.ticks.length;++aE){var aH=aC.ticks[aE];if(!aH.label||aH.v<aC.min||aH.v>aC.max){continue}var aK={},aI;if(aC.direction=="x"){aI="center";aK.left=Math.round(q.left+aC.p2c(aH.v)-aC.labelWidth/2);if(aC.position=="bottom"){aK.top=aF.top+aF.padding}else{aK.bottom=I-(aF.top+aF.height-aF.padding)}}else{aK.top=Math.round(q.top+aC.p2c(aH.v)-aC.labelHeight/2);if(aC.position=="left"){aK.right=G-(aF.left+aF.width-aF.padding);aI="right"}else{aK.left=aF.left+aF.padding;aI="left"}}aK.width=aC.labelWidth;var aB=["position:absolute","text-align:"+aI];for(var aL in aK){aB.push(aL+":"+aK[aL]+"px")}aG.push('<div class="tickLabel" style="'+aB.join(";")+'">'+aH.label+"</div>")}aG.push("</div>")}aG.push("</div>");av.append(aG.join(""))}function d(aB){if(aB.lines.show){at(aB)}if(aB.bars.show){e(aB)}if(aB.points.show){ao(aB)}}function at(aE){function aD(aP,aQ,aI,aU,aT){var aV=aP.points,aJ=aP.pointsize,aN=null,aM=null;H.beginPath();for(var aO=aJ;aO<aV.length;aO+=aJ){var aL=aV[aO-aJ],aS=aV[aO-aJ+1],aK=aV[aO],aR=aV[aO+1];if(aL==null||aK==null){continue}if(aS<=aR&&aS<aT.min){if(aR<aT.min){continue}aL=(aT.min-aS)/(aR-aS)*(aK-aL)+aL;aS=aT.min}else{if(aR<=aS&&aR<aT.min){if(aS<aT.min){continue}aK=(aT.min-aS)/(aR-aS)*(aK-aL)+aL;aR=aT.min}}if(aS>=aR&&aS>aT.max){if(aR>aT.max){continue}aL=(aT.max-aS)/(aR-aS)*(aK-aL)+aL;aS=aT.max}else{if(aR>=aS&&aR>aT.max){if(aS>aT.max){continue}aK=(aT.max-aS)/(aR-aS)*(aK-aL)+aL;aR=aT.max}}if(aL<=aK&&aL<aU.min){if(aK<aU.min){continue}aS=(aU.min-aL)/(aK-aL)*(aR-aS)+aS;aL=aU.min}else{if(aK<=aL&&aK<aU.min){if(aL<aU.min){continue}aR=(aU.min-aL)/(aK-aL)*(aR-aS)+aS;aK=aU.min}}if(aL>=aK&&aL>aU.max){if(aK>aU.max){continue}aS=(aU.max-aL)/(aK-aL)*(aR-aS)+aS;aL=aU.max}else{if(aK>=aL&&aK>aU.max){if(aL>aU.max){continue}aR=(aU.max-aL)/(aK-aL)*(aR-aS)+aS;aK=aU.max}}if(aL!=aN||aS!=aM){H.moveTo(aU.p2c(aL)+aQ,aT.p2c(aS)+aI)}aN=aK;aM=aR;H.lineTo(aU.p2c(aK)+aQ,aT.p2c(aR)+aI)}H.stroke()}function aF(aI,aQ,aP){var aW=aI.points,aV=aI.pointsize,aN=Math.min(Math.max(0,aP.min),aP.max),aX=0,aU,aT=false,aM=1,aL=0,aR=0;while(true){if(aV>0&&aX>aW.length+aV){break}aX+=aV;var aZ=aW[aX-aV],aK=aW[aX-aV+aM],aY=aW[aX],aJ=aW[aX+aM];if(aT){if(aV>0&&aZ!=null&&aY==null){aR=aX;aV=-aV;aM=2;continue}if(aV<0&&aX==aL+aV){H.fill();aT=false;aV=-aV;aM=1;aX=aL=aR+aV;continue}}if(aZ==null||aY==null){continue}if(aZ<=aY&&aZ<aQ.min){if(aY<aQ.min){continue}aK=(aQ.min-aZ)/(aY-aZ)*(aJ-aK)+aK;aZ=aQ.min}else{if(aY<=aZ&&aY<aQ.min){if(aZ<aQ.min){continue}aJ=(aQ.min-aZ)/(aY-aZ)*(aJ-aK)+aK;aY=aQ.min}}if(aZ>=aY&&aZ>aQ.max){if(aY>aQ.max){continue}aK=(aQ.max-aZ)/(aY-aZ)*(aJ-aK)+aK;aZ=aQ.max}else{if(aY>=aZ&&aY>aQ.max){if(aZ>aQ.max){continue}aJ=(aQ.max-aZ)/(aY-aZ)*(aJ-aK)+aK;aY=aQ.max}}if(!aT){H.beginPath();H.moveTo(aQ.p2c(aZ),aP.p2c(aN));aT=true}if(aK>=aP.max&&aJ>=aP.max){H.lineTo(aQ.p2c(aZ),aP.p2c(aP.max));H.lineTo(aQ.p2c(aY),aP.p2c(aP.max));continue}else{if(aK<=aP.min&&aJ<=aP.min){H.lineTo(aQ.p2c(aZ),aP.p2c(aP.min));H.lineTo(aQ.p2c(aY),aP.p2c(aP.min));continue}}var aO=aZ,aS=aY;if(aK<=aJ&&aK<aP.min&&aJ>=aP.min){aZ=(aP.min-aK)/(aJ-aK)*(aY-aZ)+aZ;aK=aP.min}else{if(aJ<=aK&&aJ<aP.min&&aK>=aP.min){aY=(aP.min-aK)/(aJ-aK)*(aY-aZ)+aZ;aJ=aP.min}}if(aK>=aJ&&aK>aP.max&&aJ<=aP.max){aZ=(aP.max-aK)/(aJ-aK)*(aY-aZ)+aZ;aK=aP.max}else{if(aJ>=aK&&aJ>aP.max&&aK<=aP.max){aY=(aP.max-aK)/(aJ-aK)*(aY-aZ)+aZ;aJ=aP.max}}if(aZ!=aO){H.lineTo(aQ.p2c(aO),aP.p2c(aK))}H.lineTo(aQ.p2c(aZ),aP.p2c(aK));H.lineTo(aQ.p2c(aY),aP.p2c(aJ));if(aY!=aS){H.lineTo(aQ.p2c(aY),aP.p2c(aJ));H.lineTo(aQ.p2c(aS),aP.p2c(aJ))}}}H.save();H.translate(q.left,q.top);H.lineJoin="round";var aG=aE.lines.lineWidth,aB=aE.shadowSize;if(aG>0&&aB>0){H.lineWidth=aB;H.strokeStyle="rgba(0,0,0,0.1)";var aH=Math.PI/18;aD(aE.datapoints,Math.sin(aH)*(aG/2+aB/2),Math.cos(aH)*(aG/2+aB/2),aE.xaxis,aE.yaxis);H.lineWidth=aB/2;aD(aE.datapoints,Math.sin(aH)*(aG/2+aB/4),Math.cos(aH)*(aG/2+aB/4),aE.xaxis,aE.yaxis)}H.lineWidth=aG;H.strokeStyle=aE.color;var aC=ae(aE.lines,aE.color,0,w);if(aC){H.fillStyle=aC;aF(aE.datapoints,aE.xaxis,aE.yaxis)}if(aG>0){aD(aE.datapoints,0,0,aE.xaxis,aE.yaxis)}H.restore()}function ao(aE){function aH(aN,aM,aU,aK,aS,aT,aQ,aJ){var aR=aN.points,aI=aN.pointsize;for(var aL=0;aL<aR.length;aL+=aI){var aP=aR[aL],aO=aR[aL+1];if(aP==null||aP<aT.min||aP>aT.max||aO<aQ.min||aO>aQ.max){continue}H.beginPath();aP=aT.p2c(aP);aO=aQ.p2c(aO)+aK;if(aJ=="circle"){H.arc(aP,aO,aM,0,aS?Math.PI:Math.PI*2,false)}else{aJ(H,aP,aO,aM,aS)}H.closePath();if(aU){H.fillStyle=aU;H.fill()}H.stroke()}}H.save();H.translate(q.left,q.top);var aG=aE.points.lineWidth,aC=aE.shadowSize,aB=aE.points.radius,aF=aE.points.symbol;if(aG>0&&aC>0){var aD=aC/2;H.lineWidth=aD;H.strokeStyle="rgba(0,0,0,0.1)";aH(aE.datapoints,aB,null,aD+aD/2,true,aE.xaxis,aE.yaxis,aF);H.strokeStyle="rgba(0,0,0,0.2)";aH(aE.datapoints,aB,null,aD/2,true,aE.xaxis,aE.yaxis,aF)}H.lineWidth=aG;H.strokeStyle=aE.color;aH(aE.datapoints,aB,ae(aE.points,aE.color),0,false,aE.xaxis,aE.yaxis,aF);H.restore()}function E(aN,aM,aV,aI,aQ,aF,aD,aL,aK,aU,aR,aC){var aE,aT,aJ,aP,aG,aB,aO,aH,aS;if(aR){aH=aB=aO=true;aG=false;aE=aV;aT=aN;aP=aM+aI;aJ=aM+aQ;if(aT<aE){aS=aT;aT=aE;aE=aS;aG=true;aB=false}}else{aG=aB=aO=true;aH=false;aE=aN+aI;aT=aN+aQ;aJ=aV;aP=aM;if(aP<aJ){aS=aP;aP=aJ;aJ=aS;aH=true;aO=false}}if(aT<aL.min||aE>aL.max||aP<aK.min||aJ>aK.max){return}if(aE<aL.min){aE=aL.min;aG=false}if(aT>aL.max){aT=aL.max;aB=false}if(aJ<aK.min){aJ=aK.min;aH=false}if(aP>aK.max){aP=aK.max;aO=false}aE=aL.p2c(aE);aJ=aK.p2c(aJ);aT=aL.p2c(aT);aP=aK.p2c(aP);if(aD){aU.beginPath();aU.moveTo(aE,aJ);aU.lineTo(aE,aP);aU.lineTo(aT,aP);aU.lineTo(aT,aJ);aU.fillStyle=aD(aJ,aP);aU.fill()}if(aC>0&&(aG||aB||aO||aH)){aU.beginPath();aU.moveTo(aE,aJ+aF);if(aG){aU.lineTo(aE,aP+aF)}else{aU.moveTo(aE,aP+aF)}if(aO){aU.lineTo(aT,aP+aF)}else{aU.moveTo(aT,aP+aF)}if(aB){aU.lineTo(aT,aJ+aF)}else{aU.moveTo(aT,aJ+aF)}if(aH){aU.lineTo(aE,aJ+aF)}else{aU.moveTo(aE,aJ+aF)}aU.stroke()}}function e(aD){function aC(aJ,aI,aL,aG,aK,aN,aM){var aO=aJ.points,aF=aJ.pointsize;for(var aH=0;aH<aO.length;aH+=aF){if(aO[aH]==null){continue}E(aO[aH],aO[aH+1],aO[aH+2],aI,aL,aG,aK,aN,aM,H,aD.bars.horizontal,aD.bars.lineWidth)}}H.save();H.translate(q.left,q.top);H.lineWidth=aD.bars.lineWidth;H.strokeStyle=aD.color;if(aD.multipleBars){var aB=aD.bars.barLeft}else{var aB=aD.bars.align=="left"?0:-aD.bars.barWidth/2}var aE=aD.bars.fill?function(aF,aG){return ae(aD.bars,aD.color,aF,aG)}:null;aC(aD.datapoints,aB,aB+aD.bars.barWidth,0,aE,aD.xaxis,aD.yaxis);H.restore()}function ae(aD,aB,aC,aF){var aE=aD.fill;if(!aE){return null}if(aD.fillColor){return am(aD.fillColor,aC,aF,aB)}var aG=c.color.parse(aB);aG.a=typeof aE=="number"?aE:0.4;aG.normalize();return aG.toString()}function o(){av.find(".legend").remove();if(!O.legend.show){return}var aH=[],aF=false,aN=O.legend.labelFormatter,aM,aJ;for(var aE=0;aE<Q.length;++aE){aM=Q[aE];aJ=aM.label;if(!aJ){continue}if(aE%O.legend.noColumns==0){if(aF){aH.push("</tr>")}aH.push("<tr>");aF=true}if(aN){aJ=aN(aJ,aM)}aH.push('<td class="legendColorBox"><div style="border:1px solid '+O.legend.labelBoxBorderColor+';padding:1px"><div style="width:4px;height:0;border:5px solid '+aM.color+';overflow:hidden"></div></div></td><td class="legendLabel">'+aJ+"</td>")}if(aF){aH.push("</tr>")}if(aH.length==0){return}var aL='<table style="font-size:smaller;color:'+O.grid.color+'">'+aH.join("")+"</table>";if(O.legend.container!=null){c(O.legend.container).html(aL)}else{var aI="",aC=O.legend.position,aD=O.legend.margin;if(aD[0]==null){aD=[aD,aD]}if(aC.charAt(0)=="n"){aI+="top:"+(aD[1]+q.top)+"px;"}else{if(aC.charAt(0)=="s"){aI+="bottom:"+(aD[1]+q.bottom)+"px;"}}if(aC.charAt(1)=="e"){aI+="right:"+(aD[0]+q.right)+"px;"}else{if(aC.charAt(1)=="w"){aI+="left:"+(aD[0]+q.left)+"px;"}}var aK=c('<div class="legend">'+aL.replace('style="','style="position:absolute;'+aI+";")+"</div>").appendTo(av);if(O.legend.backgroundOpacity!=0){var aG=O.legend.backgroundColor;if(aG==null){aG=O.grid.backgroundColor;if(aG&&typeof aG=="string"){aG=c.color.parse(aG)}else{aG=c.color.extract(aK,"background-color")}aG.a=1;aG=aG.toString()}var aB=aK.children();c('<div style="position:absolute;width:'+aB.width()+"px;height:"+aB.height()+"px;"+aI+"background-color:"+aG+';"> </div>').prependTo(aK).css("opacity",O.legend.backgroundOpacity)}}}var ab=[],M=null;function K(aI,aG,aD){var aO=O.grid.mouseActiveRadius,a0=aO*aO+1,aY=null,aR=false,aW,aU;for(aW=Q.length-1;aW>=0;--aW){if(!aD(Q[aW])){continue}var aP=Q[aW],aH=aP.xaxis,aF=aP.yaxis,aV=aP.datapoints.points,aT=aP.datapoints.pointsize,aQ=aH.c2p(aI),aN=aF.c2p(aG),aC=aO/aH.scale,aB=aO/aF.scale;if(aH.options.inverseTransform){aC=Number.MAX_VALUE}if(aF.options.inverseTransform){aB=Number.MAX_VALUE}if(aP.lines.show||aP.points.show){for(aU=0;aU<aV.length;aU+=aT){var aK=aV[aU],aJ=aV[aU+1];if(aK==null){continue}if(aK-aQ>aC||aK-aQ<-aC||aJ-aN>aB||aJ-aN<-aB){continue}var aM=Math.abs(aH.p2c(aK)-aI),aL=Math.abs(aF.p2c(aJ)-aG),aS=aM*aM+aL*aL;if(aS<a0){a0=aS;aY=[aW,aU/aT]}}}if(aP.bars.show&&!aY){if(aP.multipleBars){var aE=aP.bars.barLeft,aX=aE+aP.bars.barWidth}else{var aE=aP.bars.align=="left"?0:-aP.bars.barWidth/2,aX=aE+aP.bars.barWidth}for(aU=0;aU<aV.length;aU+=aT){var aK=aV[aU],aJ=aV[aU+1],aZ=aV[aU+2];if(aK==null){continue}if(Q[aW].bars.horizontal?(aQ<=Math.max(aZ,aK)&&aQ>=Math.min(aZ,aK)&&aN>=aJ+aE&&aN<=aJ+aX):(aQ>=aK+aE&&aQ<=aK+aX&&aN>=Math.min(aZ,aJ)&&aN<=Math.max(aZ,aJ))){aY=[aW,aU/aT]}}}}if(aY){aW=aY[0];aU=aY[1];aT=Q[aW].datapoints.pointsize;return{datapoint:Q[aW].datapoints.points.slice(aU*aT,(aU+1)*aT),dataIndex:aU,series:Q[aW],seriesIndex:aW}}return null}function aa(aB){if(O.grid.hoverable){u("plothover",aB,function(aC){return aC.hoverable!=false})}}function l(aB){if(O.grid.hoverable){u("plothover",aB,function(aC){return false})}}function R(aB){u("plotclick",aB,function(aC){return aC.clickable!=false})}function u(aC,aB,aD){var aE=y.offset(),aH=aB.pageX-aE.left-q.left,aF=aB.pageY-aE.top-q.top,aJ=C({left:aH,top:aF});aJ.pageX=aB.pageX;aJ.pageY=aB.pageY;var aK=K(aH,aF,aD);if(aK){aK.pageX=parseInt(aK.series.xaxis.p2c(aK.datapoint[0])+aE.left+q.left);aK.pageY=parseInt(aK.series.yaxis.p2c(aK.datapoint[1])+aE.top+q.top)}if(O.grid.autoHighlight){for(var aG=0;aG<ab.length;++aG){var aI=ab[aG];if(aI.auto==aC&&!(aK&&aI.series==aK.series&&aI.point[0]==aK.datapoint[0]&&aI.point[1]==aK.datapoint[1])){T(aI.series,aI.point)}}if(aK){x(aK.series,aK.datapoint,aC)}}av.trigger(aC,[aJ,aK])}function f(){if(!M){M=setTimeout(s,30)}}function s(){M=null;A.save();A.clearRect(0,0,G,I);A.translate(q.left,q.top);var aC,aB;for(aC=0;aC<ab.length;++aC){aB=ab[aC];if(aB.series.bars.show){v(aB.series,aB.point)}else{ay(aB.series,aB.point)}}A.restore();an(ak.drawOverlay,[A])}function x(aD,aB,aF){if(typeof aD=="number"){aD=Q[aD]}if(typeof aB=="number"){var aE=aD.datapoints.pointsize;aB=aD.datapoints.points.slice(aE*aB,aE*(aB+1))}var aC=al(aD,aB);if(aC==-1){ab.push({series:aD,point:aB,auto:aF});f()}else{if(!aF){ab[aC].auto=false}}}function T(aD,aB){if(aD==null&&aB==null){ab=[];f()}if(typeof aD=="number"){aD=Q[aD]}if(typeof aB=="number"){aB=aD.data[aB]}var aC=al(aD,aB);if(aC!=-1){ab.splice(aC,1);f()}}function al(aD,aE){for(var aB=0;aB<ab.length;++aB){var aC=ab[aB];if(aC.series==aD&&aC.point[0]==aE[0]&&aC.point[1]==aE[1]){return aB}}return -1}function ay(aE,aD){var aC=aD[0],aI=aD[1],aH=aE.xaxis,aG=aE.yaxis;if(aC<aH.min||aC>aH.max||aI<aG.min||aI>aG.max){return}var aF=aE.points.radius+aE.points.lineWidth/2;A.lineWidth=aF;A.strokeStyle=c.color.parse(aE.color).scale("a",0.5).toString();var aB=1.5*aF,aC=aH.p2c(aC),aI=aG.p2c(aI);A.beginPath();if(aE.points.symbol=="circle"){A.arc(aC,aI,aB,0,2*Math.PI,false)}else{aE.points.symbol(A,aC,aI,aB,false)}A.closePath();A.stroke()}function v(aE,aB){A.lineWidth=aE.bars.lineWidth;A.strokeStyle=c.color.parse(aE.color).scale("a",0.5).toString();var aD=c.color.parse(aE.color).scale("a",0.5).toString();if(aE.multipleBars){E(aB[0],aB[1],aB[2]||0,aE.bars.barLeft,aE.bars.barLeft+aE.bars.barWidth,0,function(){return aD},aE.xaxis,aE.yaxis,A,aE.bars.horizontal,aE.bars.lineWidth)}else{var aC=aE.bars.align=="left"?0:-aE.bars.barWidth/2;E(aB[0],aB[1],aB[2]||0,aC,aC+aE.bars.barWidth,0,function(){return aD},aE.xaxis,aE.yaxis,A,aE.bars.horizontal,aE.bars.lineWidth)}}function am(aJ,aB,aH,aC){if(typeof aJ=="string"){return aJ}else{var aI=H.createLinearGradient(0,aH,0,aB);for(var aE=0,aD=aJ.colors.length;aE<aD;++aE){var aF=aJ.colors[aE];if(typeof aF!="string"){var aG=c.color.parse(aC);if(aF.brightness!=null){aG=aG.scale("rgb",aF.brightness)}if(aF.opacity!=null){aG.a*=aF.opacity}aF=aG.toString()}aI.addColorStop(aE/(aD-1),aF)}return aI}}}c.plot=function(g,e,d){var f=new b(c(g),e,d,c.plot.plugins);return f};c.plot.version="0.7";c.plot.plugins=[];c.plot.formatDate=function(l,f,h){var o=function(d){d=""+d;return d.length==1?"0"+d:d};var e=[];var p=false,j=false;var n=l.getUTCHours();var k=n<12;if(h==null){h=["Jan","Feb","Mar","Apr","May","Jun","Jul","Aug","Sep","Oct","Nov","Dec"]}if(f.search(/%p|%P/)!=-1){if(n>12){n=n-12}else{if(n==0){n=12}}}for(var g=0;g<f.length;++g){var m=f.charAt(g);if(p){switch(m){case"h":m=""+n;break;case"H":m=o(n);break;case"M":m=o(l.getUTCMinutes());break;case"S":m=o(l.getUTCSeconds());break;case"d":m=""+l.getUTCDate();break;case"m":m=""+(l.getUTCMonth()+1);break;case"y":m=""+l.getUTCFullYear();break;case"b":m=""+h[l.getUTCMonth()];break;case"p":m=(k)?("am"):("pm");break;case"P":m=(k)?("AM"):("PM");break;case"0":m="";j=true;break}if(m&&j){m=o(m);j=false}e.push(m);if(!j){p=false}}else{if(m=="%"){p=true}else{e.push(m)}}}return e.join("")};function a(e,d){return d*Math.floor(e/d)}})(jQuery);
\ No newline at end of file
+(function(b){b.color={};b.color.make=function(d,e,g,f){var c={};c.r=d||0;c.g=e||0;c.b=g||0;c.a=f!=null?f:1;c.add=function(h,j){for(var k=0;k<h.length;++k){c[h.charAt(k)]+=j}return c.normalize()};c.scale=function(h,j){for(var k=0;k<h.length;++k){c[h.charAt(k)]*=j}return c.normalize()};c.toString=function(){if(c.a>=1){return"rgb("+[c.r,c.g,c.b].join(",")+")"}else{return"rgba("+[c.r,c.g,c.b,c.a].join(",")+")"}};c.normalize=function(){function h(k,j,l){return j<k?k:(j>l?l:j)}c.r=h(0,parseInt(c.r),255);c.g=h(0,parseInt(c.g),255);c.b=h(0,parseInt(c.b),255);c.a=h(0,c.a,1);return c};c.clone=function(){return b.color.make(c.r,c.b,c.g,c.a)};return c.normalize()};b.color.extract=function(d,e){var c;do{c=d.css(e).toLowerCase();if(c!=""&&c!="transparent"){break}d=d.parent()}while(!b.nodeName(d.get(0),"body"));if(c=="rgba(0, 0, 0, 0)"){c="transparent"}return b.color.parse(c)};b.color.parse=function(c){var d,f=b.color.make;if(d=/rgb\(\s*([0-9]{1,3})\s*,\s*([0-9]{1,3})\s*,\s*([0-9]{1,3})\s*\)/.exec(c)){return f(parseInt(d[1],10),parseInt(d[2],10),parseInt(d[3],10))}if(d=/rgba\(\s*([0-9]{1,3})\s*,\s*([0-9]{1,3})\s*,\s*([0-9]{1,3})\s*,\s*([0-9]+(?:\.[0-9]+)?)\s*\)/.exec(c)){return f(parseInt(d[1],10),parseInt(d[2],10),parseInt(d[3],10),parseFloat(d[4]))}if(d=/rgb\(\s*([0-9]+(?:\.[0-9]+)?)\%\s*,\s*([0-9]+(?:\.[0-9]+)?)\%\s*,\s*([0-9]+(?:\.[0-9]+)?)\%\s*\)/.exec(c)){return f(parseFloat(d[1])*2.55,parseFloat(d[2])*2.55,parseFloat(d[3])*2.55)}if(d=/rgba\(\s*([0-9]+(?:\.[0-9]+)?)\%\s*,\s*([0-9]+(?:\.[0-9]+)?)\%\s*,\s*([0-9]+(?:\.[0-9]+)?)\%\s*,\s*([0-9]+(?:\.[0-9]+)?)\s*\)/.exec(c)){return f(parseFloat(d[1])*2.55,parseFloat(d[2])*2.55,parseFloat(d[3])*2.55,parseFloat(d[4]))}if(d=/#([a-fA-F0-9]{2})([a-fA-F0-9]{2})([a-fA-F0-9]{2})/.exec(c)){return f(parseInt(d[1],16),parseInt(d[2],16),parseInt(d[3],16))}if(d=/#([a-fA-F0-9])([a-fA-F0-9])([a-fA-F0-9])/.exec(c)){return f(parseInt(d[1]+d[1],16),parseInt(d[2]+d[2],16),parseInt(d[3]+d[3],16))}var e=b.trim(c).toLowerCase();if(e=="transparent"){return f(255,255,255,0)}else{d=a[e]||[0,0,0];return f(d[0],d[1],d[2])}};var a={aqua:[0,255,255],azure:[240,255,255],beige:[245,245,220],black:[0,0,0],blue:[0,0,255],brown:[165,42,42],cyan:[0,255,255],darkblue:[0,0,139],darkcyan:[0,139,139],darkgrey:[169,169,169],darkgreen:[0,100,0],darkkhaki:[189,183,107],darkmagenta:[139,0,139],darkolivegreen:[85,107,47],darkorange:[255,140,0],darkorchid:[153,50,204],darkred:[139,0,0],darksalmon:[233,150,122],darkviolet:[148,0,211],fuchsia:[255,0,255],gold:[255,215,0],green:[0,128,0],indigo:[75,0,130],khaki:[240,230,140],lightblue:[173,216,230],lightcyan:[224,255,255],lightgreen:[144,238,144],lightgrey:[211,211,211],lightpink:[255,182,193],lightyellow:[255,255,224],lime:[0,255,0],magenta:[255,0,255],maroon:[128,0,0],navy:[0,0,128],olive:[128,128,0],orange:[255,165,0],pink:[255,192,203],purple:[128,0,128],violet:[128,0,128],red:[255,0,0],silver:[192,192,192],white:[255,255,255],yellow:[255,255,0]}})(jQuery);(function(c){function b(aU,aG,ab,aC){var al=[],aj={colors:["#edc240","#afd8f8","#cb4b4b","#4da74d","#9440ed"],legend:{show:true,noColumns:1,labelFormatter:null,labelBoxBorderColor:"#ccc",container:null,position:"ne",margin:5,backgroundColor:null,backgroundOpacity:0.85},xaxis:{show:null,position:"bottom",mode:null,color:null,tickColor:null,transform:null,inverseTransform:null,min:null,max:null,autoscaleMargin:null,ticks:null,tickFormatter:null,labelWidth:null,labelHeight:null,reserveSpace:null,tickLength:null,alignTicksWithAxis:null,tickDecimals:null,tickSize:null,minTickSize:null,monthNames:null,timeformat:null,twelveHourClock:false},yaxis:{autoscaleMargin:0.02,position:"left"},xaxes:[],yaxes:[],series:{points:{show:false,radius:3,lineWidth:2,fill:true,fillColor:"#ffffff",symbol:"circle"},lines:{lineWidth:2,fill:false,fillColor:null,steps:false,decimate:false},bars:{show:false,lineWidth:2,barWidth:1,fill:true,fillColor:null,align:"left",horizontal:false},multipleBars:false,shadowSize:3},grid:{show:true,aboveData:false,color:"#545454",backgroundColor:null,borderColor:null,tickColor:null,labelMargin:5,axisMargin:8,borderWidth:2,minBorderMargin:null,markings:null,markingsColor:"#f4f4f4",markingsLineWidth:2,clickable:false,hoverable:false,autoHighlight:true,mouseActiveRadius:10,hoverIndex:null,hoverThrottle:null},hooks:{}},aZ=null,aA=null,J=null,Z=null,N=null,t=[],aV=[],v={left:0,right:0,top:0,bottom:0},Y=0,aa=0,j=0,C=0,V=0,x=[],aI=false,ah=[],W=[],aJ={processOptions:[],processRawData:[],processDatapoints:[],drawSeries:[],draw:[],bindEvents:[],drawOverlay:[],shutdown:[]},aQ=this;aQ.setData=aH;aQ.setupGrid=z;aQ.draw=ar;aQ.drawSeriesRange=function(a1,a3,a2){P(al[a1],x[a1],a3,a2)};aQ.completeProgressiveDraw=aL;aQ.initNewPlugins=U;aQ.getDrawCount=function(){return V};aQ.getPlaceholder=function(){return aU};aQ.getCanvas=function(){return aZ};aQ.getPlotOffset=function(){return v};aQ.width=function(){return j};aQ.height=function(){return C};aQ.offset=function(){var a1=J.offset();a1.left+=v.left;a1.top+=v.top;return a1};aQ.getData=function(){return al};aQ.getAxes=function(){var a2={},a1;c.each(t.concat(aV),function(a3,a4){if(a4){a2[a4.direction+(a4.n!=1?a4.n:"")+"axis"]=a4}});return a2};aQ.getXAxes=function(){return t};aQ.getYAxes=function(){return aV};aQ.c2p=R;aQ.p2c=aR;aQ.getOptions=function(){return aj};aQ.highlight=E;aQ.unhighlight=ao;aQ.triggerRedrawOverlay=g;aQ.pointOffset=function(a1){return{left:parseInt(t[a0(a1,"x")-1].p2c(+a1.x)+v.left),top:parseInt(aV[a0(a1,"y")-1].p2c(+a1.y)+v.top)}};aQ.shutdown=aD;aQ.resize=function(){Q();h(aZ);h(aA)};aQ.hooks=aJ;X(aQ);aw(ab);at();aH(aG);z();ar();aF();function aN(a3,a1){a1=[aQ].concat(a1);for(var a2=0;a2<a3.length;++a2){a3[a2].apply(this,a1)}}function X(){for(var a1=0;a1<aC.length;++a1){var a2=aC[a1];a2.init(aQ);if(a2.options){c.extend(true,aj,a2.options)}W.push(a2)}}function U(){var a3=aJ.processOptions.length,a2=aJ.bindEvents.length;for(var a1=0;a1<aC.length;++a1){var a4=aC[a1];if(c.inArray(a4,W)>=0){continue}a4.init(aQ);if(a4.options){ai(aj,a4.options)}W.push(a4)}aN(aJ.processOptions.slice(a3),[aj]);aN(aJ.bindEvents.slice(a2),[J])}function ai(a4,a3){for(var a1 in a3){var a2=a3[a1];if(a4[a1]===undefined){if(c.isPlainObject(a2)){a4[a1]=c.extend(true,{},a2)}else{if(c.isArray(a2)){a4[a1]=c.extend(true,[],a2)}else{a4[a1]=a2}}}else{if(c.isPlainObject(a2)&&c.isPlainObject(a4[a1])){ai(a4[a1],a2)}}}}function aw(a2){var a1;c.extend(true,aj,a2);if(aj.xaxis.color==null){aj.xaxis.color=aj.grid.color}if(aj.yaxis.color==null){aj.yaxis.color=aj.grid.color}if(aj.xaxis.tickColor==null){aj.xaxis.tickColor=aj.grid.tickColor}if(aj.yaxis.tickColor==null){aj.yaxis.tickColor=aj.grid.tickColor}if(aj.grid.borderColor==null){aj.grid.borderColor=aj.grid.color}if(aj.grid.tickColor==null){aj.grid.tickColor=c.color.parse(aj.grid.color).scale("a",0.22).toString()}for(a1=0;a1<Math.max(1,aj.xaxes.length);++a1){aj.xaxes[a1]=c.extend(true,{},aj.xaxis,aj.xaxes[a1])}for(a1=0;a1<Math.max(1,aj.yaxes.length);++a1){aj.yaxes[a1]=c.extend(true,{},aj.yaxis,aj.yaxes[a1])}if(aj.xaxis.noTicks&&aj.xaxis.ticks==null){aj.xaxis.ticks=aj.xaxis.noTicks}if(aj.yaxis.noTicks&&aj.yaxis.ticks==null){aj.yaxis.ticks=aj.yaxis.noTicks}if(aj.x2axis){aj.xaxes[1]=c.extend(true,{},aj.xaxis,aj.x2axis);aj.xaxes[1].position="top"}if(aj.y2axis){aj.yaxes[1]=c.extend(true,{},aj.yaxis,aj.y2axis);aj.yaxes[1].position="right"}if(aj.grid.coloredAreas){aj.grid.markings=aj.grid.coloredAreas}if(aj.grid.coloredAreasColor){aj.grid.markingsColor=aj.grid.coloredAreasColor}if(aj.lines){c.extend(true,aj.series.lines,aj.lines)}if(aj.points){c.extend(true,aj.series.points,aj.points)}if(aj.bars){c.extend(true,aj.series.bars,aj.bars)}if(aj.shadowSize!=null){aj.series.shadowSize=aj.shadowSize}for(a1=0;a1<aj.xaxes.length;++a1){aq(t,a1+1).options=aj.xaxes[a1]}for(a1=0;a1<aj.yaxes.length;++a1){aq(aV,a1+1).options=aj.yaxes[a1]}for(var a3 in aJ){if(aj.hooks[a3]&&aj.hooks[a3].length){aJ[a3]=aJ[a3].concat(aj.hooks[a3])}}aN(aJ.processOptions,[aj])}function aH(a1){al=au(a1);aW();K();ah=[]}function au(a4){var a2=[];for(var a1=0;a1<a4.length;++a1){var a3=c.extend(true,{},aj.series);if(a4[a1].data!=null){a3.data=a4[a1].data;delete a4[a1].data;c.extend(true,a3,a4[a1]);a4[a1].data=a3.data}else{a3.data=a4[a1]}a2.push(a3)}return a2}function a0(a2,a3){var a1=a2[a3+"axis"];if(typeof a1=="object"){a1=a1.n}if(typeof a1!="number"){a1=1}return a1}function o(){return c.grep(t.concat(aV),function(a1){return a1})}function R(a4){var a2={},a1,a3;for(a1=0;a1<t.length;++a1){a3=t[a1];if(a3&&a3.used){a2["x"+a3.n]=a3.c2p(a4.left)}}for(a1=0;a1<aV.length;++a1){a3=aV[a1];if(a3&&a3.used){a2["y"+a3.n]=a3.c2p(a4.top)}}if(a2.x1!==undefined){a2.x=a2.x1}if(a2.y1!==undefined){a2.y=a2.y1}return a2}function aR(a5){var a3={},a2,a4,a1;for(a2=0;a2<t.length;++a2){a4=t[a2];if(a4&&a4.used){a1="x"+a4.n;if(a5[a1]==null&&a4.n==1){a1="x"}if(a5[a1]!=null){a3.left=a4.p2c(a5[a1]);break}}}for(a2=0;a2<aV.length;++a2){a4=aV[a2];if(a4&&a4.used){a1="y"+a4.n;if(a5[a1]==null&&a4.n==1){a1="y"}if(a5[a1]!=null){a3.top=a4.p2c(a5[a1]);break}}}return a3}function aq(a2,a1){if(!a2[a1-1]){a2[a1-1]={n:a1,direction:a2==t?"x":"y",options:c.extend(true,{},a2==t?aj.xaxis:aj.yaxis)}}return a2[a1-1]}function aW(){var a6;var bc=al.length,a1=[],a4=[];for(a6=0;a6<al.length;++a6){var a9=al[a6].color;if(a9!=null){--bc;if(typeof a9=="number"){a4.push(a9)}else{a1.push(c.color.parse(al[a6].color))}}}for(a6=0;a6<a4.length;++a6){bc=Math.max(bc,a4[a6]+1)}var a2=[],a5=0;a6=0;while(a2.length<bc){var a8;if(aj.colors.length==a6){a8=c.color.make(100,100,100)}else{a8=c.color.parse(aj.colors[a6])}var a3=a5%2==1?-1:1;a8.scale("rgb",1+a3*Math.ceil(a5/2)*0.2);a2.push(a8);++a6;if(a6>=aj.colors.length){a6=0;++a5}}var a7=0,bd;for(a6=0;a6<al.length;++a6){bd=al[a6];if(bd.color==null){bd.color=a2[a7].toString();++a7}else{if(typeof bd.color=="number"){bd.color=a2[bd.color].toString()}}if(bd.lines.show==null){var bb,ba=true;for(bb in bd){if(bd[bb]&&bd[bb].show){ba=false;break}}if(ba){bd.lines.show=true}}bd.xaxis=aq(t,a0(bd,"x"));bd.yaxis=aq(aV,a0(bd,"y"))}}function K(){var be=Number.POSITIVE_INFINITY,a8=Number.NEGATIVE_INFINITY,a1=Number.MAX_VALUE,bl,bj,bi,bd,a3,a9,bk,bf,a7,a6,a2,bs,bp,bb;function a5(bv,bu,bt){if(bu<bv.datamin&&bu!=-a1){bv.datamin=bu}if(bt>bv.datamax&&bt!=a1){bv.datamax=bt}}c.each(o(),function(bt,bu){bu.datamin=be;bu.datamax=a8;bu.used=false});for(bl=0;bl<al.length;++bl){a9=al[bl];a9.datapoints={points:[]};aN(aJ.processRawData,[a9,a9.data,a9.datapoints])}for(bl=0;bl<al.length;++bl){a9=al[bl];var br=a9.data,bn=a9.datapoints.format;if(!bn){bn=[];bn.push({x:true,number:true,required:true});bn.push({y:true,number:true,required:true});if(a9.bars.show||(a9.lines.show&&a9.lines.fill)){bn.push({y:true,number:true,required:false,defaultValue:0});if(a9.bars.horizontal){delete bn[bn.length-1].y;bn[bn.length-1].x=true}}a9.datapoints.format=bn}if(a9.datapoints.pointsize!=null){continue}a9.datapoints.pointsize=bn.length;bf=a9.datapoints.pointsize;bk=a9.datapoints.points;insertSteps=a9.lines.show&&a9.lines.steps;a9.xaxis.used=a9.yaxis.used=true;for(bj=bi=0;bj<br.length;++bj,bi+=bf){bb=br[bj];var a4=bb==null;if(!a4){for(bd=0;bd<bf;++bd){bs=bb[bd];bp=bn[bd];if(bp){if(bp.number&&bs!=null){bs=+bs;if(isNaN(bs)){bs=null}else{if(bs==Infinity){bs=a1}else{if(bs==-Infinity){bs=-a1}}}}if(bs==null){if(bp.required){a4=true}if(bp.defaultValue!=null){bs=bp.defaultValue}}}bk[bi+bd]=bs}}if(a4){for(bd=0;bd<bf;++bd){bs=bk[bi+bd];if(bs!=null){bp=bn[bd];if(bp.x){a5(a9.xaxis,bs,bs)}if(bp.y){a5(a9.yaxis,bs,bs)}}bk[bi+bd]=null}}else{if(insertSteps&&bi>0&&bk[bi-bf]!=null&&bk[bi-bf]!=bk[bi]&&bk[bi-bf+1]!=bk[bi+1]){for(bd=0;bd<bf;++bd){bk[bi+bf+bd]=bk[bi+bd]}bk[bi+1]=bk[bi-bf+1];bi+=bf}}}}var bh=0;for(bl=0;bl<al.length;++bl){a9=al[bl];aN(aJ.processDatapoints,[a9,a9.datapoints]);bh+=a9.bars.barWidth}var bo=0;for(bl=0;bl<al.length;++bl){a9=al[bl];bk=a9.datapoints.points,bf=a9.datapoints.pointsize;var ba=be,bg=be,bc=a8,bm=a8;for(bj=0;bj<bk.length;bj+=bf){if(bk[bj]==null){continue}for(bd=0;bd<bf;++bd){bs=bk[bj+bd];bp=bn[bd];if(!bp||bs==a1||bs==-a1){continue}if(bp.x){if(bs<ba){ba=bs}if(bs>bc){bc=bs}}if(bp.y){if(bs<bg){bg=bs}if(bs>bm){bm=bs}}}}if(a9.bars.show){if(a9.multipleBars){if(a9.bars.barLeft==undefined){a9.bars.barLeft=a9.bars.align=="left"?bo:bo-bh/2}bo+=a9.bars.barWidth;var bq=a9.bars.barLeft}else{var bq=a9.bars.align=="left"?0:-a9.bars.barWidth/2}if(a9.bars.horizontal){bg+=bq;bm+=bq+a9.bars.barWidth}else{ba+=bq;bc+=bq+a9.bars.barWidth}}a5(a9.xaxis,ba,bc);a5(a9.yaxis,bg,bm)}c.each(o(),function(bt,bu){if(bu.datamin==be){bu.datamin=null}if(bu.datamax==a8){bu.datamax=null}})}function k(a1,a2){var a3=document.createElement("canvas");a3.className=a2;a3.width=Y;a3.height=aa;if(!a1){c(a3).css({position:"absolute",left:0,top:0})}c(a3).appendTo(aU);if(!a3.getContext){a3=window.G_vmlCanvasManager.initElement(a3)}a3.getContext("2d").save();return a3}function Q(){Y=aU.width();aa=aU.height();if(Y<=0||aa<=0){throw"Invalid dimensions for plot, width = "+Y+", height = "+aa}}function h(a2){if(a2.width!=Y){a2.width=Y}if(a2.height!=aa){a2.height=aa}var a1=a2.getContext("2d");a1.restore();a1.save()}function at(){var a2,a1=aU.children("canvas.base"),a3=aU.children("canvas.overlay");if(a1.length==0||a3==0){aU.html("");aU.css({padding:0});if(aU.css("position")=="static"){aU.css("position","relative")}Q();aZ=k(true,"base");aA=k(false,"overlay");a2=false}else{aZ=a1.get(0);aA=a3.get(0);a2=true}Z=aZ.getContext("2d");N=aA.getContext("2d");J=c([aA,aZ]);if(a2){aU.data("plot").shutdown();aQ.resize();N.clearRect(0,0,Y,aa);J.unbind();aU.children().not([aZ,aA]).remove()}aU.data("plot",aQ)}function aF(){if(aj.grid.hoverable){J.mousemove(ax);J.mouseleave(m);if(aj.grid.hoverThrottle!=null){J.mousedown(F);c(document).mouseup(H)}}if(aj.grid.clickable){J.click(am)}aN(aJ.bindEvents,[J])}function aD(){if(af){clearTimeout(af)}if(e){clearTimeout(e)}if(L){ac(L)}e=null;L=null;D=null;J.unbind("mousemove",ax);J.unbind("mouseleave",m);J.unbind("mousedown",F);c(document).unbind("mouseup",H);J.unbind("click",am);aN(aJ.shutdown,[J])}function w(a6){function a2(a7){return a7}var a5,a1,a3=a6.options.transform||a2,a4=a6.options.inverseTransform;if(a6.direction=="x"){a5=a6.scale=j/Math.abs(a3(a6.max)-a3(a6.min));a1=Math.min(a3(a6.max),a3(a6.min))}else{a5=a6.scale=C/Math.abs(a3(a6.max)-a3(a6.min));a5=-a5;a1=Math.max(a3(a6.max),a3(a6.min))}if(a3==a2){a6.p2c=function(a7){return(a7-a1)*a5}}else{a6.p2c=function(a7){return(a3(a7)-a1)*a5}}if(!a4){a6.c2p=function(a7){return a1+a7/a5}}else{a6.c2p=function(a7){return a4(a1+a7/a5)}}}function ae(a3){var a1=a3.options,a5,a9=a3.ticks||[],a8=[],a4,ba=a1.labelWidth,a6=a1.labelHeight,a2;function a7(bc,bb){return c('<div style="position:absolute;top:-10000px;'+bb+'font-size:smaller"><div class="'+a3.direction+"Axis "+a3.direction+a3.n+'Axis">'+bc.join("")+"</div></div>").appendTo(aU)}if(a3.direction=="x"){if(ba==null){ba=Math.floor(Y/(a9.length>0?a9.length:1))}if(a6==null){a8=[];for(a5=0;a5<a9.length;++a5){a4=a9[a5].label;if(a4){a8.push('<div class="tickLabel" style="float:left;width:'+ba+'px">'+a4+"</div>")}}if(a8.length>0){a8.push('<div style="clear:left"></div>');a2=a7(a8,"width:10000px;");a6=a2.height();a2.remove()}}}else{if(ba==null||a6==null){for(a5=0;a5<a9.length;++a5){a4=a9[a5].label;if(a4){a8.push('<div class="tickLabel">'+a4+"</div>")}}if(a8.length>0){a2=a7(a8,"");if(ba==null){ba=a2.children().width()}if(a6==null){a6=a2.find("div.tickLabel").height()}a2.remove()}}}if(ba==null){ba=0}if(a6==null){a6=0}a3.labelWidth=ba;a3.labelHeight=a6}function aT(a3){var a2=a3.labelWidth,bb=a3.labelHeight,a7=a3.options.position,a5=a3.options.tickLength,a6=aj.grid.axisMargin,a9=aj.grid.labelMargin,ba=a3.direction=="x"?t:aV,a4;var a1=c.grep(ba,function(bd){return bd&&bd.options.position==a7&&bd.reserveSpace});if(c.inArray(a3,a1)==a1.length-1){a6=0}if(a5==null){a5="full"}var a8=c.grep(ba,function(bd){return bd&&bd.reserveSpace});var bc=c.inArray(a3,a8)==0;if(!bc&&a5=="full"){a5=5}if(!isNaN(+a5)){a9+=+a5}if(a3.direction=="x"){bb+=a9;if(a7=="bottom"){v.bottom+=bb+a6;a3.box={top:aa-v.bottom,height:bb}}else{a3.box={top:v.top+a6,height:bb};v.top+=bb+a6}}else{a2+=a9;if(a7=="left"){a3.box={left:v.left+a6,width:a2};v.left+=a2+a6}else{v.right+=a2+a6;a3.box={left:Y-v.right,width:a2}}}a3.position=a7;a3.tickLength=a5;a3.box.padding=a9;a3.innermost=bc}function ap(a1){if(a1.direction=="x"){a1.box.left=v.left;a1.box.width=j}else{a1.box.top=v.top;a1.box.height=C}}function z(){var a2,a4=o();ah=[];c.each(a4,function(a5,a6){a6.show=a6.options.show;if(a6.show==null){a6.show=a6.used}a6.reserveSpace=a6.show||a6.options.reserveSpace;r(a6)});allocatedAxes=c.grep(a4,function(a5){return a5.reserveSpace});v.left=v.right=v.top=v.bottom=0;if(aj.grid.show){c.each(allocatedAxes,function(a5,a6){an(a6);ak(a6);aP(a6,a6.ticks);ae(a6)});for(a2=allocatedAxes.length-1;a2>=0;--a2){aT(allocatedAxes[a2])}var a3=aj.grid.minBorderMargin;if(a3==null){a3=0;for(a2=0;a2<al.length;++a2){a3=Math.max(a3,al[a2].points.radius+al[a2].points.lineWidth/2)}}for(var a1 in v){v[a1]+=aj.grid.borderWidth;v[a1]=Math.max(a3,v[a1])}}j=Y-v.left-v.right;C=aa-v.bottom-v.top;c.each(a4,function(a5,a6){w(a6)});if(aj.grid.show){c.each(allocatedAxes,function(a5,a6){ap(a6)});l()}s()}function r(a4){var a5=a4.options,a3=+(a5.min!=null?a5.min:a4.datamin),a1=+(a5.max!=null?a5.max:a4.datamax),a7=a1-a3;if(a7==0){var a2=a1==0?1:0.01;if(a5.min==null){a3-=a2}if(a5.max==null||a5.min!=null){a1+=a2}}else{var a6=a5.autoscaleMargin;if(a6!=null){if(a5.min==null){a3-=a7*a6;if(a3<0&&a4.datamin!=null&&a4.datamin>=0){a3=0}}if(a5.max==null){a1+=a7*a6;if(a1>0&&a4.datamax!=null&&a4.datamax<=0){a1=0}}}}a4.min=a3;a4.max=a1}function an(a6){var bc=a6.options;var a7;if(typeof bc.ticks=="number"&&bc.ticks>0){a7=bc.ticks}else{a7=0.3*Math.sqrt(a6.direction=="x"?Y:aa)}var bj=(a6.max-a6.min)/a7,be,a1,bd,bh,bi,bg,a8;if(bc.mode=="time"){var a9={second:1000,minute:60*1000,hour:60*60*1000,day:24*60*60*1000,month:30*24*60*60*1000,year:365.2425*24*60*60*1000};var ba=[[1,"second"],[2,"second"],[5,"second"],[10,"second"],[30,"second"],[1,"minute"],[2,"minute"],[5,"minute"],[10,"minute"],[30,"minute"],[1,"hour"],[2,"hour"],[4,"hour"],[8,"hour"],[12,"hour"],[1,"day"],[2,"day"],[3,"day"],[0.25,"month"],[0.5,"month"],[1,"month"],[2,"month"],[3,"month"],[6,"month"],[1,"year"]];var a2=0;if(bc.minTickSize!=null){if(typeof bc.tickSize=="number"){a2=bc.tickSize}else{a2=bc.minTickSize[0]*a9[bc.minTickSize[1]]}}for(var bi=0;bi<ba.length-1;++bi){if(bj<(ba[bi][0]*a9[ba[bi][1]]+ba[bi+1][0]*a9[ba[bi+1][1]])/2&&ba[bi][0]*a9[ba[bi][1]]>=a2){break}}be=ba[bi][0];bd=ba[bi][1];if(bd=="year"){bg=Math.pow(10,Math.floor(Math.log(bj/a9.year)/Math.LN10));a8=(bj/a9.year)/bg;if(a8<1.5){be=1}else{if(a8<3){be=2}else{if(a8<7.5){be=5}else{be=10}}}be*=bg}a6.tickSize=bc.tickSize||[be,bd];a1=function(bn){var bs=[],bq=bn.tickSize[0],bt=bn.tickSize[1],br=new Date(bn.min);var bm=bq*a9[bt];if(bt=="second"){br.setUTCSeconds(a(br.getUTCSeconds(),bq))}if(bt=="minute"){br.setUTCMinutes(a(br.getUTCMinutes(),bq))}if(bt=="hour"){br.setUTCHours(a(br.getUTCHours(),bq))}if(bt=="month"){br.setUTCMonth(a(br.getUTCMonth(),bq))}if(bt=="year"){br.setUTCFullYear(a(br.getUTCFullYear(),bq))}br.setUTCMilliseconds(0);if(bm>=a9.minute){br.setUTCSeconds(0)}if(bm>=a9.hour){br.setUTCMinutes(0)}if(bm>=a9.day){br.setUTCHours(0)}if(bm>=a9.day*4){br.setUTCDate(1)}if(bm>=a9.year){br.setUTCMonth(0)}var bv=0,bu=Number.NaN,bo;do{bo=bu;bu=br.getTime();bs.push(bu);if(bt=="month"){if(bq<1){br.setUTCDate(1);var bl=br.getTime();br.setUTCMonth(br.getUTCMonth()+1);var bp=br.getTime();br.setTime(bu+bv*a9.hour+(bp-bl)*bq);bv=br.getUTCHours();br.setUTCHours(0)}else{br.setUTCMonth(br.getUTCMonth()+bq)}}else{if(bt=="year"){br.setUTCFullYear(br.getUTCFullYear()+bq)}else{br.setTime(bu+bm)}}}while(bu<bn.max&&bu!=bo);return bs};bh=function(bl,bo){var bq=new Date(bl);if(bc.timeformat!=null){return c.plot.formatDate(bq,bc.timeformat,bc.monthNames)}var bm=bo.tickSize[0]*a9[bo.tickSize[1]];var bn=bo.max-bo.min;var bp=(bc.twelveHourClock)?" %p":"";if(bm<a9.minute){fmt="%h:%M:%S"+bp}else{if(bm<a9.day){if(bn<2*a9.day){fmt="%h:%M"+bp}else{fmt="%b %d %h:%M"+bp}}else{if(bm<a9.month){fmt="%b %d"}else{if(bm<a9.year){if(bn<a9.year){fmt="%b"}else{fmt="%b %y"}}else{fmt="%y"}}}}return c.plot.formatDate(bq,fmt,bc.monthNames)}}else{var bk=bc.tickDecimals;var bf=-Math.floor(Math.log(bj)/Math.LN10);if(bk!=null&&bf>bk){bf=bk}bg=Math.pow(10,-bf);a8=bj/bg;if(a8<1.5){be=1}else{if(a8<3){be=2;if(a8>2.25&&(bk==null||bf+1<=bk)){be=2.5;++bf}}else{if(a8<7.5){be=5}else{be=10}}}be*=bg;if(bc.minTickSize!=null&&be<bc.minTickSize){be=bc.minTickSize}a6.tickDecimals=Math.max(0,bk!=null?bk:bf);a6.tickSize=bc.tickSize||be;a1=function(bn){var bp=[];var bq=a(bn.min,bn.tickSize),bm=0,bl=Number.NaN,bo;do{bo=bl;bl=bq+bm*bn.tickSize;bp.push(bl);++bm}while(bl<bn.max&&bl!=bo);return bp};bh=function(bl,bm){return bl.toFixed(bm.tickDecimals)}}if(bc.alignTicksWithAxis!=null){var a5=(a6.direction=="x"?t:aV)[bc.alignTicksWithAxis-1];if(a5&&a5.used&&a5!=a6){var bb=a1(a6);if(bb.length>0){if(bc.min==null){a6.min=Math.min(a6.min,bb[0])}if(bc.max==null&&bb.length>1){a6.max=Math.max(a6.max,bb[bb.length-1])}}a1=function(bn){var bo=[],bl,bm;for(bm=0;bm<a5.ticks.length;++bm){bl=(a5.ticks[bm].v-a5.min)/(a5.max-a5.min);bl=bn.min+bl*(bn.max-bn.min);bo.push(bl)}return bo};if(a6.mode!="time"&&bc.tickDecimals==null){var a4=Math.max(0,-Math.floor(Math.log(bj)/Math.LN10)+1),a3=a1(a6);if(!(a3.length>1&&/\..*0$/.test((a3[1]-a3[0]).toFixed(a4)))){a6.tickDecimals=a4}}}}a6.tickGenerator=a1;if(c.isFunction(bc.tickFormatter)){a6.tickFormatter=function(bl,bm){return""+bc.tickFormatter(bl,bm)}}else{a6.tickFormatter=bh}}function ak(a5){var a7=a5.options.ticks,a6=[];if(a7==null||(typeof a7=="number"&&a7>0)){a6=a5.tickGenerator(a5)}else{if(a7){if(c.isFunction(a7)){a6=a7({min:a5.min,max:a5.max,tickSize:a5.tickSize,tickDecimals:a5.tickDecimals})}else{a6=a7}}}var a4,a1;a5.ticks=[];for(a4=0;a4<a6.length;++a4){var a2=null;var a3=a6[a4];if(typeof a3=="object"){a1=+a3[0];if(a3.length>1){a2=a3[1]}}else{a1=+a3}if(a2==null){a2=a5.tickFormatter(a1,a5)}if(!isNaN(a1)){a5.ticks.push({v:a1,label:a2})}}}function aP(a1,a2){if(a1.options.autoscaleMargin&&a2.length>0){if(a1.options.min==null){a1.min=Math.min(a1.min,a2[0].v)}if(a1.options.max==null&&a2.length>1){a1.max=Math.max(a1.max,a2[a2.length-1].v)}}}function ar(){++V;Z.clearRect(0,0,Y,aa);var a2=aj.grid;if(!aI){x=[]}if(a2.show&&a2.backgroundColor){ag()}if(a2.show&&!a2.aboveData){az()}for(var a1=0;a1<al.length;++a1){aN(aJ.drawSeries,[Z,al[a1]]);if(al[a1].progressiveStride!=null){x[a1]=I();u(al[a1],al[a1].progressiveStride)}else{if(aI&&x[a1]){Z.drawImage(x[a1],0,0)}else{d(al[a1])}}}aN(aJ.draw,[Z]);if(a2.show&&a2.aboveData){az()}}function S(a1,a8){var a4,a7,a6,a3,a5=o();for(i=0;i<a5.length;++i){a4=a5[i];if(a4.direction==a8){a3=a8+a4.n+"axis";if(!a1[a3]&&a4.n==1){a3=a8+"axis"}if(a1[a3]){a7=a1[a3].from;a6=a1[a3].to;break}}}if(!a1[a3]){a4=a8=="x"?t[0]:aV[0];a7=a1[a8+"1"];a6=a1[a8+"2"]}if(a7!=null&&a6!=null&&a7>a6){var a2=a7;a7=a6;a6=a2}return{from:a7,to:a6,axis:a4}}function ag(){Z.save();Z.translate(v.left,v.top);Z.fillStyle=aM(aj.grid.backgroundColor,C,0,"rgba(255, 255, 255, 0)");Z.fillRect(0,0,j,C);Z.restore()}function az(){var a5;Z.save();Z.translate(v.left,v.top);var a7=aj.grid.markings;if(a7){if(c.isFunction(a7)){var ba=aQ.getAxes();ba.xmin=ba.xaxis.min;ba.xmax=ba.xaxis.max;ba.ymin=ba.yaxis.min;ba.ymax=ba.yaxis.max;a7=a7(ba)}for(a5=0;a5<a7.length;++a5){var a3=a7[a5],a2=S(a3,"x"),a8=S(a3,"y");if(a2.from==null){a2.from=a2.axis.min}if(a2.to==null){a2.to=a2.axis.max}if(a8.from==null){a8.from=a8.axis.min}if(a8.to==null){a8.to=a8.axis.max}if(a2.to<a2.axis.min||a2.from>a2.axis.max||a8.to<a8.axis.min||a8.from>a8.axis.max){continue}a2.from=Math.max(a2.from,a2.axis.min);a2.to=Math.min(a2.to,a2.axis.max);a8.from=Math.max(a8.from,a8.axis.min);a8.to=Math.min(a8.to,a8.axis.max);if(a2.from==a2.to&&a8.from==a8.to){continue}a2.from=a2.axis.p2c(a2.from);a2.to=a2.axis.p2c(a2.to);a8.from=a8.axis.p2c(a8.from);a8.to=a8.axis.p2c(a8.to);if(a2.from==a2.to||a8.from==a8.to){Z.beginPath();Z.strokeStyle=a3.color||aj.grid.markingsColor;Z.lineWidth=a3.lineWidth||aj.grid.markingsLineWidth;Z.moveTo(a2.from,a8.from);Z.lineTo(a2.to,a8.to);Z.stroke()}else{Z.fillStyle=a3.color||aj.grid.markingsColor;Z.fillRect(a2.from,a8.to,a2.to-a2.from,a8.from-a8.to)}}}var ba=o(),bc=aj.grid.borderWidth;for(var a4=0;a4<ba.length;++a4){var a1=ba[a4],a6=a1.box,bg=a1.tickLength,bd,bb,bf,a9;if(!a1.show||a1.ticks.length==0){continue}Z.strokeStyle=a1.options.tickColor||c.color.parse(a1.options.color).scale("a",0.22).toString();Z.lineWidth=1;if(a1.direction=="x"){bd=0;if(bg=="full"){bb=(a1.position=="top"?0:C)}else{bb=a6.top-v.top+(a1.position=="top"?a6.height:0)}}else{bb=0;if(bg=="full"){bd=(a1.position=="left"?0:j)}else{bd=a6.left-v.left+(a1.position=="left"?a6.width:0)}}if(!a1.innermost){Z.beginPath();bf=a9=0;if(a1.direction=="x"){bf=j}else{a9=C}if(Z.lineWidth==1){bd=Math.floor(bd)+0.5;bb=Math.floor(bb)+0.5}Z.moveTo(bd,bb);Z.lineTo(bd+bf,bb+a9);Z.stroke()}Z.beginPath();for(a5=0;a5<a1.ticks.length;++a5){var be=a1.ticks[a5].v;bf=a9=0;if(be<a1.min||be>a1.max||(bg=="full"&&bc>0&&(be==a1.min||be==a1.max))){continue}if(a1.direction=="x"){bd=a1.p2c(be);a9=bg=="full"?-C:bg;if(a1.position=="top"){a9=-a9}}else{bb=a1.p2c(be);bf=bg=="full"?-j:bg;if(a1.position=="left"){bf=-bf}}if(Z.lineWidth==1){if(a1.direction=="x"){bd=Math.floor(bd)+0.5}else{bb=Math.floor(bb)+0.5}}Z.moveTo(bd,bb);Z.lineTo(bd+bf,bb+a9)}Z.stroke()}if(bc){Z.lineWidth=bc;Z.strokeStyle=aj.grid.borderColor;Z.strokeRect(-bc/2,-bc/2,j+bc,C+bc)}Z.restore()}function l(){aU.find(".tickLabels").remove();var a6=['<div class="tickLabels" style="font-size:smaller">'];var a9=o();for(var a3=0;a3<a9.length;++a3){var a2=a9[a3],a5=a2.box;if(!a2.show){continue}a6.push('<div class="'+a2.direction+"Axis "+a2.direction+a2.n+'Axis" style="color:'+a2.options.color+'">');for(var a4=0;a4<a2.ticks.length;++a4){var a7=a2.ticks[a4];if(!a7.label||a7.v<a2.min||a7.v>a2.max){continue}var ba={},a8;if(a2.direction=="x"){a8="center";ba.left=Math.round(v.left+a2.p2c(a7.v)-a2.labelWidth/2);if(a2.position=="bottom"){ba.top=a5.top+a5.padding}else{ba.bottom=aa-(a5.top+a5.height-a5.padding)}}else{ba.top=Math.round(v.top+a2.p2c(a7.v)-a2.labelHeight/2);if(a2.position=="left"){ba.right=Y-(a5.left+a5.width-a5.padding);a8="right"}else{ba.left=a5.left+a5.padding;a8="left"}}ba.width=a2.labelWidth;var a1=["position:absolute","text-align:"+a8];for(var bb in ba){a1.push(bb+":"+ba[bb]+"px")}a6.push('<div class="tickLabel" style="'+a1.join(";")+'">'+a7.label+"</div>")}a6.push("</div>")}a6.push("</div>");aU.append(a6.join(""))}function d(a1){if(a1.lines.show){aS(a1)}if(a1.bars.show){f(a1)}if(a1.points.show){aO(a1)}}function av(a1,a2){d(c.extend({},a1,{datapoints:{points:a2,pointsize:a1.datapoints.pointsize,format:a1.datapoints.format}}))}function u(a3,a6){if(a6<=0){return}var a4=a3.datapoints.points,a8=a3.datapoints.pointsize,a5=a6*a8,a7=[];for(var a2=0;a2<a4.length;a2+=a5){for(var a1=0;a1<a8;++a1){a7.push(a4[a2+a1])}}av(a3,a7)}function I(){var a1=document.createElement("canvas");if(!a1.getContext){return null}a1.width=Y;a1.height=aa;return a1}function P(a2,a1,a6,a5){if(!a1){return}var a4=a2.datapoints.pointsize;if(a2.lines.show&&a6>0){--a6}var a3=Z;Z=a1.getContext("2d");try{av(a2,a2.datapoints.points.slice(a6*a4,a5*a4))}finally{Z=a3}}function aL(){aI=true;try{ar()}finally{aI=false;x=[]}}function aS(a4){function a3(bf,bg,a8,bk,bj){var bl=bf.points,a9=bf.pointsize,bd=null,bc=null,bm=a4.lines.decimate?c.plot.columnDecimator(Z):Z;Z.beginPath();for(var be=a9;be<bl.length;be+=a9){var bb=bl[be-a9],bi=bl[be-a9+1],ba=bl[be],bh=bl[be+1];if(bb==null||ba==null){continue}if(bi<=bh&&bi<bj.min){if(bh<bj.min){continue}bb=(bj.min-bi)/(bh-bi)*(ba-bb)+bb;bi=bj.min}else{if(bh<=bi&&bh<bj.min){if(bi<bj.min){continue}ba=(bj.min-bi)/(bh-bi)*(ba-bb)+bb;bh=bj.min}}if(bi>=bh&&bi>bj.max){if(bh>bj.max){continue}bb=(bj.max-bi)/(bh-bi)*(ba-bb)+bb;bi=bj.max}else{if(bh>=bi&&bh>bj.max){if(bi>bj.max){continue}ba=(bj.max-bi)/(bh-bi)*(ba-bb)+bb;bh=bj.max}}if(bb<=ba&&bb<bk.min){if(ba<bk.min){continue}bi=(bk.min-bb)/(ba-bb)*(bh-bi)+bi;bb=bk.min}else{if(ba<=bb&&ba<bk.min){if(bb<bk.min){continue}bh=(bk.min-bb)/(ba-bb)*(bh-bi)+bi;ba=bk.min}}if(bb>=ba&&bb>bk.max){if(ba>bk.max){continue}bi=(bk.max-bb)/(ba-bb)*(bh-bi)+bi;bb=bk.max}else{if(ba>=bb&&ba>bk.max){if(bb>bk.max){continue}bh=(bk.max-bb)/(ba-bb)*(bh-bi)+bi;ba=bk.max}}if(bb!=bd||bi!=bc){bm.moveTo(bk.p2c(bb)+bg,bj.p2c(bi)+a8)}bd=ba;bc=bh;bm.lineTo(bk.p2c(ba)+bg,bj.p2c(bh)+a8)}if(bm!=Z){bm.flush()}Z.stroke()}function a5(a8,bg,bf){var bm=a8.points,bl=a8.pointsize,bd=Math.min(Math.max(0,bf.min),bf.max),bn=0,bk,bj=false,bc=1,bb=0,bh=0;while(true){if(bl>0&&bn>bm.length+bl){break}bn+=bl;var bp=bm[bn-bl],ba=bm[bn-bl+bc],bo=bm[bn],a9=bm[bn+bc];if(bj){if(bl>0&&bp!=null&&bo==null){bh=bn;bl=-bl;bc=2;continue}if(bl<0&&bn==bb+bl){Z.fill();bj=false;bl=-bl;bc=1;bn=bb=bh+bl;continue}}if(bp==null||bo==null){continue}if(bp<=bo&&bp<bg.min){if(bo<bg.min){continue}ba=(bg.min-bp)/(bo-bp)*(a9-ba)+ba;bp=bg.min}else{if(bo<=bp&&bo<bg.min){if(bp<bg.min){continue}a9=(bg.min-bp)/(bo-bp)*(a9-ba)+ba;bo=bg.min}}if(bp>=bo&&bp>bg.max){if(bo>bg.max){continue}ba=(bg.max-bp)/(bo-bp)*(a9-ba)+ba;bp=bg.max}else{if(bo>=bp&&bo>bg.max){if(bp>bg.max){continue}a9=(bg.max-bp)/(bo-bp)*(a9-ba)+ba;bo=bg.max}}if(!bj){Z.beginPath();Z.moveTo(bg.p2c(bp),bf.p2c(bd));bj=true}if(ba>=bf.max&&a9>=bf.max){Z.lineTo(bg.p2c(bp),bf.p2c(bf.max));Z.lineTo(bg.p2c(bo),bf.p2c(bf.max));continue}else{if(ba<=bf.min&&a9<=bf.min){Z.lineTo(bg.p2c(bp),bf.p2c(bf.min));Z.lineTo(bg.p2c(bo),bf.p2c(bf.min));continue}}var be=bp,bi=bo;if(ba<=a9&&ba<bf.min&&a9>=bf.min){bp=(bf.min-ba)/(a9-ba)*(bo-bp)+bp;ba=bf.min}else{if(a9<=ba&&a9<bf.min&&ba>=bf.min){bo=(bf.min-ba)/(a9-ba)*(bo-bp)+bp;a9=bf.min}}if(ba>=a9&&ba>bf.max&&a9<=bf.max){bp=(bf.max-ba)/(a9-ba)*(bo-bp)+bp;ba=bf.max}else{if(a9>=ba&&a9>bf.max&&ba<=bf.max){bo=(bf.max-ba)/(a9-ba)*(bo-bp)+bp;a9=bf.max}}if(bp!=be){Z.lineTo(bg.p2c(be),bf.p2c(ba))}Z.lineTo(bg.p2c(bp),bf.p2c(ba));Z.lineTo(bg.p2c(bo),bf.p2c(a9));if(bo!=bi){Z.lineTo(bg.p2c(bo),bf.p2c(a9));Z.lineTo(bg.p2c(bi),bf.p2c(a9))}}}Z.save();Z.translate(v.left,v.top);Z.lineJoin="round";var a6=a4.lines.lineWidth,a1=a4.shadowSize;if(a6>0&&a1>0){Z.lineWidth=a1;Z.strokeStyle="rgba(0,0,0,0.1)";var a7=Math.PI/18;a3(a4.datapoints,Math.sin(a7)*(a6/2+a1/2),Math.cos(a7)*(a6/2+a1/2),a4.xaxis,a4.yaxis);Z.lineWidth=a1/2;a3(a4.datapoints,Math.sin(a7)*(a6/2+a1/4),Math.cos(a7)*(a6/2+a1/4),a4.xaxis,a4.yaxis)}Z.lineWidth=a6;Z.strokeStyle=a4.color;var a2=aB(a4.lines,a4.color,0,C);if(a2){Z.fillStyle=a2;a5(a4.datapoints,a4.xaxis,a4.yaxis)}if(a6>0){a3(a4.datapoints,0,0,a4.xaxis,a4.yaxis)}Z.restore()}function aO(a4){function a7(bd,bc,bk,ba,bi,bj,bg,a9){var bh=bd.points,a8=bd.pointsize;for(var bb=0;bb<bh.length;bb+=a8){var bf=bh[bb],be=bh[bb+1];if(bf==null||bf<bj.min||bf>bj.max||be<bg.min||be>bg.max){continue}Z.beginPath();bf=bj.p2c(bf);be=bg.p2c(be)+ba;if(a9=="circle"){Z.arc(bf,be,bc,0,bi?Math.PI:Math.PI*2,false)}else{a9(Z,bf,be,bc,bi)}Z.closePath();if(bk){Z.fillStyle=bk;Z.fill()}Z.stroke()}}Z.save();Z.translate(v.left,v.top);var a6=a4.points.lineWidth,a2=a4.shadowSize,a1=a4.points.radius,a5=a4.points.symbol;if(a6>0&&a2>0){var a3=a2/2;Z.lineWidth=a3;Z.strokeStyle="rgba(0,0,0,0.1)";a7(a4.datapoints,a1,null,a3+a3/2,true,a4.xaxis,a4.yaxis,a5);Z.strokeStyle="rgba(0,0,0,0.2)";a7(a4.datapoints,a1,null,a3/2,true,a4.xaxis,a4.yaxis,a5)}Z.lineWidth=a6;Z.strokeStyle=a4.color;a7(a4.datapoints,a1,aB(a4.points,a4.color),0,false,a4.xaxis,a4.yaxis,a5);Z.restore()}function T(bd,bc,bl,a8,bg,a5,a3,bb,ba,bk,bh,a2){var a4,bj,a9,bf,a6,a1,be,a7,bi;if(bh){a7=a1=be=true;a6=false;a4=bl;bj=bd;bf=bc+a8;a9=bc+bg;if(bj<a4){bi=bj;bj=a4;a4=bi;a6=true;a1=false}}else{a6=a1=be=true;a7=false;a4=bd+a8;bj=bd+bg;a9=bl;bf=bc;if(bf<a9){bi=bf;bf=a9;a9=bi;a7=true;be=false}}if(bj<bb.min||a4>bb.max||bf<ba.min||a9>ba.max){return}if(a4<bb.min){a4=bb.min;a6=false}if(bj>bb.max){bj=bb.max;a1=false}if(a9<ba.min){a9=ba.min;a7=false}if(bf>ba.max){bf=ba.max;be=false}a4=bb.p2c(a4);a9=ba.p2c(a9);bj=bb.p2c(bj);bf=ba.p2c(bf);if(a3){bk.beginPath();bk.moveTo(a4,a9);bk.lineTo(a4,bf);bk.lineTo(bj,bf);bk.lineTo(bj,a9);bk.fillStyle=a3(a9,bf);bk.fill()}if(a2>0&&(a6||a1||be||a7)){bk.beginPath();bk.moveTo(a4,a9+a5);if(a6){bk.lineTo(a4,bf+a5)}else{bk.moveTo(a4,bf+a5)}if(be){bk.lineTo(bj,bf+a5)}else{bk.moveTo(bj,bf+a5)}if(a1){bk.lineTo(bj,a9+a5)}else{bk.moveTo(bj,a9+a5)}if(a7){bk.lineTo(a4,a9+a5)}else{bk.moveTo(a4,a9+a5)}bk.stroke()}}function f(a3){function a2(a9,a8,bb,a6,ba,bd,bc){var be=a9.points,a5=a9.pointsize;for(var a7=0;a7<be.length;a7+=a5){if(be[a7]==null){continue}T(be[a7],be[a7+1],be[a7+2],a8,bb,a6,ba,bd,bc,Z,a3.bars.horizontal,a3.bars.lineWidth)}}Z.save();Z.translate(v.left,v.top);Z.lineWidth=a3.bars.lineWidth;Z.strokeStyle=a3.color;if(a3.multipleBars){var a1=a3.bars.barLeft}else{var a1=a3.bars.align=="left"?0:-a3.bars.barWidth/2}var a4=a3.bars.fill?function(a5,a6){return aB(a3.bars,a3.color,a5,a6)}:null;a2(a3.datapoints,a1,a1+a3.bars.barWidth,0,a4,a3.xaxis,a3.yaxis);Z.restore()}function aB(a3,a1,a2,a5){var a4=a3.fill;if(!a4){return null}if(a3.fillColor){return aM(a3.fillColor,a2,a5,a1)}var a6=c.color.parse(a1);a6.a=typeof a4=="number"?a4:0.4;a6.normalize();return a6.toString()}function s(){aU.find(".legend").remove();if(!aj.legend.show){return}var a7=[],a5=false,bd=aj.legend.labelFormatter,bc,a9;for(var a4=0;a4<al.length;++a4){bc=al[a4];a9=bc.label;if(!a9){continue}if(a4%aj.legend.noColumns==0){if(a5){a7.push("</tr>")}a7.push("<tr>");a5=true}if(bd){a9=bd(a9,bc)}a7.push('<td class="legendColorBox"><div style="border:1px solid '+aj.legend.labelBoxBorderColor+';padding:1px"><div style="width:4px;height:0;border:5px solid '+bc.color+';overflow:hidden"></div></div></td><td class="legendLabel">'+a9+"</td>")}if(a5){a7.push("</tr>")}if(a7.length==0){return}var bb='<table style="font-size:smaller;color:'+aj.grid.color+'">'+a7.join("")+"</table>";if(aj.legend.container!=null){c(aj.legend.container).html(bb)}else{var a8="",a2=aj.legend.position,a3=aj.legend.margin;if(a3[0]==null){a3=[a3,a3]}if(a2.charAt(0)=="n"){a8+="top:"+(a3[1]+v.top)+"px;"}else{if(a2.charAt(0)=="s"){a8+="bottom:"+(a3[1]+v.bottom)+"px;"}}if(a2.charAt(1)=="e"){a8+="right:"+(a3[0]+v.right)+"px;"}else{if(a2.charAt(1)=="w"){a8+="left:"+(a3[0]+v.left)+"px;"}}var ba=c('<div class="legend">'+bb.replace('style="','style="position:absolute;'+a8+";")+"</div>").appendTo(aU);if(aj.legend.backgroundOpacity!=0){var a6=aj.legend.backgroundColor;if(a6==null){a6=aj.grid.backgroundColor;if(a6&&typeof a6=="string"){a6=c.color.parse(a6)}else{a6=c.color.extract(ba,"background-color")}a6.a=1;a6=a6.toString()}var a1=ba.children();c('<div style="position:absolute;width:'+a1.width()+"px;height:"+a1.height()+"px;"+a8+"background-color:"+a6+';"> </div>').prependTo(ba).css("opacity",aj.legend.backgroundOpacity)}}}var ay=[],af=null,D=null,e=null,L=null,n=0,G=false,q=false,aY=window.requestAnimationFrame||window.webkitRequestAnimationFrame||window.mozRequestAnimationFrame||function(a1){return setTimeout(a1,16)},ac=window.cancelAnimationFrame||window.webkitCancelAnimationFrame||window.mozCancelAnimationFrame||clearTimeout;aQ.suspendHover=function(a1){q=a1};function O(a2,a1){if(ah[a1]===undefined){var a3=aj.grid.hoverIndex;ah[a1]=(a3=="sorted"&&aE(a2))||M(a2)}return ah[a1]}function aE(a9){var a8=a9.datapoints.points,a1=a9.datapoints.pointsize,a2=a8.length/a1,a7=a9.xaxis,a6=a9.yaxis,a5=aj.grid.mouseActiveRadius,a3=-Infinity,a4;for(a4=0;a4<a8.length;a4+=a1){if(a8[a4]==null||a8[a4]<a3){return null}a3=a8[a4]}return function(bd,bb){var bm=a7.c2p(bd-a5),bl=a7.c2p(bd+a5),bi=Math.min(bm,bl),bc=Math.max(bm,bl),be=0,bh=a2,bg={dist:a5*a5+1,index:-1};while(be<bh){var ba=(be+bh)>>1;if(a8[ba*a1]<bi){be=ba+1}else{bh=ba}}for(var bf=be;bf<a2&&a8[bf*a1]<=bc;++bf){var bk=a8[bf*a1+1];if(bk==null){continue}var bo=a7.p2c(a8[bf*a1])-bd,bn=a6.p2c(bk)-bb,bj=bo*bo+bn*bn;if(bj<bg.dist){bg.dist=bj;bg.index=bf}}return bg}}function M(bg){var bk=bg.datapoints.points,bh=bg.datapoints.pointsize,ba=bg.xaxis,a9=bg.yaxis,a6=aj.grid.mouseActiveRadius,a1=Math.max(a6,1),be=Math.ceil(j/a1)+3,bc=Math.ceil(C/a1)+3,a5={},a4=[],bf=[],bj;function bl(bm,bn){return bn*be+bm}for(bj=0;bj<bk.length;bj+=bh){var bd=bk[bj],bb=bk[bj+1];if(bd==null||bb==null){continue}var a3=ba.p2c(bd),a2=a9.p2c(bb),a7=Math.floor(a3/a1)+1,a8=Math.floor(a2/a1)+1;if(a7<0||a7>=be||a8<0||a8>=bc){continue}var bi=bl(a7,a8);(a5[bi]||(a5[bi]=[])).push(bj/bh);a4[bj/bh]=a3;bf[bj/bh]=a2}return function(bq,bp){var bo=Math.floor(bq/a1)+1,by=Math.floor(bp/a1)+1,br={dist:a6*a6+1,index:-1};for(var bu=bo-1;bu<=bo+1;++bu){for(var bm=by-1;bm<=by+1;++bm){var bn=a5[bl(bu,bm)];if(!bn||bu<0||bu>=be){continue}for(var bv=0;bv<bn.length;++bv){var bs=bn[bv],bx=a4[bs]-bq,bw=bf[bs]-bp,bt=bx*bx+bw*bw;if(bt<br.dist||(bt==br.dist&&bs<br.index)){br.dist=bt;br.index=bs}}}}return br}}function ad(a8,a6,a3){var bf=aj.grid.mouseActiveRadius,bs=bf*bf+1,bp=null,bi=false,bn,bl;for(bn=al.length-1;bn>=0;--bn){if(!a3(al[bn])){continue}var bg=al[bn],a7=bg.xaxis,a5=bg.yaxis,bm=bg.datapoints.points,bk=bg.datapoints.pointsize,bh=a7.c2p(a8),be=a5.c2p(a6),a2=bf/a7.scale,a1=bf/a5.scale;if(a7.options.inverseTransform){a2=Number.MAX_VALUE}if(a5.options.inverseTransform){a1=Number.MAX_VALUE}var br=aj.grid.hoverIndex?O(bg,bn):null;if((bg.lines.show||bg.points.show)&&br){var bd=br(a8,a6);if(bd.dist<bs){bs=bd.dist;bp=[bn,bd.index]}}else{if(bg.lines.show||bg.points.show){for(bl=0;bl<bm.length;bl+=bk){var ba=bm[bl],a9=bm[bl+1];if(ba==null){continue}if(ba-bh>a2||ba-bh<-a2||a9-be>a1||a9-be<-a1){continue}var bc=Math.abs(a7.p2c(ba)-a8),bb=Math.abs(a5.p2c(a9)-a6),bj=bc*bc+bb*bb;if(bj<bs){bs=bj;bp=[bn,bl/bk]}}}}if(bg.bars.show&&!bp){if(bg.multipleBars){var a4=bg.bars.barLeft,bo=a4+bg.bars.barWidth}else{var a4=bg.bars.align=="left"?0:-bg.bars.barWidth/2,bo=a4+bg.bars.barWidth}for(bl=0;bl<bm.length;bl+=bk){var ba=bm[bl],a9=bm[bl+1],bq=bm[bl+2];if(ba==null){continue}if(al[bn].bars.horizontal?(bh<=Math.max(bq,ba)&&bh>=Math.min(bq,ba)&&be>=a9+a4&&be<=a9+bo):(bh>=ba+a4&&bh<=ba+bo&&be>=Math.min(bq,a9)&&be<=Math.max(bq,a9))){bp=[bn,bl/bk]}}}}if(bp){bn=bp[0];bl=bp[1];bk=al[bn].datapoints.pointsize;return{datapoint:al[bn].datapoints.points.slice(bl*bk,(bl+1)*bk),dataIndex:bl,series:al[bn],seriesIndex:bn}}return null}function ax(a2){if(!aj.grid.hoverable){return}if(aj.grid.hoverThrottle==null){A("plothover",a2,function(a3){return a3.hoverable!=false});return}if(G&&a2.originalEvent&&a2.originalEvent.buttons===0){G=false}D={pageX:a2.pageX,pageY:a2.pageY};if(e==null&&L==null){var a1=n+aj.grid.hoverThrottle-new Date().getTime();e=setTimeout(function(){e=null;L=aY(p)},Math.max(0,a1))}}function p(){if(L==null){return}L=null;var a1=D;D=null;if(a1==null||G||q){return}n=new Date().getTime();A("plothover",a1,function(a2){return a2.hoverable!=false})}function F(a1){G=true}function H(a1){G=false}function m(a1){D=null;if(aj.grid.hoverable){A("plothover",a1,function(a2){return false})}}function am(a1){A("plotclick",a1,function(a2){return a2.clickable!=false})}function A(a2,a1,a3){var a4=J.offset(),a7=a1.pageX-a4.left-v.left,a5=a1.pageY-a4.top-v.top,a9=R({left:a7,top:a5});a9.pageX=a1.pageX;a9.pageY=a1.pageY;var ba=ad(a7,a5,a3);if(ba){ba.pageX=parseInt(ba.series.xaxis.p2c(ba.datapoint[0])+a4.left+v.left);ba.pageY=parseInt(ba.series.yaxis.p2c(ba.datapoint[1])+a4.top+v.top)}if(aj.grid.autoHighlight){for(var a6=0;a6<ay.length;++a6){var a8=ay[a6];if(a8.auto==a2&&!(ba&&a8.series==ba.series&&a8.point[0]==ba.datapoint[0]&&a8.point[1]==ba.datapoint[1])){ao(a8.series,a8.point)}}if(ba){E(ba.series,ba.datapoint,a2)}}aU.trigger(a2,[a9,ba])}function g(){if(!af){af=setTimeout(y,30)}}function y(){af=null;N.save();N.clearRect(0,0,Y,aa);N.translate(v.left,v.top);var a2,a1;for(a2=0;a2<ay.length;++a2){a1=ay[a2];if(a1.series.bars.show){B(a1.series,a1.point)}else{aX(a1.series,a1.point)}}N.restore();aN(aJ.drawOverlay,[N])}function E(a3,a1,a5){if(typeof a3=="number"){a3=al[a3]}if(typeof a1=="number"){var a4=a3.datapoints.pointsize;a1=a3.datapoints.points.slice(a4*a1,a4*(a1+1))}var a2=aK(a3,a1);if(a2==-1){ay.push({series:a3,point:a1,auto:a5});g()}else{if(!a5){ay[a2].auto=false}}}function ao(a3,a1){if(a3==null&&a1==null){ay=[];g()}if(typeof a3=="number"){a3=al[a3]}if(typeof a1=="number"){a1=a3.data[a1]}var a2=aK(a3,a1);if(a2!=-1){ay.splice(a2,1);g()}}function aK(a3,a4){for(var a1=0;a1<ay.length;++a1){var a2=ay[a1];if(a2.series==a3&&a2.point[0]==a4[0]&&a2.point[1]==a4[1]){return a1}}return -1}function aX(a4,a3){var a2=a3[0],a8=a3[1],a7=a4.xaxis,a6=a4.yaxis;if(a2<a7.min||a2>a7.max||a8<a6.min||a8>a6.max){return}var a5=a4.points.radius+a4.points.lineWidth/2;N.lineWidth=a5;N.strokeStyle=c.color.parse(a4.color).scale("a",0.5).toString();var a1=1.5*a5,a2=a7.p2c(a2),a8=a6.p2c(a8);N.beginPath();if(a4.points.symbol=="circle"){N.arc(a2,a8,a1,0,2*Math.PI,false)}else{a4.points.symbol(N,a2,a8,a1,false)}N.closePath();N.stroke()}function B(a4,a1){N.lineWidth=a4.bars.lineWidth;N.strokeStyle=c.color.parse(a4.color).scale("a",0.5).toString();var a3=c.color.parse(a4.color).scale("a",0.5).toString();if(a4.multipleBars){T(a1[0],a1[1],a1[2]||0,a4.bars.barLeft,a4.bars.barLeft+a4.bars.barWidth,0,function(){return a3},a4.xaxis,a4.yaxis,N,a4.bars.horizontal,a4.bars.lineWidth)}else{var a2=a4.bars.align=="left"?0:-a4.bars.barWidth/2;T(a1[0],a1[1],a1[2]||0,a2,a2+a4.bars.barWidth,0,function(){return a3},a4.xaxis,a4.yaxis,N,a4.bars.horizontal,a4.bars.lineWidth)}}function aM(a9,a1,a7,a2){if(typeof a9=="string"){return a9}else{var a8=Z.createLinearGradient(0,a7,0,a1);for(var a4=0,a3=a9.colors.length;a4<a3;++a4){var a5=a9.colors[a4];if(typeof a5!="string"){var a6=c.color.parse(a2);if(a5.brightness!=null){a6=a6.scale("rgb",a5.brightness)}if(a5.opacity!=null){a6.a*=a5.opacity}a5=a6.toString()}a8.addColorStop(a4/(a3-1),a5)}return a8}}}c.plot=function(g,e,d){var f=new b(c(g),e,d,c.plot.plugins);return f};c.plot.version="0.7";c.plot.plugins=[];c.plot.formatDate=function(l,f,h){var o=function(d){d=""+d;return d.length==1?"0"+d:d};var e=[];var p=false,j=false;var n=l.getUTCHours();var k=n<12;if(h==null){h=["Jan","Feb","Mar","Apr","May","Jun","Jul","Aug","Sep","Oct","Nov","Dec"]}if(f.search(/%p|%P/)!=-1){if(n>12){n=n-12}else{if(n==0){n=12}}}for(var g=0;g<f.length;++g){var m=f.charAt(g);if(p){switch(m){case"h":m=""+n;break;case"H":m=o(n);break;case"M":m=o(l.getUTCMinutes());break;case"S":m=o(l.getUTCSeconds());break;case"d":m=""+l.getUTCDate();break;case"m":m=""+(l.getUTCMonth()+1);break;case"y":m=""+l.getUTCFullYear();break;case"b":m=""+h[l.getUTCMonth()];break;case"p":m=(k)?("am"):("pm");break;case"P":m=(k)?("AM"):("PM");break;case"0":m="";j=true;break}if(m&&j){m=o(m);j=false}e.push(m);if(!j){p=false}}else{if(m=="%"){p=true}else{e.push(m)}}}return e.join("")};c.plot.columnDecimator=function(n){var g=null,h=0,j,m,k,f,e;function l(){if(h>1){n.lineTo(j,m);n.lineTo(j,k);n.lineTo(f,e)}g=null;h=0}function d(o,p){g=Math.floor(o);h=1;j=f=o;m=k=e=p}return{moveTo:function(o,p){l();n.moveTo(o,p);d(o,p)},lineTo:function(o,p){if(g!=null&&Math.floor(o)==g){++h;if(p<m){m=p}if(p>k){k=p}f=o;e=p;return}l();n.lineTo(o,p);d(o,p)},flush:l}};function a(e,d){return d*Math.floor(e/d)}})(jQuery);
\ No newline at end of file
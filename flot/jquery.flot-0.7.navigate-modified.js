@@ -90,12 +90,15 @@ range, so 1 is 100% (i.e. no change), 1.5 is 150% (zoom in), 0.7 is
         zoom: {
             interactive: false,
             trigger: "dblclick", // or "click" for single click
-            amount: 1.5 // how much to zoom relative to current position, 2 = 200% (zoom in), 0.5 = 50% (zoom out)
+            amount: 1.5, // how much to zoom relative to current position, 2 = 200% (zoom in), 0.5 = 50% (zoom out)
+            preview: false, // scale the last rendered bitmap while the wheel turns, redraw once it stops
+            previewDelay: 250 // how long in ms the wheel must stop before the redraw
         },
         pan: {
             interactive: false,
             cursor: "move",
-            frameRate: 20
+            frameRate: 20,
+            preview: false // translate the last rendered bitmap while dragging, redraw once released
         }
     };
 
@@ -111,10 +114,88 @@ range, so 1 is 100% (i.e. no change), 1.5 is 150% (zoom in), 0.7 is
         }
 
         function onMouseWheel(e, delta) {
-            onZoomClick(e, delta < 0);
+            var o = plot.getOptions().zoom;
+            if (o.preview) {
+                var c = plot.offset(), offset = plot.getPlotOffset();
+                previewZoom(delta < 0 ? 1 / o.amount : o.amount,
+                            e.pageX - c.left + offset.left, e.pageY - c.top + offset.top);
+                if (previewTimeout)
+                    clearTimeout(previewTimeout);
+                previewTimeout = setTimeout(commitPreview, o.previewDelay);
+            }
+            else
+                onZoomClick(e, delta < 0);
             return false;
         }
 
+        // bitmap preview of a gesture: the last rendered canvas is
+        // transformed by canvas = s * rendered + t until the gesture ends,
+        // then the plot is panned or zoomed once for real
+        var preview = null, previewTimeout = null;
+
+        function startPreview(type) {
+            if (preview && preview.type != type)
+                commitPreview();
+            if (!preview) {
+                var placeholder = plot.getPlaceholder();
+                preview = { type: type, s: 1, tx: 0, ty: 0, overflow: placeholder.css("overflow") };
+                placeholder.css("overflow", "hidden");
+                // the html labels can't follow the bitmap
+                placeholder.find(".tickLabels").hide();
+            }
+            return preview;
+        }
+
+        function applyPreview() {
+            var transform = preview ?
+                "translate(" + preview.tx + "px," + preview.ty + "px) scale(" + preview.s + ")" : "";
+            $(plot.getCanvas()).css({
+                "transform-origin": "0 0", "-webkit-transform-origin": "0 0",
+                "-moz-transform-origin": "0 0", "-ms-transform-origin": "0 0",
+                "transform": transform, "-webkit-transform": transform,
+                "-moz-transform": transform, "-ms-transform": transform
+            });
+        }
+
+        function previewZoom(amount, centerX, centerY) {
+            var p = startPreview("zoom");
+            p.s *= amount;
+            p.tx = amount * p.tx + (1 - amount) * centerX;
+            p.ty = amount * p.ty + (1 - amount) * centerY;
+            applyPreview();
+        }
+
+        function previewPan(dx, dy) {
+            var p = startPreview("pan");
+            p.tx = dx;
+            p.ty = dy;
+            applyPreview();
+        }
+
+        function commitPreview() {
+            if (previewTimeout) {
+                clearTimeout(previewTimeout);
+                previewTimeout = null;
+            }
+            if (!preview)
+                return;
+
+            var p = preview, placeholder = plot.getPlaceholder(), offset = plot.getPlotOffset();
+            preview = null;
+            applyPreview();
+            placeholder.css("overflow", p.overflow);
+            placeholder.find(".tickLabels").show();
+
+            // the zooms around successive centers compose into a single zoom
+            // around the fixed point of the transform
+            if (p.type == "zoom" && Math.abs(p.s - 1) > 1e-9)
+                plot.zoom({ amount: p.s,
+                            center: { left: p.tx / (1 - p.s) - offset.left,
+                                      top: p.ty / (1 - p.s) - offset.top } });
+            else if (p.tx != 0 || p.ty != 0)
+                plot.pan({ left: -p.tx, top: -p.ty });
+        }
+
         var prevCursor = 'default', prevPageX = 0, prevPageY = 0,
             panTimeout = null;
 
@@ -130,6 +211,11 @@ range, so 1 is 100% (i.e. no change), 1.5 is 150% (zoom in), 0.7 is
         }
 
         function onDrag(e) {
+            if (plot.getOptions().pan.preview) {
+                previewPan(e.pageX - prevPageX, e.pageY - prevPageY);
+                return;
+            }
+
             var frameRate = plot.getOptions().pan.frameRate;
             if (panTimeout || !frameRate)
                 return;
@@ -151,6 +237,11 @@ range, so 1 is 100% (i.e. no change), 1.5 is 150% (zoom in), 0.7 is
             }
 
             plot.getPlaceholder().css('cursor', prevCursor);
+            if (plot.getOptions().pan.preview) {
+                previewPan(e.pageX - prevPageX, e.pageY - prevPageY);
+                commitPreview();
+                return;
+            }
             plot.pan({ left: prevPageX - e.pageX,
                        top: prevPageY - e.pageY });
         }
@@ -295,6 +386,8 @@ range, so 1 is 100% (i.e. no change), 1.5 is 150% (zoom in), 0.7 is
             eventHolder.unbind("dragend", onDragEnd);
             if (panTimeout)
                 clearTimeout(panTimeout);
+            if (previewTimeout)
+                clearTimeout(previewTimeout);
         }
 
         plot.hooks.bindEvents.push(bindEvents);
@@ -51,6 +51,7 @@ series: {
 		highlight: {
 			opacity: 0-1
 		}
+		angleIndex: true/false, to hit-test the slices by binary searching the pointer angle instead of testing each slice path
 	}
 }
 
@@ -536,6 +537,9 @@ More detail and specific examples can be found in the included HTML file.
 				options = plot.getOptions(),
 				radius = options.series.pie.radius > 1 ? options.series.pie.radius : maxRadius * options.series.pie.radius;
 			
+			if (options.series.pie.angleIndex)
+				return findSliceByAngle(slices, options, radius, mouseX, mouseY);
+			
 			for (var i = 0; i < slices.length; ++i) 
 			{
 				var s = slices[i];	
@@ -588,6 +592,43 @@ More detail and specific examples can be found in the included HTML file.
 			return null;
 		}
 
+		// the slices are drawn in order from startAngle, so their start angles are sorted and the slice under the
+		// pointer can be found with a binary search on the pointer angle
+		function findSliceByAngle(slices, options, radius, mouseX, mouseY)
+		{
+			if (slices.length == 0 || slices[0].startAngle == null || options.series.pie.tilt <= 0)
+				return null;
+			
+			var x = mouseX - centerLeft,
+				y = (mouseY - centerTop) / options.series.pie.tilt,
+				dist = Math.sqrt(x * x + y * y),
+				inner = options.series.pie.innerRadius > 1 ? options.series.pie.innerRadius : maxRadius * options.series.pie.innerRadius;
+			
+			if (dist > radius || dist < inner)
+				return null;
+			
+			// bring the pointer angle in [startAngle, startAngle + 2PI[
+			var first = slices[0].startAngle,
+				angle = Math.atan2(y, x) - first;
+			angle = first + (angle - Math.floor(angle / (Math.PI * 2)) * Math.PI * 2);
+			
+			// last slice starting before the pointer angle
+			var lo = 0, hi = slices.length - 1;
+			while (lo < hi)
+			{
+				var mid = (lo + hi + 1) >> 1;
+				if (slices[mid].startAngle <= angle)
+					lo = mid;
+				else
+					hi = mid - 1;
+			}
+			
+			var s = slices[lo];
+			if (!s.pie.show || s.angle <= 0 || angle >= s.startAngle + s.angle)
+				return null;
+			return {datapoint: [s.percent, s.data], dataIndex: 0, series: s, seriesIndex: lo};
+		}
+
 		function onMouseMove(e) 
 		{
 			triggerClickHoverEvent('plothover', e);
@@ -746,7 +787,8 @@ More detail and specific examples can be found in the included HTML file.
 				highlight: {
 					//color: '#FFF',		// will add this functionality once parseColor is available
 					opacity: 0.5
-				}
+				},
+				angleIndex: false	// binary search the slice under the pointer from its angle
 			}
 		}
 	};
@@ -0,0 +1,141 @@
+/*
+Flot plugin for automatically redrawing plots when the placeholder
+size changes, e.g. on window resizes.
+
+It works by listening for changes on the placeholder div (through the
+jQuery resize event plugin) - if the size changes, it will redraw the
+plot.
+
+There are no options. If you need to disable the plugin for some
+plots, you can just fix the size of their placeholders.
+
+The handler bound to the placeholder is stored in the "gflotResize"
+data of the placeholder so it can be unbound without touching the
+other resize handlers, and it is unbound when the plot is shut down.
+*/
+
+
+/* Inline dependency:
+ * jQuery resize event - v1.1 - 3/14/2010
+ * http://benalman.com/projects/jquery-resize-plugin/
+ *
+ * Copyright (c) 2010 "Cowboy" Ben Alman
+ * Dual licensed under the MIT and GPL licenses.
+ * http://benalman.com/about/license/
+ */
+(function($, window, undefined) {
+    var elems = $([]),
+        jq_resize = $.resize = $.extend($.resize, {}),
+        timeout_id,
+        str_setTimeout = "setTimeout",
+        str_resize = "resize",
+        str_data = str_resize + "-special-event",
+        str_delay = "delay",
+        str_throttle = "throttleWindow";
+
+    jq_resize[str_delay] = 250;
+    jq_resize[str_throttle] = true;
+
+    $.event.special[str_resize] = {
+        setup: function() {
+            if (!jq_resize[str_throttle] && this[str_setTimeout])
+                return false;
+            var elem = $(this);
+            elems = elems.add(elem);
+            $.data(this, str_data, { w: elem.width(), h: elem.height() });
+            if (elems.length === 1)
+                loopy();
+        },
+        teardown: function() {
+            if (!jq_resize[str_throttle] && this[str_setTimeout])
+                return false;
+            var elem = $(this);
+            elems = elems.not(elem);
+            elem.removeData(str_data);
+            if (!elems.length)
+                clearTimeout(timeout_id);
+        },
+        add: function(handleObj) {
+            if (!jq_resize[str_throttle] && this[str_setTimeout])
+                return false;
+            var old_handler;
+
+            function new_handler(e, w, h) {
+                var elem = $(this),
+                    data = $.data(this, str_data);
+                data.w = w !== undefined ? w : elem.width();
+                data.h = h !== undefined ? h : elem.height();
+                old_handler.apply(this, arguments);
+            }
+
+            if ($.isFunction(handleObj)) {
+                old_handler = handleObj;
+                return new_handler;
+            } else {
+                old_handler = handleObj.handler;
+                handleObj.handler = new_handler;
+            }
+        }
+    };
+
+    function loopy() {
+        timeout_id = window[str_setTimeout](function() {
+            elems.each(function() {
+                var elem = $(this),
+                    width = elem.width(),
+                    height = elem.height(),
+                    data = $.data(this, str_data);
+                if (width !== data.w || height !== data.h)
+                    elem.trigger(str_resize, [data.w = width, data.h = height]);
+            });
+            loopy();
+        }, jq_resize[str_delay]);
+    }
+})(jQuery, this);
+
+
+(function ($) {
+    var options = { }; // no options
+
+    function init(plot) {
+        function onResize() {
+            var placeholder = plot.getPlaceholder();
+
+            // somebody might have hidden us and we can't plot
+            // when we don't have the dimensions
+            if (placeholder.width() == 0 || placeholder.height() == 0)
+                return;
+
+            plot.resize();
+            plot.setupGrid();
+            plot.draw();
+        }
+
+        function bindEvents(plot, eventHolder) {
+            var placeholder = plot.getPlaceholder();
+            placeholder.data("gflotResize", onResize);
+            placeholder.resize(onResize);
+        }
+
+        function shutdown(plot, eventHolder) {
+            // unbind the handler stored in the placeholder, it may have
+            // been replaced since the plot was created
+            var placeholder = plot.getPlaceholder(),
+                handler = placeholder.data("gflotResize");
+            if (handler) {
+                placeholder.unbind("resize", handler);
+                placeholder.removeData("gflotResize");
+            }
+        }
+
+        plot.hooks.bindEvents.push(bindEvents);
+        plot.hooks.shutdown.push(shutdown);
+    }
+
+    $.plot.plugins.push({
+        init: init,
+        options: options,
+        name: 'resize',
+        version: '1.0'
+    });
+})(jQuery);
@@ -0,0 +1 @@
+(function(g,i,c){var a=g([]),e=g.resize=g.extend(g.resize,{}),j,l="setTimeout",k="resize",d=k+"-special-event",b="delay",f="throttleWindow";e[b]=250;e[f]=true;g.event.special[k]={setup:function(){if(!e[f]&&this[l]){return false}var m=g(this);a=a.add(m);g.data(this,d,{w:m.width(),h:m.height()});if(a.length===1){h()}},teardown:function(){if(!e[f]&&this[l]){return false}var m=g(this);a=a.not(m);m.removeData(d);if(!a.length){clearTimeout(j)}},add:function(m){if(!e[f]&&this[l]){return false}var o;function n(t,p,q){var r=g(this),s=g.data(this,d);s.w=p!==c?p:r.width();s.h=q!==c?q:r.height();o.apply(this,arguments)}if(g.isFunction(m)){o=m;return n}else{o=m.handler;m.handler=n}}};function h(){j=i[l](function(){a.each(function(){var o=g(this),n=o.width(),m=o.height(),p=g.data(this,d);if(n!==p.w||m!==p.h){o.trigger(k,[p.w=n,p.h=m])}});h()},e[b])}})(jQuery,this);(function(b){var a={};function c(f){function e(){var h=f.getPlaceholder();if(h.width()==0||h.height()==0){return}f.resize();f.setupGrid();f.draw()}function g(i,h){var j=i.getPlaceholder();j.data("gflotResize",e);j.resize(e)}function d(j,h){var k=j.getPlaceholder(),i=k.data("gflotResize");if(i){k.unbind("resize",i);k.removeData("gflotResize")}}f.hooks.bindEvents.push(g);f.hooks.shutdown.push(d)}b.plot.plugins.push({init:c,options:a,name:"resize",version:"1.0"})})(jQuery);
\ No newline at end of file
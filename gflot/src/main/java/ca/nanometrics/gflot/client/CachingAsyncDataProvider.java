@@ -0,0 +1,460 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import ca.nanometrics.gflot.client.PlotWithOverviewModel.AsyncDataProvider;
+import ca.nanometrics.gflot.client.PlotWithOverviewModel.CancellableAsyncDataProvider;
+
+import com.google.gwt.user.client.rpc.AsyncCallback;
+
+/**
+ * {@link AsyncDataProvider} decorator caching the ranges already fetched for a series.
+ * <p>
+ * The fetched ranges are kept as a sorted list of disjoint intervals, the overlapping or adjacent ones being merged. A
+ * request fully covered by the cache is answered synchronously, otherwise only the missing sub-ranges are requested
+ * from the decorated provider. A missing sub-range already being requested is not requested again, the request waits
+ * for the one in progress. When the cache holds more points than its capacity, the least recently used intervals are
+ * evicted once no request is in progress.
+ * </p>
+ * <p>
+ * The ranges after the last point received are not cached, they are requested again each time since new data can
+ * still arrive there, like the live tail of a series. An empty range is cached only when it lies before that point.
+ * </p>
+ * <p>
+ * Use one instance per series. The cache assumes the data of a fetched range doesn't change, call {@link #clear()}
+ * when it does.
+ * </p>
+ */
+public class CachingAsyncDataProvider
+    implements CancellableAsyncDataProvider
+{
+    public static final int DEFAULT_MAX_POINTS = 100000;
+
+    private static final Comparator<DataPoint> X_COMPARATOR = new Comparator<DataPoint>() {
+        @Override
+        public int compare( DataPoint p1, DataPoint p2 )
+        {
+            return Double.compare( p1.getX(), p2.getX() );
+        }
+    };
+
+    private static class Interval
+    {
+        private final double from;
+
+        private final double to;
+
+        private final List<DataPoint> points;
+
+        private long lastAccess;
+
+        Interval( double from, double to, List<DataPoint> points )
+        {
+            this.from = from;
+            this.to = to;
+            this.points = points;
+        }
+    }
+
+    /**
+     * A sub-range requested from the decorated provider and the requests waiting for it
+     */
+    private static class PendingRequest
+    {
+        private final double from;
+
+        private final double to;
+
+        private final List<AsyncCallback<Void>> waiters = new ArrayList<AsyncCallback<Void>>();
+
+        PendingRequest( double from, double to )
+        {
+            this.from = from;
+            this.to = to;
+        }
+    }
+
+    private final AsyncDataProvider provider;
+
+    private final int maxPoints;
+
+    private final List<Interval> intervals = new ArrayList<Interval>();
+
+    private final List<PendingRequest> pendingRequests = new ArrayList<PendingRequest>();
+
+    private int size;
+
+    private double lastX = Double.NEGATIVE_INFINITY;
+
+    private long accessCount;
+
+    public CachingAsyncDataProvider( AsyncDataProvider provider )
+    {
+        this( provider, DEFAULT_MAX_POINTS );
+    }
+
+    /**
+     * @param provider the provider to decorate
+     * @param maxPoints the maximum number of points kept in the cache. An interval bigger than this number is still
+     * kept while it is the only one.
+     */
+    public CachingAsyncDataProvider( AsyncDataProvider provider, int maxPoints )
+    {
+        assert null != provider : "provider can't be null";
+        assert maxPoints > 0 : "maxPoints must be positive";
+
+        this.provider = provider;
+        this.maxPoints = maxPoints;
+    }
+
+    @Override
+    public void getData( final double x1, final double x2, final AsyncCallback<DataPoint[]> callback )
+    {
+        List<double[]> gaps = findGaps( x1, x2 );
+        if ( gaps.isEmpty() )
+        {
+            callback.onSuccess( collect( x1, x2 ) );
+            return;
+        }
+
+        List<PendingRequest> attached = new ArrayList<PendingRequest>();
+        List<double[]> missing = new ArrayList<double[]>();
+        for ( double[] gap : gaps )
+        {
+            splitGap( gap[0], gap[1], attached, missing );
+        }
+
+        final int[] pending = new int[] { attached.size() + missing.size() };
+        final boolean[] failed = new boolean[1];
+        AsyncCallback<Void> waiter = new AsyncCallback<Void>() {
+            @Override
+            public void onFailure( Throwable caught )
+            {
+                if ( !failed[0] )
+                {
+                    failed[0] = true;
+                    callback.onFailure( caught );
+                }
+            }
+
+            @Override
+            public void onSuccess( Void result )
+            {
+                if ( --pending[0] == 0 && !failed[0] )
+                {
+                    DataPoint[] points = collect( x1, x2 );
+                    if ( pendingRequests.isEmpty() )
+                    {
+                        evict();
+                    }
+                    callback.onSuccess( points );
+                }
+            }
+        };
+        for ( PendingRequest request : attached )
+        {
+            request.waiters.add( waiter );
+        }
+        for ( double[] range : missing )
+        {
+            fetch( range[0], range[1], waiter );
+        }
+    }
+
+    /**
+     * Split a range missing from the cache between the requests in progress covering it and the sub-ranges to request
+     */
+    private void splitGap( double from, double to, List<PendingRequest> attached, List<double[]> missing )
+    {
+        List<PendingRequest> overlapping = new ArrayList<PendingRequest>();
+        for ( PendingRequest request : pendingRequests )
+        {
+            if ( request.from < to && request.to > from )
+            {
+                overlapping.add( request );
+            }
+        }
+        Collections.sort( overlapping, new Comparator<PendingRequest>() {
+            @Override
+            public int compare( PendingRequest r1, PendingRequest r2 )
+            {
+                return Double.compare( r1.from, r2.from );
+            }
+        } );
+
+        double x = from;
+        for ( PendingRequest request : overlapping )
+        {
+            if ( request.from > x )
+            {
+                missing.add( new double[] { x, request.from } );
+            }
+            if ( !attached.contains( request ) )
+            {
+                attached.add( request );
+            }
+            x = Math.max( x, request.to );
+        }
+        if ( x < to )
+        {
+            missing.add( new double[] { x, to } );
+        }
+    }
+
+    private void fetch( final double from, final double to, AsyncCallback<Void> waiter )
+    {
+        final PendingRequest request = new PendingRequest( from, to );
+        request.waiters.add( waiter );
+        pendingRequests.add( request );
+        provider.getData( from, to, new AsyncCallback<DataPoint[]>() {
+            @Override
+            public void onFailure( Throwable caught )
+            {
+                pendingRequests.remove( request );
+                for ( AsyncCallback<Void> requestWaiter : new ArrayList<AsyncCallback<Void>>( request.waiters ) )
+                {
+                    requestWaiter.onFailure( caught );
+                }
+            }
+
+            @Override
+            public void onSuccess( DataPoint[] result )
+            {
+                pendingRequests.remove( request );
+                insert( from, to, result );
+                for ( AsyncCallback<Void> requestWaiter : new ArrayList<AsyncCallback<Void>>( request.waiters ) )
+                {
+                    requestWaiter.onSuccess( null );
+                }
+            }
+        } );
+    }
+
+    /**
+     * Cancel the requests in progress of the decorated provider, if it is a {@link CancellableAsyncDataProvider}. The
+     * following requests don't wait for the cancelled ones.
+     */
+    @Override
+    public void cancel()
+    {
+        pendingRequests.clear();
+        if ( provider instanceof CancellableAsyncDataProvider )
+        {
+            ( (CancellableAsyncDataProvider) provider ).cancel();
+        }
+    }
+
+    /**
+     * @return true if the range [x1, x2] is fully cached
+     */
+    public boolean contains( double x1, double x2 )
+    {
+        return findGaps( x1, x2 ).isEmpty();
+    }
+
+    /**
+     * Remove all the cached ranges
+     */
+    public void clear()
+    {
+        intervals.clear();
+        size = 0;
+        lastX = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * @return the number of points in the cache
+     */
+    public int getSize()
+    {
+        return size;
+    }
+
+    /**
+     * @return the sub-ranges of [x1, x2] not covered by the cache
+     */
+    private List<double[]> findGaps( double x1, double x2 )
+    {
+        List<double[]> gaps = new ArrayList<double[]>();
+        double x = x1;
+        for ( Interval interval : intervals )
+        {
+            if ( interval.to < x )
+            {
+                continue;
+            }
+            if ( interval.from > x2 )
+            {
+                break;
+            }
+            if ( interval.from > x )
+            {
+                gaps.add( new double[] { x, interval.from } );
+            }
+            x = interval.to;
+        }
+        if ( x < x2 )
+        {
+            gaps.add( new double[] { x, x2 } );
+        }
+        return gaps;
+    }
+
+    /**
+     * Add a fetched range to the cache, merging it with the intervals it overlaps or touches. The points already cached
+     * are kept over the fetched ones. The part of the range after the last point received is not cached.
+     */
+    private void insert( double from, double to, DataPoint[] fetched )
+    {
+        for ( DataPoint point : fetched )
+        {
+            lastX = Math.max( lastX, point.getX() );
+        }
+        to = Math.min( to, lastX );
+        if ( to < from )
+        {
+            // nothing received yet in or before the range, new data may still arrive
+            return;
+        }
+
+        List<DataPoint> points = new ArrayList<DataPoint>();
+        List<Interval> merged = new ArrayList<Interval>();
+        int index = 0;
+        while ( index < intervals.size() && intervals.get( index ).to < from )
+        {
+            index++;
+        }
+        while ( index < intervals.size() && intervals.get( index ).from <= to )
+        {
+            merged.add( intervals.remove( index ) );
+        }
+
+        for ( DataPoint point : fetched )
+        {
+            double x = point.getX();
+            if ( x < from || x > to || isInside( merged, x ) )
+            {
+                continue;
+            }
+            points.add( point );
+        }
+
+        double mergedFrom = from;
+        double mergedTo = to;
+        for ( Interval interval : merged )
+        {
+            mergedFrom = Math.min( mergedFrom, interval.from );
+            mergedTo = Math.max( mergedTo, interval.to );
+            points.addAll( interval.points );
+            size -= interval.points.size();
+        }
+        Collections.sort( points, X_COMPARATOR );
+
+        Interval interval = new Interval( mergedFrom, mergedTo, points );
+        interval.lastAccess = ++accessCount;
+        intervals.add( index, interval );
+        size += points.size();
+    }
+
+    private static boolean isInside( List<Interval> intervals, double x )
+    {
+        for ( Interval interval : intervals )
+        {
+            if ( interval.from <= x && x <= interval.to )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the cached points in [x1, x2]
+     */
+    private DataPoint[] collect( double x1, double x2 )
+    {
+        List<DataPoint> result = new ArrayList<DataPoint>();
+        long access = ++accessCount;
+        for ( Interval interval : intervals )
+        {
+            if ( interval.to < x1 )
+            {
+                continue;
+            }
+            if ( interval.from > x2 )
+            {
+                break;
+            }
+            interval.lastAccess = access;
+            List<DataPoint> points = interval.points;
+            for ( int i = lowerBound( points, x1 ); i < points.size() && points.get( i ).getX() <= x2; i++ )
+            {
+                result.add( points.get( i ) );
+            }
+        }
+        return result.toArray( new DataPoint[result.size()] );
+    }
+
+    private static int lowerBound( List<DataPoint> points, double x )
+    {
+        int low = 0;
+        int high = points.size();
+        while ( low < high )
+        {
+            int mid = ( low + high ) >>> 1;
+            if ( points.get( mid ).getX() < x )
+            {
+                low = mid + 1;
+            }
+            else
+            {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Evict the least recently used intervals until the cache fits in its capacity
+     */
+    private void evict()
+    {
+        while ( size > maxPoints && intervals.size() > 1 )
+        {
+            Interval oldest = intervals.get( 0 );
+            for ( Interval interval : intervals )
+            {
+                if ( interval.lastAccess < oldest.lastAccess )
+                {
+                    oldest = interval;
+                }
+            }
+            intervals.remove( oldest );
+            size -= oldest.points.size();
+        }
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import ca.nanometrics.gflot.client.event.CrosshairGroupListener;
+import ca.nanometrics.gflot.client.event.PlotHoverListener;
+import ca.nanometrics.gflot.client.event.PlotItem;
+import ca.nanometrics.gflot.client.event.PlotPosition;
+import ca.nanometrics.gflot.client.jsni.Plot;
+import ca.nanometrics.gflot.client.util.AnimationFrame;
+
+import com.google.gwt.core.client.JsArrayNumber;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.EventTarget;
+import com.google.gwt.event.dom.client.MouseOutEvent;
+import com.google.gwt.event.dom.client.MouseOutHandler;
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.user.client.Command;
+
+/**
+ * Shares the crosshair of several plots. The x position of the mouse over any plot of the group is broadcast to all the
+ * other plots once per animation frame, and the values under the cursor are delivered to the listeners in one batch.
+ * The crosshairs are cleared when the mouse leaves the hovered plot.
+ * The plots must have a hoverable grid and the crosshair plugin enabled, preferably in the x mode since only the x
+ * position is shared.
+ */
+public class CrosshairGroup
+{
+    /**
+     * Handlers bound to a plot of the group
+     */
+    private static class Member
+    {
+        private final PlotHoverListener hoverListener;
+
+        private final HandlerRegistration mouseOutRegistration;
+
+        Member( PlotHoverListener hoverListener, HandlerRegistration mouseOutRegistration )
+        {
+            this.hoverListener = hoverListener;
+            this.mouseOutRegistration = mouseOutRegistration;
+        }
+    }
+
+    private final List<SimplePlot> plots = new ArrayList<SimplePlot>();
+
+    private final Map<SimplePlot, Member> members = new HashMap<SimplePlot, Member>();
+
+    private final List<CrosshairGroupListener> listeners = new ArrayList<CrosshairGroupListener>();
+
+    private final Interpolation interpolation;
+
+    private SimplePlot source;
+
+    private double x;
+
+    private boolean frameRequested;
+
+    private final Command broadcast = new Command() {
+        @Override
+        public void execute()
+        {
+            frameRequested = false;
+            broadcast();
+        }
+    };
+
+    public CrosshairGroup()
+    {
+        this( Interpolation.LINEAR );
+    }
+
+    /**
+     * @param interpolation the way the values delivered to the listeners are computed between two data points
+     */
+    public CrosshairGroup( Interpolation interpolation )
+    {
+        this.interpolation = interpolation;
+    }
+
+    /**
+     * Add a plot to the group
+     */
+    public void add( final SimplePlot plot )
+    {
+        if ( plots.contains( plot ) )
+        {
+            return;
+        }
+        plots.add( plot );
+
+        PlotHoverListener hoverListener = new PlotHoverListener() {
+            @Override
+            public void onPlotHover( Plot jsPlot, PlotPosition position, PlotItem item )
+            {
+                if ( null != position.getX() )
+                {
+                    onMove( plot, position.getX() );
+                }
+            }
+        };
+        plot.addHoverListener( hoverListener, false );
+
+        HandlerRegistration mouseOutRegistration = plot.addMouseOutHandler( new MouseOutHandler() {
+            @Override
+            public void onMouseOut( MouseOutEvent event )
+            {
+                // moving between the canvases and the labels of the plot is not leaving it
+                EventTarget target = event.getRelatedTarget();
+                if ( null != target && Element.is( target ) && plot.getElement().isOrHasChild( Element.as( target ) ) )
+                {
+                    return;
+                }
+                onLeave( plot );
+            }
+        } );
+
+        members.put( plot, new Member( hoverListener, mouseOutRegistration ) );
+    }
+
+    /**
+     * Remove a plot from the group
+     */
+    public void remove( SimplePlot plot )
+    {
+        if ( !plots.remove( plot ) )
+        {
+            return;
+        }
+        Member member = members.remove( plot );
+        plot.removeHoverListener( member.hoverListener );
+        member.mouseOutRegistration.removeHandler();
+
+        if ( plot == source )
+        {
+            onLeave( plot );
+        }
+        else if ( null != source && plot.isPlotLoaded() )
+        {
+            plot.clearCrosshair();
+        }
+    }
+
+    public void addListener( CrosshairGroupListener listener )
+    {
+        listeners.add( listener );
+    }
+
+    public void removeListener( CrosshairGroupListener listener )
+    {
+        listeners.remove( listener );
+    }
+
+    /**
+     * Clear the crosshair of all the plots of the group
+     */
+    public void clear()
+    {
+        source = null;
+        for ( SimplePlot plot : plots )
+        {
+            if ( plot.isPlotLoaded() )
+            {
+                plot.clearCrosshair();
+            }
+        }
+    }
+
+    private void onMove( SimplePlot plot, double x )
+    {
+        // only the latest position is broadcast
+        this.source = plot;
+        this.x = x;
+        if ( !frameRequested )
+        {
+            frameRequested = true;
+            AnimationFrame.request( broadcast );
+        }
+    }
+
+    private void onLeave( SimplePlot plot )
+    {
+        if ( plot != source )
+        {
+            return;
+        }
+        // the crosshair of the plot left is cleared by the crosshair plugin
+        source = null;
+        for ( SimplePlot member : plots )
+        {
+            if ( member != plot && member.isPlotLoaded() )
+            {
+                member.clearCrosshair();
+            }
+        }
+    }
+
+    private void broadcast()
+    {
+        if ( null == source )
+        {
+            return;
+        }
+
+        SimplePlot[] members = plots.toArray( new SimplePlot[plots.size()] );
+        PlotPosition position = new PlotPosition().setX( x );
+        for ( SimplePlot plot : members )
+        {
+            // the crosshair of the hovered plot follows the mouse by itself
+            if ( plot != source && plot.isPlotLoaded() )
+            {
+                plot.setCrosshair( position );
+            }
+        }
+
+        if ( listeners.isEmpty() )
+        {
+            return;
+        }
+        JsArrayNumber[] values = new JsArrayNumber[members.length];
+        for ( int i = 0; i < members.length; i++ )
+        {
+            values[i] = members[i].isPlotLoaded() ? members[i].valuesAtX( x, interpolation ) : null;
+        }
+        for ( CrosshairGroupListener listener : listeners )
+        {
+            listener.onCrosshairMoved( x, source, members, values );
+        }
+    }
+}
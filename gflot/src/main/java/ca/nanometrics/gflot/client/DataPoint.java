@@ -24,6 +24,7 @@ package ca.nanometrics.gflot.client;
 import ca.nanometrics.gflot.client.util.JSONArrayWrapper;
 
 import com.google.gwt.json.client.JSONArray;
+import com.google.gwt.json.client.JSONValue;
 
 /**
  * @author AlexanderDeleon
@@ -41,6 +42,14 @@ public class DataPoint
         super( array );
     }
 
+    /**
+     * Wraps the native data point, both share the same values
+     */
+    public DataPoint( JsDataPoint point )
+    {
+        super( new JSONArray( point ) );
+    }
+
     /**
      * @param x Coordinate for x axis
      * @param y Coordinate for y axis
@@ -65,32 +74,41 @@ public class DataPoint
 
     public void setX( double x )
     {
-        set( 0, new Double( x ) );
+        getJsDataPoint().setX( x );
     }
 
     public void setY( double y )
     {
-        set( 1, new Double( y ) );
+        getJsDataPoint().setY( y );
     }
 
     public void setBottomY( double bottomY )
     {
-        set( 2, new Double( bottomY ) );
+        getJsDataPoint().setBottomY( bottomY );
     }
 
     public double getX()
     {
-        return get( 0 ).isNumber().doubleValue();
+        return getJsDataPoint().getX();
     }
 
     public double getY()
     {
-        return get( 1 ).isNumber().doubleValue();
+        return getJsDataPoint().getY();
     }
 
     public double getBottomY()
     {
-        return get( 2 ).isNumber().doubleValue();
+        return getJsDataPoint().getBottomY();
+    }
+
+    /**
+     * @return the native data point wrapped by this object
+     */
+    public JsDataPoint getJsDataPoint()
+    {
+        JSONValue array = getWrappedObj();
+        return array.isArray().getJavaScriptObject().cast();
     }
 
 }
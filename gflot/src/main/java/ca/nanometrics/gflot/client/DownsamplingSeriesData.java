@@ -56,6 +56,11 @@ public class DownsamplingSeriesData extends SeriesData {
 		}
 	}
 
+	@Override
+	public void add(JsDataPoint dataPoint) {
+		add(new DataPoint(dataPoint));
+	}
+
 	private void decimate() {
 		m_downsamplingRate /= 2;
 		int bufferSize = 4;
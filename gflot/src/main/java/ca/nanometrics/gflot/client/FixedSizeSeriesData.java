@@ -43,6 +43,11 @@ public class FixedSizeSeriesData extends SeriesData {
 		}
 	}
 
+	@Override
+	public void add(JsDataPoint dataPoint) {
+		add(new DataPoint(dataPoint));
+	}
+
 	private void shiftDown() {
 		int currentSize = size();
 		for (int i = 0; i < currentSize - 1; i++) {
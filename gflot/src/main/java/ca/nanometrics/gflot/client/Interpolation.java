@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client;
+
+/**
+ * Way a value is computed at an x coordinate falling between two data points.
+ */
+public enum Interpolation
+{
+    /**
+     * Linear interpolation between the data points surrounding x. Outside the series, the value is NaN.
+     */
+    LINEAR( "linear" ),
+    /**
+     * Value of the data point nearest to x
+     */
+    NEAREST( "nearest" ),
+    /**
+     * Value of the last data point at or before x, like a step line. Before the series, the value is NaN.
+     */
+    PREVIOUS( "previous" );
+
+    private final String flotValue;
+
+    Interpolation( String flotValue )
+    {
+        this.flotValue = flotValue;
+    }
+
+    public String getFlotValue()
+    {
+        return flotValue;
+    }
+}
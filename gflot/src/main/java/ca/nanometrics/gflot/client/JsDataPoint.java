@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client;
+
+import com.google.gwt.core.client.JavaScriptObject;
+
+/**
+ * Overlay type over the native [x, y, bottomY] array of a data point. Unlike {@link DataPoint}, the accessors read and
+ * write the native array directly without boxing the values.
+ */
+public class JsDataPoint
+    extends JavaScriptObject
+{
+    /**
+     * @param x Coordinate for x axis
+     * @param y Coordinate for y axis
+     */
+    public static native JsDataPoint create( double x, double y )
+    /*-{
+		return [ x, y ];
+    }-*/;
+
+    /**
+     * @param x Coordinate for x axis
+     * @param y Coordinate for y axis
+     * @param bottomY Bottom of the filled area/bar for filled lines and bars.
+     */
+    public static native JsDataPoint create( double x, double y, double bottomY )
+    /*-{
+		return [ x, y, bottomY ];
+    }-*/;
+
+    protected JsDataPoint()
+    {
+        // empty
+    }
+
+    public final native double getX()
+    /*-{
+		return this[0];
+    }-*/;
+
+    public final native void setX( double x )
+    /*-{
+		this[0] = x;
+    }-*/;
+
+    public final native double getY()
+    /*-{
+		return this[1];
+    }-*/;
+
+    public final native void setY( double y )
+    /*-{
+		this[1] = y;
+    }-*/;
+
+    /**
+     * @return true if the bottom of the filled area/bar is set
+     */
+    public final native boolean hasBottomY()
+    /*-{
+		return this.length > 2 && this[2] != null;
+    }-*/;
+
+    public final native double getBottomY()
+    /*-{
+		return this[2];
+    }-*/;
+
+    public final native void setBottomY( double bottomY )
+    /*-{
+		this[2] = bottomY;
+    }-*/;
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.event.logical.shared.ResizeEvent;
+import com.google.gwt.event.logical.shared.ResizeHandler;
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.user.client.Timer;
+import com.google.gwt.user.client.Window;
+
+/**
+ * Coordinates the resizing of the plots that have their resize managed (see {@link SimplePlot#setManagedResize(boolean)}).
+ * <p>
+ * The size of every managed plot is checked in a single pass when the browser window is resized, when the size of a
+ * plot is set or when {@link #checkSize()} is called. While the size of a plot keeps changing (e.g. a splitter is
+ * dragged), the last rendered frame is only scaled to the new size. Once the size has not changed for the settle
+ * delay, the plot is resized and redrawn at full quality. The sizes are polled only until every plot is redrawn.
+ * </p>
+ * <p>
+ * A layout change resizing the plots without resizing the window, like a splitter or an animation, must call
+ * {@link #checkSize()}.
+ * </p>
+ */
+public class PlotResizeManager
+{
+    public static final int DEFAULT_POLLING_INTERVAL = 100; // ms
+
+    public static final int DEFAULT_SETTLE_DELAY = 250; // ms
+
+    private static PlotResizeManager instance;
+
+    public static PlotResizeManager get()
+    {
+        if ( null == instance )
+        {
+            instance = new PlotResizeManager();
+        }
+        return instance;
+    }
+
+    private static class PlotSizeState
+    {
+        private int renderedWidth;
+
+        private int renderedHeight;
+
+        private int observedWidth;
+
+        private int observedHeight;
+
+        private double lastChange;
+
+        PlotSizeState( int width, int height )
+        {
+            renderedWidth = observedWidth = width;
+            renderedHeight = observedHeight = height;
+        }
+
+        boolean isRendered()
+        {
+            return renderedWidth == observedWidth && renderedHeight == observedHeight;
+        }
+    }
+
+    private final Map<SimplePlot, PlotSizeState> plots = new LinkedHashMap<SimplePlot, PlotSizeState>();
+
+    private final Timer timer = new Timer() {
+        @Override
+        public void run()
+        {
+            if ( !checkSizes() )
+            {
+                cancel();
+                running = false;
+            }
+        }
+    };
+
+    private HandlerRegistration resizeRegistration;
+
+    private boolean running;
+
+    private int pollingInterval = DEFAULT_POLLING_INTERVAL;
+
+    private int settleDelay = DEFAULT_SETTLE_DELAY;
+
+    protected PlotResizeManager()
+    {
+        // use get()
+    }
+
+    /**
+     * Register a plot. The plot must be loaded.
+     *
+     * @param plot plot to manage
+     */
+    void register( SimplePlot plot )
+    {
+        Element element = plot.getElement();
+        plots.put( plot, new PlotSizeState( element.getClientWidth(), element.getClientHeight() ) );
+        if ( null == resizeRegistration )
+        {
+            resizeRegistration = Window.addResizeHandler( new ResizeHandler() {
+                @Override
+                public void onResize( ResizeEvent event )
+                {
+                    checkSize();
+                }
+            } );
+        }
+    }
+
+    /**
+     * Unregister a plot.
+     *
+     * @param plot plot to unregister
+     */
+    void unregister( SimplePlot plot )
+    {
+        plots.remove( plot );
+        if ( plots.isEmpty() )
+        {
+            if ( null != resizeRegistration )
+            {
+                resizeRegistration.removeHandler();
+                resizeRegistration = null;
+            }
+            if ( running )
+            {
+                timer.cancel();
+                running = false;
+            }
+        }
+    }
+
+    /**
+     * Check the size of every managed plot, to call when the layout resizes the plots without resizing the browser
+     * window. The sizes are then polled until the plots are redrawn at their new size.
+     */
+    public void checkSize()
+    {
+        if ( checkSizes() )
+        {
+            startPolling();
+        }
+    }
+
+    /**
+     * Notify the manager that the size of the plot has been changed programmatically. The preview is shown immediately
+     * and the full redraw is done once the size settles.
+     *
+     * @param plot plot resized
+     */
+    void onSizeChanged( SimplePlot plot )
+    {
+        PlotSizeState state = plots.get( plot );
+        if ( null != state )
+        {
+            Element element = plot.getElement();
+            if ( observe( plot, state, element.getClientWidth(), element.getClientHeight(),
+                Duration.currentTimeMillis() ) )
+            {
+                startPolling();
+            }
+        }
+    }
+
+    /**
+     * @return the interval in milliseconds between two checks of the plots size while a plot is resized
+     */
+    public int getPollingInterval()
+    {
+        return pollingInterval;
+    }
+
+    /**
+     * Set the interval in milliseconds between two checks of the plots size while a plot is resized
+     */
+    public void setPollingInterval( int pollingInterval )
+    {
+        assert pollingInterval > 0 : "pollingInterval must be positive";
+
+        this.pollingInterval = pollingInterval;
+        if ( running )
+        {
+            timer.scheduleRepeating( pollingInterval );
+        }
+    }
+
+    /**
+     * @return the time in milliseconds the size of a plot must stay unchanged before it is redrawn at full quality
+     */
+    public int getSettleDelay()
+    {
+        return settleDelay;
+    }
+
+    /**
+     * Set the time in milliseconds the size of a plot must stay unchanged before it is redrawn at full quality
+     */
+    public void setSettleDelay( int settleDelay )
+    {
+        this.settleDelay = settleDelay;
+    }
+
+    private void startPolling()
+    {
+        if ( !running )
+        {
+            timer.scheduleRepeating( pollingInterval );
+            running = true;
+        }
+    }
+
+    /**
+     * @return true if a plot is not redrawn at its size yet
+     */
+    private boolean checkSizes()
+    {
+        double now = Duration.currentTimeMillis();
+        List<SimplePlot> plotList = new ArrayList<SimplePlot>( plots.keySet() );
+        int size = plotList.size();
+
+        // read all the sizes first so the layout is computed only once
+        int[] widths = new int[size];
+        int[] heights = new int[size];
+        for ( int i = 0; i < size; i++ )
+        {
+            Element element = plotList.get( i ).getElement();
+            widths[i] = element.getClientWidth();
+            heights[i] = element.getClientHeight();
+        }
+
+        boolean resizing = false;
+        for ( int i = 0; i < size; i++ )
+        {
+            SimplePlot plot = plotList.get( i );
+            resizing |= observe( plot, plots.get( plot ), widths[i], heights[i], now );
+        }
+        return resizing;
+    }
+
+    /**
+     * @return true if the plot is not redrawn at its size yet
+     */
+    private boolean observe( SimplePlot plot, PlotSizeState state, int width, int height, double now )
+    {
+        if ( width <= 0 || height <= 0 )
+        {
+            // the plot is hidden, nothing to draw until the next check
+            return false;
+        }
+
+        if ( width != state.observedWidth || height != state.observedHeight )
+        {
+            state.observedWidth = width;
+            state.observedHeight = height;
+            state.lastChange = now;
+            plot.previewSize( width, height );
+        }
+        else if ( !state.isRendered() && now - state.lastChange >= settleDelay )
+        {
+            state.renderedWidth = width;
+            state.renderedHeight = height;
+            plot.redrawAfterResize();
+        }
+        return !state.isRendered();
+    }
+}
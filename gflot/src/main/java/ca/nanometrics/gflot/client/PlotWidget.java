@@ -55,6 +55,16 @@ public interface PlotWidget
      */
     void setHeight( int height );
 
+    /**
+     * @return true if the resize of the plot is handled by the {@link PlotResizeManager}
+     */
+    boolean isManagedResize();
+
+    /**
+     * Set if the resize of the plot is handled by the {@link PlotResizeManager}
+     */
+    void setManagedResize( boolean managedResize );
+
     void setLinearSelection( double x1, double x2 );
 
     void setRectangularSelection( double x1, double y1, double x2, double y2 );
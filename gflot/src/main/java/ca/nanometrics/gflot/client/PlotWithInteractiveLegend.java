@@ -147,6 +147,16 @@ public class PlotWithInteractiveLegend
         plot.setHeight( height );
     }
 
+    public boolean isManagedResize()
+    {
+        return plot.isManagedResize();
+    }
+
+    public void setManagedResize( boolean managedResize )
+    {
+        plot.setManagedResize( managedResize );
+    }
+
     public void setLinearSelection( double x1, double x2 )
     {
         plot.setLinearSelection( x1, x2 );
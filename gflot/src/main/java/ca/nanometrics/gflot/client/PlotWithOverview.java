@@ -27,6 +27,7 @@ import ca.nanometrics.gflot.client.event.PlotSelectedListener;
 import ca.nanometrics.gflot.client.event.PlotSelectingListener;
 import ca.nanometrics.gflot.client.event.PlotUnselectedListener;
 import ca.nanometrics.gflot.client.options.GlobalSeriesOptions;
+import ca.nanometrics.gflot.client.options.JsAxisOptions;
 import ca.nanometrics.gflot.client.options.LegendOptions;
 import ca.nanometrics.gflot.client.options.LineSeriesOptions;
 import ca.nanometrics.gflot.client.options.PlotOptions;
@@ -45,7 +46,7 @@ import com.google.gwt.user.client.ui.Widget;
  */
 public class PlotWithOverview
     extends Composite
-    implements PlotWidget, PlotSelectedListener
+    implements PlotWidget, PlotSelectedListener, PlotSelectingListener, PlotUnselectedListener
 {
     public static final int DEFAULT_OVERVIEW_HEIGHT = 100; // px
 
@@ -61,6 +62,14 @@ public class PlotWithOverview
 
     private final PlotWithOverviewModel model;
 
+    private boolean livePreview;
+
+    private boolean previewing;
+
+    private Double previewSavedMin;
+
+    private Double previewSavedMax;
+
     public PlotWithOverview( PlotWithOverviewModel model )
     {
         this( model, new PlotOptions() );
@@ -198,6 +207,8 @@ public class PlotWithOverview
         double[] selection = model.getSelection();
         if ( selection[0] < selection[1] )
         {
+            // the provider may have new data for the same selection
+            model.invalidateWindow();
             overviewPlot.setSelection( new PlotSelectionArea().setX( new Range( selection[0], selection[1] ) ), false );
         }
         windowPlot.redraw();
@@ -209,6 +220,36 @@ public class PlotWithOverview
         windowPlot.setHeight( height - getOverviewHeight() );
     }
 
+    public boolean isManagedResize()
+    {
+        return windowPlot.isManagedResize();
+    }
+
+    public void setManagedResize( boolean managedResize )
+    {
+        windowPlot.setManagedResize( managedResize );
+        overviewPlot.setManagedResize( managedResize );
+    }
+
+    public boolean isLivePreview()
+    {
+        return livePreview;
+    }
+
+    /**
+     * Set the live preview mode. When enabled, the window plot follows the selection while it is dragged by changing
+     * only its x axis range and redrawing the data already loaded. The window series are populated once, when the
+     * selection is released.
+     */
+    public void setLivePreview( boolean livePreview )
+    {
+        this.livePreview = livePreview;
+        if ( !livePreview )
+        {
+            endPreview();
+        }
+    }
+
     public void setWindowHeight( int height )
     {
         windowPlot.setHeight( height );
@@ -254,7 +295,18 @@ public class PlotWithOverview
     /* ------------------------- SelectionListener API -- */
     public void onPlotSelected( PlotSelectionArea area )
     {
+        boolean previewed = previewing;
+        endPreview();
         Range xRange = area.getX();
+        if ( model.isSelection( xRange.getFrom(), xRange.getTo() ) )
+        {
+            // e.g. the same selection released again, the window is already up to date
+            if ( previewed )
+            {
+                windowPlot.redraw();
+            }
+            return;
+        }
         model.setSelection( xRange.getFrom(), xRange.getTo(), new Command() {
             public void execute()
             {
@@ -263,6 +315,36 @@ public class PlotWithOverview
         } );
     }
 
+    public void onPlotSelecting( PlotSelectionArea area )
+    {
+        Range xRange = area.getX();
+        if ( !livePreview || null == xRange || !windowPlot.isPlotLoaded() )
+        {
+            return;
+        }
+
+        JsAxisOptions xAxisOptions = windowPlot.getJsPlotOptions().getXAxisOptions();
+        if ( !previewing )
+        {
+            previewSavedMin = xAxisOptions.getMinimum();
+            previewSavedMax = xAxisOptions.getMaximum();
+            previewing = true;
+        }
+        xAxisOptions.setMinimum( xRange.getFrom() ).setMaximum( xRange.getTo() );
+        windowPlot.setupGrid();
+        windowPlot.draw();
+    }
+
+    public void onPlotUnselected()
+    {
+        if ( previewing )
+        {
+            endPreview();
+            windowPlot.setupGrid();
+            windowPlot.draw();
+        }
+    }
+
     /* -------------------------- Helper Methods -- */
     private Widget createUi()
     {
@@ -276,6 +358,38 @@ public class PlotWithOverview
     private void setupPlots()
     {
         overviewPlot.addSelectedListener( this );
+        overviewPlot.addSelectingListener( this );
+        overviewPlot.addUnselectedListener( this );
+    }
+
+    /**
+     * Restore the x axis range of the window plot as it was before the live preview
+     */
+    private void endPreview()
+    {
+        if ( !previewing )
+        {
+            return;
+        }
+        previewing = false;
+
+        JsAxisOptions xAxisOptions = windowPlot.getJsPlotOptions().getXAxisOptions();
+        if ( null == previewSavedMin )
+        {
+            xAxisOptions.clearMinimum();
+        }
+        else
+        {
+            xAxisOptions.setMinimum( previewSavedMin );
+        }
+        if ( null == previewSavedMax )
+        {
+            xAxisOptions.clearMaximum();
+        }
+        else
+        {
+            xAxisOptions.setMaximum( previewSavedMax );
+        }
     }
 
 }
@@ -21,9 +21,14 @@
  */
 package ca.nanometrics.gflot.client;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import ca.nanometrics.gflot.client.util.Algorithm;
 
 import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
 import com.google.gwt.user.client.Command;
 import com.google.gwt.user.client.rpc.AsyncCallback;
 
@@ -43,6 +48,8 @@ public class PlotWithOverviewModel
         private DataPoint lastDataPoint;
         private DataPoint firstDataPoint;
         private boolean lockSelection;
+        private boolean requestPending;
+        private boolean windowRequestPending;
 
         public PlotWithOverviewSeriesHandler( Series series, SeriesData data )
         {
@@ -57,12 +64,17 @@ public class PlotWithOverviewModel
         {
             super.add( datapoint );
             overviewHandler.add( datapoint );
-            if ( lockSelection && selection[1] < datapoint.getX() )
+            if ( lockSelection )
             {
-                double diff = datapoint.getX() - lastDataPoint.getX();
-                double x1 = selection[0] + diff;
-                double x2 = selection[1] + diff;
-                setSelection( Math.max( x1, selection[0] ), Math.max( x2, selection[1] ) );
+                // the window follows the live data, it is updated in place without requesting the provider
+                if ( selection[1] < datapoint.getX() )
+                {
+                    double diff = datapoint.getX() - lastDataPoint.getX();
+                    double x1 = selection[0] + diff;
+                    double x2 = selection[1] + diff;
+                    shiftSelection( Math.max( x1, selection[0] ), Math.max( x2, selection[1] ) );
+                }
+                windowHandler.add( datapoint );
             }
             if ( firstDataPoint == null )
             {
@@ -71,6 +83,12 @@ public class PlotWithOverviewModel
             lastDataPoint = datapoint;
         }
 
+        @Override
+        public void add( JsDataPoint datapoint )
+        {
+            add( new DataPoint( datapoint ) );
+        }
+
         @Override
         public void clear()
         {
@@ -80,6 +98,7 @@ public class PlotWithOverviewModel
             lastDataPoint = null;
             firstDataPoint = null;
             lockSelection = false;
+            windowValid = false;
         }
 
         @Override
@@ -88,6 +107,7 @@ public class PlotWithOverviewModel
             super.setData( newData );
             overviewHandler.setData( newData );
             windowHandler.clear();
+            windowValid = false;
         }
 
         @Override
@@ -103,39 +123,225 @@ public class PlotWithOverviewModel
             this.provider = provider;
         }
 
-        void populateWindowSeries( final Command toExcuteAfterSelection )
+        void populateWindowSeries( final Command toExcuteAfterSelection, final int requestGeneration )
         {
+            if ( requestPending && provider instanceof CancellableAsyncDataProvider )
+            {
+                ( (CancellableAsyncDataProvider) provider ).cancel();
+            }
+            requestPending = false;
+
             final double x1 = getWindowMinX();
             final double x2 = getWindowMaxX();
-            windowHandler.clear();
             if ( x1 < x2 )
             {
-                provider.getData( x1, x2, new AsyncCallback<DataPoint[]>() {
-                    @Override
-                    public void onFailure( Throwable caught )
-                    {
-                        GWT.log( "Failed to obtain data for PlotWithOverview", caught );
-                        if ( toExcuteAfterSelection != null )
-                        {
-                            toExcuteAfterSelection.execute();
-                        }
-                    }
+                if ( !coarseToFine )
+                {
+                    windowHandler.clear();
+                }
+                requestPending = true;
+                windowRequestPending = true;
+                requestWindowData( toExcuteAfterSelection, requestGeneration, x1, x2, 0 );
+            }
+            else
+            {
+                windowRequestPending = false;
+                windowHandler.clear();
+                if ( toExcuteAfterSelection != null )
+                {
+                    toExcuteAfterSelection.execute();
+                }
+            }
+        }
 
-                    @Override
-                    public void onSuccess( DataPoint[] result )
-                    {
-                        for ( DataPoint point : result )
+        /**
+         * Request the data of the window. When the window is filled coarse to fine and the provider accepts a
+         * resolution hint, each refinement resolution is requested first and its data swapped in as it arrives.
+         */
+        private void requestWindowData( final Command toExcuteAfterSelection, final int requestGeneration,
+                                        final double x1, final double x2, final int step )
+        {
+            if ( coarseToFine && step < refinementResolutions.length && provider instanceof ResolutionAsyncDataProvider )
+            {
+                ( (ResolutionAsyncDataProvider) provider ).getData( x1, x2, refinementResolutions[step],
+                    new AsyncCallback<DataPoint[]>() {
+                        @Override
+                        public void onFailure( Throwable caught )
                         {
-                            windowHandler.add( point );
+                            if ( requestGeneration == generation )
+                            {
+                                requestWindowData( toExcuteAfterSelection, requestGeneration, x1, x2, step + 1 );
+                            }
                         }
-                        lockSelection = x2 >= lastDataPoint.getX();
-                        if ( toExcuteAfterSelection != null )
+
+                        @Override
+                        public void onSuccess( DataPoint[] result )
                         {
-                            toExcuteAfterSelection.execute();
+                            if ( requestGeneration == generation )
+                            {
+                                setWindowData( result, x2 );
+                                scheduleRefinementRedraw( requestGeneration );
+                                requestWindowData( toExcuteAfterSelection, requestGeneration, x1, x2, step + 1 );
+                            }
                         }
+                    } );
+                return;
+            }
+
+            provider.getData( x1, x2, new AsyncCallback<DataPoint[]>() {
+                @Override
+                public void onFailure( Throwable caught )
+                {
+                    if ( requestGeneration != generation )
+                    {
+                        // a newer selection has been made
+                        return;
                     }
-                } );
+                    requestPending = false;
+                    windowRequestPending = false;
+                    GWT.log( "Failed to obtain data for PlotWithOverview", caught );
+                    if ( toExcuteAfterSelection != null )
+                    {
+                        toExcuteAfterSelection.execute();
+                    }
+                }
+
+                @Override
+                public void onSuccess( DataPoint[] result )
+                {
+                    if ( requestGeneration != generation )
+                    {
+                        // a newer selection has been made
+                        return;
+                    }
+                    requestPending = false;
+                    windowRequestPending = false;
+                    setWindowData( result, x2 );
+                    if ( toExcuteAfterSelection != null )
+                    {
+                        toExcuteAfterSelection.execute();
+                    }
+                    schedulePrefetch( requestGeneration, x1, x2 );
+                }
+            } );
+        }
+
+        /**
+         * Fill the window with the data the overview holds for it
+         */
+        void setCoarseWindowData()
+        {
+            windowHandler.clear();
+            SeriesData data = overviewHandler.getData();
+            if ( data.size() == 0 )
+            {
+                return;
             }
+            double x1 = getWindowMinX();
+            double x2 = getWindowMaxX();
+            if ( x1 < x2 )
+            {
+                for ( DataPoint point : new LocalDataProvider( data ).getData( x1, x2 ) )
+                {
+                    windowHandler.add( point );
+                }
+            }
+        }
+
+        void setWindowData( DataPoint[] result, double x2 )
+        {
+            windowHandler.clear();
+            for ( DataPoint point : result )
+            {
+                windowHandler.add( point );
+            }
+            // a series without data yet does not follow the live data
+            lockSelection = null != lastDataPoint && x2 >= lastDataPoint.getX();
+        }
+
+        /**
+         * Once the window is loaded, request the neighbouring windows so a following pan is served by the cache of the
+         * provider
+         */
+        private void schedulePrefetch( final int requestGeneration, double x1, double x2 )
+        {
+            if ( prefetchBudget <= 0 || provider instanceof AsyncDataProviderWrapper || null == lastDataPoint )
+            {
+                return;
+            }
+
+            // nearest ranges first, alternating right and left
+            final List<double[]> ranges = new ArrayList<double[]>();
+            double width = x2 - x1;
+            double min = firstDataPoint.getX();
+            double max = lastDataPoint.getX();
+            for ( int i = 1; i <= prefetchBudget; i++ )
+            {
+                addPrefetchRange( ranges, x2 + ( i - 1 ) * width, x2 + i * width, min, max );
+                addPrefetchRange( ranges, x1 - i * width, x1 - ( i - 1 ) * width, min, max );
+            }
+            if ( ranges.isEmpty() )
+            {
+                return;
+            }
+
+            Scheduler.get().scheduleDeferred( new ScheduledCommand() {
+                @Override
+                public void execute()
+                {
+                    prefetch( requestGeneration, ranges, 0 );
+                }
+            } );
+        }
+
+        private void addPrefetchRange( List<double[]> ranges, double from, double to, double min, double max )
+        {
+            from = Math.max( from, min );
+            to = Math.min( to, max );
+            if ( from >= to )
+            {
+                return;
+            }
+            if ( provider instanceof CachingAsyncDataProvider
+                && ( (CachingAsyncDataProvider) provider ).contains( from, to ) )
+            {
+                return;
+            }
+            ranges.add( new double[] { from, to } );
+        }
+
+        /**
+         * Request the prefetch ranges one after the other, until a new selection is made
+         */
+        private void prefetch( final int requestGeneration, final List<double[]> ranges, final int index )
+        {
+            if ( requestGeneration != generation || index >= ranges.size() )
+            {
+                return;
+            }
+
+            double[] range = ranges.get( index );
+            requestPending = true;
+            provider.getData( range[0], range[1], new AsyncCallback<DataPoint[]>() {
+                @Override
+                public void onFailure( Throwable caught )
+                {
+                    if ( requestGeneration == generation )
+                    {
+                        requestPending = false;
+                    }
+                }
+
+                @Override
+                public void onSuccess( DataPoint[] result )
+                {
+                    if ( requestGeneration == generation )
+                    {
+                        requestPending = false;
+                        prefetch( requestGeneration, ranges, index + 1 );
+                    }
+                }
+            } );
         }
 
         private double getWindowMinX()
@@ -213,6 +419,62 @@ public class PlotWithOverviewModel
         void getData( double x1, double x2, AsyncCallback<DataPoint[]> callback );
     }
 
+    /**
+     * {@link AsyncDataProvider} able to abort its requests in progress. It is cancelled when the selection changes
+     * before the data of the previous selection has been received.
+     */
+    public interface CancellableAsyncDataProvider
+        extends AsyncDataProvider
+    {
+        /**
+         * Cancel the requests in progress. Their callbacks may still be called, their result is then ignored.
+         */
+        void cancel();
+    }
+
+    /**
+     * Provider returning the window data of all the series in a single request
+     */
+    public interface BatchAsyncDataProvider
+    {
+        /**
+         * @param handlers the series to return the data for
+         * @param x1 the start of the window
+         * @param x2 the end of the window
+         * @param callback the callback to call with the data points of each series, in the order of the handlers
+         */
+        void getData( SeriesHandler[] handlers, double x1, double x2, AsyncCallback<DataPoint[][]> callback );
+    }
+
+    /**
+     * {@link BatchAsyncDataProvider} able to abort its request in progress. It is cancelled when the selection changes
+     * before the data of the previous selection has been received.
+     */
+    public interface CancellableBatchAsyncDataProvider
+        extends BatchAsyncDataProvider
+    {
+        /**
+         * Cancel the request in progress. Its callback may still be called, its result is then ignored.
+         */
+        void cancel();
+    }
+
+    /**
+     * {@link AsyncDataProvider} accepting a resolution hint, used to refine the window progressively (see
+     * {@link PlotWithOverviewModel#setRefinementResolutions(int...)})
+     */
+    public interface ResolutionAsyncDataProvider
+        extends AsyncDataProvider
+    {
+        /**
+         * @param x1 the start of the window
+         * @param x2 the end of the window
+         * @param resolution the number of points wanted for the window, the provider can return more or less
+         * @param callback the callback to call with the data points
+         */
+        void getData( double x1, double x2, int resolution, AsyncCallback<DataPoint[]> callback );
+    }
+
     private class AsyncDataProviderWrapper
         implements AsyncDataProvider
     {
@@ -238,7 +500,7 @@ public class PlotWithOverviewModel
         }
     }
 
-    private static class PopulateCommand
+    private class PopulateCommand
         implements Command
     {
         private Command toExecuteAfterAllDataPopulated;
@@ -260,6 +522,10 @@ public class PlotWithOverviewModel
             nbSeriesPopulated++;
             if ( nbSeriesPopulated == nbSeries )
             {
+                if ( pendingCommand == toExecuteAfterAllDataPopulated )
+                {
+                    pendingCommand = null;
+                }
                 toExecuteAfterAllDataPopulated.execute();
             }
         }
@@ -268,6 +534,15 @@ public class PlotWithOverviewModel
     private final PlotModel windowModel;
     private final PlotModel overviewModel;
     private final double[] selection = new double[2];
+    private int generation;
+    private Command pendingCommand;
+    private int prefetchBudget;
+    private BatchAsyncDataProvider batchProvider;
+    private boolean batchRequestPending;
+    private boolean coarseToFine;
+    private int[] refinementResolutions = new int[0];
+    private boolean refinementRedrawScheduled;
+    private boolean windowValid;
 
     public PlotWithOverviewModel( PlotModelStrategy strategy )
     {
@@ -286,9 +561,83 @@ public class PlotWithOverviewModel
         ( (PlotWithOverviewSeriesHandler) handler ).setDataProvider( provider );
     }
 
+    /**
+     * Set the provider returning the window data of all the series at once. When set, a selection change sends one
+     * request for the visible series instead of one request per series through their own provider. The window of the
+     * hidden series is cleared, it is requested again on the next redraw.
+     * <p>
+     * The batch provider only returns the full resolution data of the window: the prefetching (see
+     * {@link #setPrefetchBudget(int)}) and the refinement resolutions (see {@link #setRefinementResolutions(int...)})
+     * are not used with it. Filling the window coarse to fine still shows the data of the overview until the batch
+     * request completes.
+     * </p>
+     *
+     * @param batchProvider the batch provider, null to use the provider of each series again
+     */
+    public void setBatchDataProvider( BatchAsyncDataProvider batchProvider )
+    {
+        this.batchProvider = batchProvider;
+    }
+
+    public BatchAsyncDataProvider getBatchDataProvider()
+    {
+        return batchProvider;
+    }
+
+    /**
+     * Set if the window is filled coarse to fine. When enabled, a new window is filled right away with the data the
+     * overview holds for it and the selection command is executed. The data from the provider then replaces it as it
+     * arrives.
+     */
+    public void setCoarseToFine( boolean coarseToFine )
+    {
+        this.coarseToFine = coarseToFine;
+    }
+
+    public boolean isCoarseToFine()
+    {
+        return coarseToFine;
+    }
+
+    /**
+     * Set the intermediate resolutions requested, in order, before the full resolution data when the window is filled
+     * coarse to fine. They are only requested from the providers implementing {@link ResolutionAsyncDataProvider}.
+     * The window is redrawn after each refinement.
+     *
+     * @param refinementResolutions the number of points wanted for each refinement step, e.g. 500 then 5000
+     */
+    public void setRefinementResolutions( int... refinementResolutions )
+    {
+        this.refinementResolutions = null == refinementResolutions ? new int[0] : refinementResolutions;
+    }
+
+    public int[] getRefinementResolutions()
+    {
+        return refinementResolutions;
+    }
+
+    /**
+     * Set the number of selection widths prefetched on each side of the window once it is loaded. The data is requested
+     * from the provider of each series in the background and the prefetching is abandoned as soon as the selection
+     * changes. It is meant for providers keeping the data they return, like {@link CachingAsyncDataProvider}. 0, the
+     * default, disables the prefetching.
+     */
+    public void setPrefetchBudget( int prefetchBudget )
+    {
+        assert prefetchBudget >= 0 : "prefetchBudget can't be negative";
+
+        this.prefetchBudget = prefetchBudget;
+    }
+
+    public int getPrefetchBudget()
+    {
+        return prefetchBudget;
+    }
+
     @Override
     protected SeriesHandler createSeriesHandler( Series series, SeriesData data )
     {
+        windowValid = false;
         return new PlotWithOverviewSeriesHandler( series, data );
     }
 
@@ -321,17 +670,224 @@ public class PlotWithOverviewModel
     {
         selection[0] = x1;
         selection[1] = x2;
+        windowValid = true;
+
+        // the responses to the previous selections are ignored. A selection replacing one still being populated
+        // takes over its command so it is executed once, with the data of the latest selection.
+        generation++;
+        if ( null == toExcuteAfterSelection )
+        {
+            toExcuteAfterSelection = pendingCommand;
+        }
+        pendingCommand = toExcuteAfterSelection;
 
         Command command = null;
         if ( null != toExcuteAfterSelection )
         {
-            command = new PopulateCommand( toExcuteAfterSelection, getHandlers().size() );
+            if ( getHandlers().isEmpty() )
+            {
+                pendingCommand = null;
+                toExcuteAfterSelection.execute();
+                return;
+            }
+            command = new PopulateCommand( toExcuteAfterSelection, null == batchProvider ? getHandlers().size() : 1 );
+        }
+
+        if ( coarseToFine )
+        {
+            for ( SeriesHandler handler : getHandlers() )
+            {
+                ( (PlotWithOverviewSeriesHandler) handler ).setCoarseWindowData();
+            }
+        }
+
+        if ( null != batchProvider )
+        {
+            populateWindowSeries( command, generation );
+        }
+        else
+        {
+            for ( SeriesHandler handler : getHandlers() )
+            {
+                ( (PlotWithOverviewSeriesHandler) handler ).populateWindowSeries( command, generation );
+            }
+        }
+
+        // show the coarse data unless the window has already been populated
+        if ( coarseToFine && null != toExcuteAfterSelection && pendingCommand == toExcuteAfterSelection )
+        {
+            toExcuteAfterSelection.execute();
+        }
+    }
+
+    /**
+     * Move the selection following the live data. The points falling out of the window are removed in place, the new
+     * points being appended by the handlers. The windows still being populated are requested again for the new
+     * selection, the responses to the previous one being ignored.
+     */
+    private void shiftSelection( double x1, double x2 )
+    {
+        selection[0] = x1;
+        selection[1] = x2;
+        generation++;
+
+        List<PlotWithOverviewSeriesHandler> pendingHandlers = new ArrayList<PlotWithOverviewSeriesHandler>();
+        for ( SeriesHandler handler : getHandlers() )
+        {
+            PlotWithOverviewSeriesHandler overviewSeriesHandler = (PlotWithOverviewSeriesHandler) handler;
+            overviewSeriesHandler.windowHandler.getData().removeBefore( x1 );
+            if ( overviewSeriesHandler.windowRequestPending )
+            {
+                pendingHandlers.add( overviewSeriesHandler );
+            }
+        }
+
+        if ( null != batchProvider )
+        {
+            if ( batchRequestPending )
+            {
+                populateWindowSeries( null == pendingCommand ? null : new PopulateCommand( pendingCommand, 1 ),
+                    generation );
+            }
+        }
+        else if ( !pendingHandlers.isEmpty() )
+        {
+            Command command =
+                null == pendingCommand ? null : new PopulateCommand( pendingCommand, pendingHandlers.size() );
+            for ( PlotWithOverviewSeriesHandler handler : pendingHandlers )
+            {
+                handler.populateWindowSeries( command, generation );
+            }
+        }
+    }
+
+    /**
+     * Mark the window as outdated so the next selection populates it again, even if it is the same
+     */
+    void invalidateWindow()
+    {
+        windowValid = false;
+    }
+
+    /**
+     * @return true if the window holds the data of the given selection
+     */
+    boolean isSelection( double x1, double x2 )
+    {
+        return windowValid && selection[0] == x1 && selection[1] == x2;
+    }
+
+    /**
+     * Execute the selection command once for all the refinements received in the same event loop
+     */
+    private void scheduleRefinementRedraw( final int requestGeneration )
+    {
+        if ( refinementRedrawScheduled )
+        {
+            return;
+        }
+        refinementRedrawScheduled = true;
+        Scheduler.get().scheduleDeferred( new ScheduledCommand() {
+            @Override
+            public void execute()
+            {
+                refinementRedrawScheduled = false;
+                if ( requestGeneration == generation && null != pendingCommand )
+                {
+                    pendingCommand.execute();
+                }
+            }
+        } );
+    }
+
+    private void populateWindowSeries( final Command command, final int requestGeneration )
+    {
+        if ( batchRequestPending && batchProvider instanceof CancellableBatchAsyncDataProvider )
+        {
+            ( (CancellableBatchAsyncDataProvider) batchProvider ).cancel();
         }
+        batchRequestPending = false;
 
+        List<PlotWithOverviewSeriesHandler> visibleHandlers = new ArrayList<PlotWithOverviewSeriesHandler>();
         for ( SeriesHandler handler : getHandlers() )
         {
-            ( (PlotWithOverviewSeriesHandler) handler ).populateWindowSeries( command );
+            PlotWithOverviewSeriesHandler overviewSeriesHandler = (PlotWithOverviewSeriesHandler) handler;
+            if ( handler.isVisible() )
+            {
+                visibleHandlers.add( overviewSeriesHandler );
+            }
+            else
+            {
+                overviewSeriesHandler.windowHandler.clear();
+            }
+        }
+        final PlotWithOverviewSeriesHandler[] handlers =
+            visibleHandlers.toArray( new PlotWithOverviewSeriesHandler[visibleHandlers.size()] );
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for ( PlotWithOverviewSeriesHandler handler : handlers )
+        {
+            if ( !coarseToFine )
+            {
+                handler.windowHandler.clear();
+            }
+            if ( handler.overviewHandler.getData().size() > 0 )
+            {
+                min = Math.min( min, handler.getWindowMinX() );
+                max = Math.max( max, handler.getWindowMaxX() );
+            }
+        }
+
+        if ( !( min < max ) )
+        {
+            if ( null != command )
+            {
+                command.execute();
+            }
+            return;
         }
+
+        final double x2 = max;
+        batchRequestPending = true;
+        batchProvider.getData( handlers, min, max, new AsyncCallback<DataPoint[][]>() {
+            @Override
+            public void onFailure( Throwable caught )
+            {
+                if ( requestGeneration != generation )
+                {
+                    // a newer selection has been made
+                    return;
+                }
+                batchRequestPending = false;
+                GWT.log( "Failed to obtain data for PlotWithOverview", caught );
+                if ( null != command )
+                {
+                    command.execute();
+                }
+            }
+
+            @Override
+            public void onSuccess( DataPoint[][] result )
+            {
+                if ( requestGeneration != generation )
+                {
+                    // a newer selection has been made
+                    return;
+                }
+                batchRequestPending = false;
+                for ( int i = 0; i < handlers.length && i < result.length; i++ )
+                {
+                    if ( null != result[i] )
+                    {
+                        handlers[i].setWindowData( result[i], x2 );
+                    }
+                }
+                if ( null != command )
+                {
+                    command.execute();
+                }
+            }
+        } );
     }
 
     double[] getSelection()
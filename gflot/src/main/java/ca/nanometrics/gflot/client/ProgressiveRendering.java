@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client;
+
+/**
+ * Configuration of the progressive rendering of a {@link SimplePlot}. The series having more points than the
+ * threshold are first drawn as a downsampled preview, then drawn completely in chunks spread over several event loop
+ * iterations so the page keeps responding.
+ */
+public class ProgressiveRendering
+{
+    public static final int DEFAULT_THRESHOLD = 50000;
+
+    public static final int DEFAULT_CHUNK_SIZE = 20000;
+
+    public static final int DEFAULT_PREVIEW_SIZE = 5000;
+
+    private int threshold = DEFAULT_THRESHOLD;
+
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    private int previewSize = DEFAULT_PREVIEW_SIZE;
+
+    /**
+     * Set the number of points a series must exceed to be drawn progressively
+     */
+    public ProgressiveRendering setThreshold( int threshold )
+    {
+        assert threshold >= 0 : "threshold can't be negative";
+
+        this.threshold = threshold;
+        return this;
+    }
+
+    /**
+     * @return the number of points a series must exceed to be drawn progressively
+     */
+    public int getThreshold()
+    {
+        return threshold;
+    }
+
+    /**
+     * Set the number of points drawn in each chunk
+     */
+    public ProgressiveRendering setChunkSize( int chunkSize )
+    {
+        assert chunkSize > 0 : "chunkSize must be positive";
+
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * @return the number of points drawn in each chunk
+     */
+    public int getChunkSize()
+    {
+        return chunkSize;
+    }
+
+    /**
+     * Set the maximum number of points of the preview drawn before the chunks. Set to 0 to disable the preview.
+     */
+    public ProgressiveRendering setPreviewSize( int previewSize )
+    {
+        assert previewSize >= 0 : "previewSize can't be negative";
+
+        this.previewSize = previewSize;
+        return this;
+    }
+
+    /**
+     * @return the maximum number of points of the preview drawn before the chunks
+     */
+    public int getPreviewSize()
+    {
+        return previewSize;
+    }
+}
@@ -26,8 +26,8 @@ import java.util.List;
 
 import ca.nanometrics.gflot.client.util.JSONArrayWrapper;
 
+import com.google.gwt.core.client.JavaScriptObject;
 import com.google.gwt.json.client.JSONArray;
-import com.google.gwt.json.client.JSONNumber;
 
 /**
  * @author AlexanderDeleon
@@ -58,7 +58,7 @@ public class SeriesData
 
     public void add( double x, double y )
     {
-        push( new DataPoint( x, y ) );
+        push( JsDataPoint.create( x, y ) );
     }
 
     public void add( DataPoint dataPoint )
@@ -66,6 +66,14 @@ public class SeriesData
         push( dataPoint );
     }
 
+    /**
+     * Add a native data point. The point is stored as is, without any wrapping.
+     */
+    public void add( JsDataPoint dataPoint )
+    {
+        push( dataPoint );
+    }
+
     @Override
     public int size()
     {
@@ -79,14 +87,27 @@ public class SeriesData
 
     public double getX( int index )
     {
-        return ( (JSONNumber) ( (JSONArray) super.get( index ) ).get( 0 ) ).doubleValue();
+        return getJsDataPoint( index ).getX();
     }
 
     public double getY( int index )
     {
-        return ( (JSONNumber) ( (JSONArray) super.get( index ) ).get( 1 ) ).doubleValue();
+        return getJsDataPoint( index ).getY();
     }
 
+    /**
+     * @return the native data point at the given index, without wrapping
+     */
+    public JsDataPoint getJsDataPoint( int index )
+    {
+        return getJsDataPoint( getWrappedObj().isArray().getJavaScriptObject(), index );
+    }
+
+    private static native JsDataPoint getJsDataPoint( JavaScriptObject array, int index )
+    /*-{
+		return array[index];
+    }-*/;
+
     public SeriesData slice( int start )
     {
         return slice( start, size() - 1 );
@@ -136,6 +157,34 @@ public class SeriesData
         super.clear();
     }
 
+    /**
+     * Remove the points before the given x coordinate. The series must be sorted by x.
+     *
+     * @return the number of points removed
+     */
+    public int removeBefore( double x )
+    {
+        int low = 0;
+        int high = size();
+        while ( low < high )
+        {
+            int mid = ( low + high ) >>> 1;
+            if ( getX( mid ) < x )
+            {
+                low = mid + 1;
+            }
+            else
+            {
+                high = mid;
+            }
+        }
+        if ( low > 0 )
+        {
+            shift( low );
+        }
+        return low;
+    }
+
     protected void setData( SeriesData data )
     {
         DataPoint[] points = data.getDatapoints();
@@ -48,6 +48,16 @@ public class SeriesHandler
         data.add( datapoint );
     }
 
+    /**
+     * Add a native datapoint
+     *
+     * @param datapoint datapoint to add
+     */
+    public void add( JsDataPoint datapoint )
+    {
+        data.add( datapoint );
+    }
+
     /**
      * Clear data
      */
@@ -22,40 +22,72 @@
 package ca.nanometrics.gflot.client;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import ca.nanometrics.gflot.client.event.LoadImagesCallback;
 import ca.nanometrics.gflot.client.event.PlotClickListener;
 import ca.nanometrics.gflot.client.event.PlotHoverListener;
+import ca.nanometrics.gflot.client.event.PlotLoadErrorListener;
 import ca.nanometrics.gflot.client.event.PlotPanListener;
 import ca.nanometrics.gflot.client.event.PlotPosition;
 import ca.nanometrics.gflot.client.event.PlotSelectedListener;
 import ca.nanometrics.gflot.client.event.PlotSelectingListener;
 import ca.nanometrics.gflot.client.event.PlotUnselectedListener;
 import ca.nanometrics.gflot.client.event.PlotZoomListener;
+import ca.nanometrics.gflot.client.event.ProgressiveRedrawCallback;
 import ca.nanometrics.gflot.client.jsni.Plot;
+import ca.nanometrics.gflot.client.options.JsPlotOptions;
 import ca.nanometrics.gflot.client.options.PlotOptions;
 import ca.nanometrics.gflot.client.options.Range;
 import ca.nanometrics.gflot.client.resources.FlotJavaScriptLoader;
 import ca.nanometrics.gflot.client.resources.FlotJavaScriptLoader.FlotJavaScriptCallback;
+import ca.nanometrics.gflot.client.resources.PluginDetector;
 
 import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArrayInteger;
+import com.google.gwt.core.client.JsArrayNumber;
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.core.client.Scheduler.RepeatingCommand;
 import com.google.gwt.dom.client.Element;
+import com.google.gwt.event.dom.client.HasMouseOutHandlers;
+import com.google.gwt.event.dom.client.MouseOutEvent;
+import com.google.gwt.event.dom.client.MouseOutHandler;
+import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.user.client.Command;
 import com.google.gwt.user.client.DOM;
 import com.google.gwt.user.client.ui.Image;
 import com.google.gwt.user.client.ui.Widget;
 
 /**
+ * Widget displaying a flot plot. The plot is created once the widget is attached and the flot library is loaded, which
+ * may be asynchronous. Until then:
+ * <ul>
+ * <li>the listeners, the zoom, pan and crosshair methods are queued and applied once the plot is created;</li>
+ * <li>the redraws are coalesced into a single redraw done once the plot is created, {@link #setupGrid()} and
+ * {@link #draw()} do nothing since the plot is created from the current model and options;</li>
+ * <li>{@link #clearSelection(boolean)} does nothing, {@link #valuesAtX(double, Interpolation)} and
+ * {@link #getJsPlotOptions()} return null;</li>
+ * <li>the other methods reading the plot state throw an {@link IllegalStateException}.</li>
+ * </ul>
+ * The navigate and crosshair plugins used by the zoom, pan and crosshair methods are loaded on demand when they are not
+ * required by the options.
+ *
  * @author AlexanderDeleon
  */
 public class SimplePlot
     extends Widget
-    implements PlotWidget
+    implements PlotWidget, HasMouseOutHandlers
 {
 
     private static final int DEFAULT_WIDTH = 600;
 
+    private static final List<String> NAVIGATE_PLUGIN = Collections.singletonList( PluginDetector.NAVIGATE );
+
+    private static final List<String> CROSSHAIR_PLUGIN = Collections.singletonList( PluginDetector.CROSSHAIR );
+
     private static final int DEFAULT_HEIGHT = 300;
 
     private final PlotModel model;
@@ -70,10 +102,26 @@ public class SimplePlot
 
     private boolean loadDataImages;
 
+    private boolean managedResize;
+
+    private ProgressiveRendering progressiveRendering;
+
+    private int redrawCount;
+
+    private boolean pendingRedraw;
+
+    private boolean loadingPlugins;
+
+    private final List<ProgressiveRedrawCallback> pendingRedrawCallbacks;
+
     private PlotOptions options;
 
     private final List<Command> onLoadOperations;
 
+    private final List<PlotLoadErrorListener> loadErrorListeners;
+
+    private final Set<String> apiPlugins;
+
     public SimplePlot()
     {
         this( new PlotModel() );
@@ -98,6 +146,9 @@ public class SimplePlot
     {
         this.model = model;
         onLoadOperations = new ArrayList<Command>();
+        pendingRedrawCallbacks = new ArrayList<ProgressiveRedrawCallback>();
+        loadErrorListeners = new ArrayList<PlotLoadErrorListener>();
+        apiPlugins = new HashSet<String>();
         setElement( plotContainer );
         setWidth( DEFAULT_WIDTH );
         setHeight( DEFAULT_HEIGHT );
@@ -115,6 +166,10 @@ public class SimplePlot
     {
         this.width = width;
         DOM.setStyleAttribute( getElement(), "width", width + "px" );
+        if ( loaded && managedResize )
+        {
+            PlotResizeManager.get().onSizeChanged( this );
+        }
     }
 
     @Override
@@ -128,18 +183,64 @@ public class SimplePlot
     {
         this.height = height;
         DOM.setStyleAttribute( getElement(), "height", height + "px" );
+        if ( loaded && managedResize )
+        {
+            PlotResizeManager.get().onSizeChanged( this );
+        }
+    }
+
+    @Override
+    public boolean isManagedResize()
+    {
+        return managedResize;
+    }
+
+    /**
+     * Set if the resize of the plot is handled by the {@link PlotResizeManager} instead of the resize plugin. When
+     * managed, the last rendered frame is scaled while the size is changing and the plot is redrawn once the size
+     * settles. A layout change resizing the plot without resizing the browser window must call
+     * {@link PlotResizeManager#checkSize()}.
+     */
+    @Override
+    public void setManagedResize( boolean managedResize )
+    {
+        if ( this.managedResize == managedResize )
+        {
+            return;
+        }
+        this.managedResize = managedResize;
+        if ( loaded )
+        {
+            if ( managedResize )
+            {
+                plot.unbindResizePlugin();
+                if ( isAttached() )
+                {
+                    PlotResizeManager.get().register( this );
+                }
+            }
+            else
+            {
+                PlotResizeManager.get().unregister( this );
+                plot.bindResizePlugin();
+            }
+        }
     }
 
     public void setupGrid()
     {
-        assertLoaded();
-        plot.setupGrid();
+        if ( loaded )
+        {
+            plot.setupGrid();
+        }
     }
 
     public void draw()
     {
-        assertLoaded();
-        plot.draw();
+        if ( loaded )
+        {
+            plot.draw();
+        }
     }
 
     @Override
@@ -255,8 +356,10 @@ public class SimplePlot
     @Override
     public void clearSelection( boolean preventEvent )
     {
-        assertLoaded();
-        plot.clearSelection( preventEvent );
+        if ( loaded )
+        {
+            plot.clearSelection( preventEvent );
+        }
     }
 
     @Override
@@ -279,6 +382,47 @@ public class SimplePlot
 
     }
 
+    /**
+     * Add a listener notified when the flot library or a plugin needed by the plot could not be loaded. Without
+     * listener, the failure is thrown to the uncaught exception handler.
+     */
+    public void addLoadErrorListener( PlotLoadErrorListener listener )
+    {
+        loadErrorListeners.add( listener );
+    }
+
+    public void removeLoadErrorListener( PlotLoadErrorListener listener )
+    {
+        loadErrorListeners.remove( listener );
+    }
+
+    @Override
+    public HandlerRegistration addMouseOutHandler( MouseOutHandler handler )
+    {
+        return addDomHandler( handler, MouseOutEvent.getType() );
+    }
+
+    /**
+     * Remove a listener added with {@link #addHoverListener(PlotHoverListener, boolean)}
+     */
+    public void removeHoverListener( final PlotHoverListener listener )
+    {
+        if ( loaded )
+        {
+            plot.removePlotHoverListener( listener );
+        }
+        else
+        {
+            onLoadOperations.add( new Command() {
+                @Override
+                public void execute()
+                {
+                    plot.removePlotHoverListener( listener );
+                }
+            } );
+        }
+    }
+
     @Override
     public void addClickListener( final PlotClickListener listener, final boolean onlyOnDatapoint )
     {
@@ -314,10 +458,209 @@ public class SimplePlot
     @Override
     public void redraw()
     {
-        assertLoaded();
+        redraw( null );
+    }
+
+    /**
+     * Redraw the plot. If a {@link ProgressiveRendering} is set, the series exceeding its threshold are first shown as a
+     * preview, then drawn in chunks into offscreen layers over several event loop iterations. Once all the chunks are
+     * drawn, the frame is redrawn with the layers in place of the previews. The callback is notified once the frame is
+     * complete or when a newer redraw cancels it.
+     * <p>
+     * The plugins needed by the series added since the creation of the plot are loaded first. While they or the flot
+     * library are loading, the redraws are coalesced into a single redraw done once they are loaded.
+     * </p>
+     *
+     * @param callback the callback to notify, can be null
+     */
+    public void redraw( final ProgressiveRedrawCallback callback )
+    {
+        pendingRedraw = true;
+        if ( null != callback )
+        {
+            pendingRedrawCallbacks.add( callback );
+        }
+        if ( !loaded || loadingPlugins )
+        {
+            // the flot library or the plugins may still be loading asynchronously
+            return;
+        }
+
+        // the images of the series are only loaded when the plot is created
+        List<String> plugins = PluginDetector.detect( model.getSeries(), options, false );
+        if ( FlotJavaScriptLoader.isLoaded( plugins ) )
+        {
+            redrawPending();
+            return;
+        }
+
+        loadingPlugins = true;
+        FlotJavaScriptLoader.loadPlugins( plugins, new FlotJavaScriptCallback() {
+            @Override
+            public void onSuccess()
+            {
+                loadingPlugins = false;
+                plot.initNewPlugins();
+                redrawPending();
+            }
+
+            @Override
+            public void onError( Throwable caught )
+            {
+                // drawn without the missing plugins
+                loadingPlugins = false;
+                redrawPending();
+                onLoadError( caught );
+            }
+        } );
+    }
+
+    private void redrawPending()
+    {
+        if ( !pendingRedraw )
+        {
+            return;
+        }
+        pendingRedraw = false;
+        final List<ProgressiveRedrawCallback> callbacks =
+            new ArrayList<ProgressiveRedrawCallback>( pendingRedrawCallbacks );
+        pendingRedrawCallbacks.clear();
+        redrawNow( callbacks.isEmpty() ? null : new ProgressiveRedrawCallback() {
+            @Override
+            public void onRedrawComplete()
+            {
+                for ( ProgressiveRedrawCallback callback : callbacks )
+                {
+                    callback.onRedrawComplete();
+                }
+            }
+
+            @Override
+            public void onRedrawCancelled()
+            {
+                for ( ProgressiveRedrawCallback callback : callbacks )
+                {
+                    callback.onRedrawCancelled();
+                }
+            }
+        } );
+    }
+
+    private void redrawNow( final ProgressiveRedrawCallback callback )
+    {
+        final int redrawId = ++redrawCount;
         plot.setData( model.getSeries() );
         plot.setupGrid();
-        plot.draw();
+
+        if ( null == progressiveRendering )
+        {
+            plot.suspendHover( false );
+            plot.draw();
+            if ( null != callback )
+            {
+                callback.onRedrawComplete();
+            }
+            return;
+        }
+
+        final JsArrayInteger sizes = plot.getSeriesSizes();
+        JsArrayInteger strides = JavaScriptObject.createArray().cast();
+        boolean progressive = false;
+        for ( int i = 0; i < sizes.length(); i++ )
+        {
+            int size = sizes.get( i );
+            if ( size > progressiveRendering.getThreshold() )
+            {
+                int previewSize = progressiveRendering.getPreviewSize();
+                strides.set( i, previewSize == 0 ? 0 : (int) Math.ceil( (double) size / previewSize ) );
+                progressive = true;
+            }
+            else
+            {
+                strides.set( i, -1 );
+            }
+        }
+
+        // the throttled hover events wait for the end of the progressive drawing
+        plot.suspendHover( progressive );
+        plot.draw( strides );
+        if ( !progressive )
+        {
+            if ( null != callback )
+            {
+                callback.onRedrawComplete();
+            }
+            return;
+        }
+
+        final int drawCount = plot.getDrawCount();
+        final int threshold = progressiveRendering.getThreshold();
+        final int chunkSize = progressiveRendering.getChunkSize();
+        Scheduler.get().scheduleIncremental( new RepeatingCommand() {
+            private int seriesIndex = 0;
+
+            private int from = 0;
+
+            @Override
+            public boolean execute()
+            {
+                if ( !loaded || plot.getDrawCount() != drawCount )
+                {
+                    // the plot has been redrawn since, this drawing is obsolete
+                    if ( loaded && redrawId == redrawCount )
+                    {
+                        // redrawn by something else than a newer progressive redraw
+                        plot.suspendHover( false );
+                    }
+                    if ( null != callback )
+                    {
+                        callback.onRedrawCancelled();
+                    }
+                    return false;
+                }
+
+                while ( seriesIndex < sizes.length() && sizes.get( seriesIndex ) <= threshold )
+                {
+                    seriesIndex++;
+                }
+                if ( seriesIndex == sizes.length() )
+                {
+                    plot.completeProgressiveDraw();
+                    plot.suspendHover( false );
+                    if ( null != callback )
+                    {
+                        callback.onRedrawComplete();
+                    }
+                    return false;
+                }
+
+                int to = Math.min( from + chunkSize, sizes.get( seriesIndex ) );
+                plot.drawSeriesRange( seriesIndex, from, to );
+                if ( to == sizes.get( seriesIndex ) )
+                {
+                    seriesIndex++;
+                    from = 0;
+                }
+                else
+                {
+                    from = to;
+                }
+                return true;
+            }
+        } );
+    }
+
+    /**
+     * Set the progressive rendering used by {@link #redraw()}. Set to null to always draw the series at once.
+     */
+    public void setProgressiveRendering( ProgressiveRendering progressiveRendering )
+    {
+        this.progressiveRendering = progressiveRendering;
+    }
+
+    public ProgressiveRendering getProgressiveRendering()
+    {
+        return progressiveRendering;
     }
 
     public int getOffsetLeft()
@@ -345,6 +688,38 @@ public class SimplePlot
         return options;
     }
 
+    /**
+     * Compute the value of every series at the given x coordinate, with a binary search over the data points. The
+     * series must be sorted by x.
+     *
+     * @param x the x coordinate
+     * @param interpolation the way the value is computed between two data points
+     * @return the value of each series, in the order of the model. NaN for the series without value at x, including
+     * the hidden series. Null if the plot is not created yet.
+     */
+    public JsArrayNumber valuesAtX( double x, Interpolation interpolation )
+    {
+        if ( !loaded )
+        {
+            return null;
+        }
+        return plot.valuesAtX( x, interpolation );
+    }
+
+    /**
+     * @return the live native options of the plot. The changes are applied on the next {@link #setupGrid()} and
+     * {@link #draw()}, without rebuilding the options. Null if the plot is not created yet, the {@link PlotOptions}
+     * given to the constructor are used to create it.
+     */
+    public JsPlotOptions getJsPlotOptions()
+    {
+        if ( !loaded )
+        {
+            return null;
+        }
+        return plot.getJsPlotOptions();
+    }
+
     public void setLoadDataImages( boolean loadDataImages )
     {
         this.loadDataImages = loadDataImages;
@@ -391,10 +766,20 @@ public class SimplePlot
         zoom( new Zoom() );
     }
 
-    public void zoom( Zoom zoom )
+    public void zoom( final Zoom zoom )
     {
-        assertLoaded();
-        plot.zoom( zoom );
+        if ( isPluginLoaded( NAVIGATE_PLUGIN ) )
+        {
+            plot.zoom( zoom );
+            return;
+        }
+        whenPluginLoaded( NAVIGATE_PLUGIN, new Command() {
+            @Override
+            public void execute()
+            {
+                plot.zoom( zoom );
+            }
+        } );
     }
 
     public void zoomOut()
@@ -402,10 +787,20 @@ public class SimplePlot
         zoomOut( new Zoom() );
     }
 
-    public void zoomOut( Zoom zoom )
+    public void zoomOut( final Zoom zoom )
     {
-        assertLoaded();
-        plot.zoomOut( zoom );
+        if ( isPluginLoaded( NAVIGATE_PLUGIN ) )
+        {
+            plot.zoomOut( zoom );
+            return;
+        }
+        whenPluginLoaded( NAVIGATE_PLUGIN, new Command() {
+            @Override
+            public void execute()
+            {
+                plot.zoomOut( zoom );
+            }
+        } );
     }
 
     public void pan()
@@ -413,10 +808,33 @@ public class SimplePlot
         pan( new Pan() );
     }
 
-    public void pan( Pan pan )
+    public void pan( final Pan pan )
     {
-        assertLoaded();
-        plot.pan( pan );
+        if ( isPluginLoaded( NAVIGATE_PLUGIN ) )
+        {
+            plot.pan( pan );
+            return;
+        }
+        whenPluginLoaded( NAVIGATE_PLUGIN, new Command() {
+            @Override
+            public void execute()
+            {
+                plot.pan( pan );
+            }
+        } );
+    }
+
+    /* ------------------ Resize API -- */
+    void previewSize( int width, int height )
+    {
+        plot.previewSize( width, height );
+    }
+
+    void redrawAfterResize()
+    {
+        plot.resize();
+        plot.setupGrid();
+        plot.draw();
     }
 
     /* ------------------ Widget API -- */
@@ -424,9 +842,25 @@ public class SimplePlot
     protected void onLoad()
     {
         super.onLoad();
-        if ( !loaded )
+        if ( loaded )
+        {
+            if ( managedResize )
+            {
+                PlotResizeManager.get().register( this );
+            }
+        }
+        else
         {
-            FlotJavaScriptLoader.get().loadRequiredFlotLibrary( new FlotJavaScriptCallback() {
+            List<String> plugins = PluginDetector.detect( model.getSeries(), options, loadDataImages );
+            // the plugins used by the methods called before the creation of the plot
+            for ( String plugin : apiPlugins )
+            {
+                if ( !plugins.contains( plugin ) )
+                {
+                    plugins.add( plugin );
+                }
+            }
+            FlotJavaScriptLoader.loadPlugins( plugins, new FlotJavaScriptCallback() {
                 @Override
                 public void onSuccess()
                 {
@@ -451,12 +885,37 @@ public class SimplePlot
                 @Override
                 public void onError( Throwable caught )
                 {
-                    throw new RuntimeException( "Error while loading flot library", caught );
+                    onLoadError( caught );
                 }
             } );
         }
     }
 
+    /**
+     * Notify the load error listeners. Without listener, the error is thrown.
+     */
+    private void onLoadError( Throwable caught )
+    {
+        if ( loadErrorListeners.isEmpty() )
+        {
+            throw new RuntimeException( "Error while loading flot library", caught );
+        }
+        for ( PlotLoadErrorListener listener : new ArrayList<PlotLoadErrorListener>( loadErrorListeners ) )
+        {
+            listener.onLoadError( caught );
+        }
+    }
+
+    @Override
+    protected void onUnload()
+    {
+        if ( loaded && managedResize )
+        {
+            PlotResizeManager.get().unregister( this );
+        }
+        super.onUnload();
+    }
+
     private void onPlotCreated()
     {
         // Issue : 2
@@ -467,11 +926,26 @@ public class SimplePlot
         // retrieving the calculated options
         options = plot.getPlotOptions();
 
+        if ( managedResize )
+        {
+            plot.unbindResizePlugin();
+            if ( isAttached() )
+            {
+                PlotResizeManager.get().register( this );
+            }
+        }
+
         for ( Command cmd : onLoadOperations )
         {
             cmd.execute();
         }
         onLoadOperations.clear();
+
+        if ( pendingRedraw )
+        {
+            // the series may have changed while the flot library was loading
+            redraw( null );
+        }
     }
 
     public boolean isExportAsImageEnabled()
@@ -541,9 +1015,20 @@ public class SimplePlot
      *
      * @param pos Position of the crosshair
      */
-    public void setCrosshair( PlotPosition pos )
+    public void setCrosshair( final PlotPosition pos )
     {
-        plot.setCrosshair( pos );
+        if ( isPluginLoaded( CROSSHAIR_PLUGIN ) )
+        {
+            plot.setCrosshair( pos );
+            return;
+        }
+        whenPluginLoaded( CROSSHAIR_PLUGIN, new Command() {
+            @Override
+            public void execute()
+            {
+                plot.setCrosshair( pos );
+            }
+        } );
     }
 
     /**
@@ -551,7 +1036,18 @@ public class SimplePlot
      */
     public void clearCrosshair()
     {
-        plot.clearCrosshair();
+        if ( isPluginLoaded( CROSSHAIR_PLUGIN ) )
+        {
+            plot.clearCrosshair();
+            return;
+        }
+        whenPluginLoaded( CROSSHAIR_PLUGIN, new Command() {
+            @Override
+            public void execute()
+            {
+                plot.clearCrosshair();
+            }
+        } );
     }
 
     /**
@@ -559,7 +1055,18 @@ public class SimplePlot
      */
     public void lockCrosshair()
     {
-        plot.lockCrosshair();
+        if ( isPluginLoaded( CROSSHAIR_PLUGIN ) )
+        {
+            plot.lockCrosshair();
+            return;
+        }
+        whenPluginLoaded( CROSSHAIR_PLUGIN, new Command() {
+            @Override
+            public void execute()
+            {
+                plot.lockCrosshair();
+            }
+        } );
     }
 
     /**
@@ -567,9 +1074,20 @@ public class SimplePlot
      *
      * @param pos position to lock the crosshair to
      */
-    public void lockCrosshair( PlotPosition pos )
+    public void lockCrosshair( final PlotPosition pos )
     {
-        plot.lockCrosshair( pos );
+        if ( isPluginLoaded( CROSSHAIR_PLUGIN ) )
+        {
+            plot.lockCrosshair( pos );
+            return;
+        }
+        whenPluginLoaded( CROSSHAIR_PLUGIN, new Command() {
+            @Override
+            public void execute()
+            {
+                plot.lockCrosshair( pos );
+            }
+        } );
     }
 
     /**
@@ -577,7 +1095,63 @@ public class SimplePlot
      */
     public void unlockCrosshair()
     {
-        plot.unlockCrosshair();
+        if ( isPluginLoaded( CROSSHAIR_PLUGIN ) )
+        {
+            plot.unlockCrosshair();
+            return;
+        }
+        whenPluginLoaded( CROSSHAIR_PLUGIN, new Command() {
+            @Override
+            public void execute()
+            {
+                plot.unlockCrosshair();
+            }
+        } );
+    }
+
+    private boolean isPluginLoaded( List<String> plugin )
+    {
+        return loaded && FlotJavaScriptLoader.isLoaded( plugin );
+    }
+
+    /**
+     * Execute the command once the plot is created and the plugin loaded. The plugins used only through the methods of
+     * the plot, like navigate for {@link #zoom()}, are loaded on demand.
+     */
+    private void whenPluginLoaded( final List<String> plugin, final Command command )
+    {
+        if ( !loaded )
+        {
+            // loaded with the plot if it has not been requested yet, checked again once the plot is created otherwise
+            apiPlugins.addAll( plugin );
+            onLoadOperations.add( new Command() {
+                @Override
+                public void execute()
+                {
+                    whenPluginLoaded( plugin, command );
+                }
+            } );
+            return;
+        }
+        if ( FlotJavaScriptLoader.isLoaded( plugin ) )
+        {
+            command.execute();
+            return;
+        }
+        FlotJavaScriptLoader.loadPlugins( plugin, new FlotJavaScriptCallback() {
+            @Override
+            public void onSuccess()
+            {
+                plot.initNewPlugins();
+                command.execute();
+            }
+
+            @Override
+            public void onError( Throwable caught )
+            {
+                onLoadError( caught );
+            }
+        } );
     }
 
     /**
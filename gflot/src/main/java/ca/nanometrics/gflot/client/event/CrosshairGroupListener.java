@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client.event;
+
+import ca.nanometrics.gflot.client.SimplePlot;
+
+import com.google.gwt.core.client.JsArrayNumber;
+
+/**
+ * Listener notified once per frame with the values under the shared cursor of a
+ * {@link ca.nanometrics.gflot.client.CrosshairGroup}.
+ */
+public interface CrosshairGroupListener
+{
+    /**
+     * @param x the x coordinate of the shared cursor
+     * @param source the plot hovered by the mouse
+     * @param plots the plots of the group
+     * @param values the value of each series at x, for each plot of the group
+     */
+    void onCrosshairMoved( double x, SimplePlot source, SimplePlot[] plots, JsArrayNumber[] values );
+}
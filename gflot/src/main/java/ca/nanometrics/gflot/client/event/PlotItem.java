@@ -22,48 +22,56 @@
 package ca.nanometrics.gflot.client.event;
 
 import ca.nanometrics.gflot.client.DataPoint;
+import ca.nanometrics.gflot.client.JsDataPoint;
 import ca.nanometrics.gflot.client.Series;
-import ca.nanometrics.gflot.client.util.JSONObjectWrapper;
 
-import com.google.gwt.json.client.JSONArray;
+import com.google.gwt.core.client.JavaScriptObject;
 import com.google.gwt.json.client.JSONObject;
 
 /**
+ * Overlay type over the item object of a Flot event. The values are read from the native object only when accessed.
+ *
  * @author Alexander De Leon
  */
 public class PlotItem
-    extends JSONObjectWrapper
+    extends JavaScriptObject
 {
 
-    private static final String DATAPOINT = "datapoint";
     private static final String DATA_INDEX = "dataIndex";
-    private static final String SERIES = "series";
     private static final String SERIES_INDEX = "seriesIndex";
     private static final String PAGE_X = "pageX";
     private static final String PAGE_Y = "pageY";
 
-    protected PlotItem( JSONObject obj )
+    protected PlotItem()
     {
-        super( obj );
+        // empty
     }
 
     /**
      * @return the datapoint hovered
      */
-    public DataPoint getDataPoint()
+    public final DataPoint getDataPoint()
     {
-        JSONArray array = getArray( DATAPOINT );
-        if ( array == null )
+        JsDataPoint point = getJsDataPoint();
+        if ( point == null )
         {
             return null;
         }
-        return new DataPoint( array );
+        return new DataPoint( point );
     }
 
+    /**
+     * @return the datapoint hovered, as a native data point
+     */
+    public final native JsDataPoint getJsDataPoint()
+    /*-{
+		return this.datapoint || null;
+    }-*/;
+
     /**
      * @return the index of the data point inside the data array
      */
-    public Integer getDataIndex()
+    public final Integer getDataIndex()
     {
         return getInteger( DATA_INDEX );
     }
@@ -71,20 +79,20 @@ public class PlotItem
     /**
      * @return the series hovered
      */
-    public Series getSeries()
+    public final Series getSeries()
     {
-        JSONObject obj = getObject( SERIES );
+        JavaScriptObject obj = getSeriesObject();
         if ( obj == null )
         {
             return null;
         }
-        return new Series( obj );
+        return new Series( new JSONObject( obj ) );
     }
 
     /**
      * @return the index of the series, starting at 0
      */
-    public Integer getSeriesIndex()
+    public final Integer getSeriesIndex()
     {
         return getInteger( SERIES_INDEX );
     }
@@ -92,7 +100,7 @@ public class PlotItem
     /**
      * @return the global screen x coordinates
      */
-    public Integer getPageX()
+    public final Integer getPageX()
     {
         return getInteger( PAGE_X );
     }
@@ -100,8 +108,28 @@ public class PlotItem
     /**
      * @return the global screen y coordinates
      */
-    public Integer getPageY()
+    public final Integer getPageY()
     {
         return getInteger( PAGE_Y );
     }
+
+    private Integer getInteger( String key )
+    {
+        return hasNumber( key ) ? getIntValue( key ) : null;
+    }
+
+    private native boolean hasNumber( String key )
+    /*-{
+		return typeof this[key] == "number";
+    }-*/;
+
+    private native int getIntValue( String key )
+    /*-{
+		return this[key];
+    }-*/;
+
+    private native JavaScriptObject getSeriesObject()
+    /*-{
+		return this.series || null;
+    }-*/;
 }
@@ -5,6 +5,7 @@ package ca.nanometrics.gflot.client.event;
 
 import ca.nanometrics.gflot.client.util.JSONObjectWrapper;
 
+import com.google.gwt.core.client.JavaScriptObject;
 import com.google.gwt.json.client.JSONObject;
 
 /**
@@ -35,6 +36,14 @@ public class PlotPosition
         super( obj );
     }
 
+    /**
+     * Wraps the native position object, the values are read from it only when accessed
+     */
+    protected PlotPosition( JavaScriptObject obj )
+    {
+        super( new JSONObject( obj ) );
+    }
+
     /**
      * @return the x axis coordinate for the first x axis
      */
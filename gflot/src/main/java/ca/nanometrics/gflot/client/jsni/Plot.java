@@ -22,6 +22,7 @@
 package ca.nanometrics.gflot.client.jsni;
 
 import ca.nanometrics.gflot.client.Axes;
+import ca.nanometrics.gflot.client.Interpolation;
 import ca.nanometrics.gflot.client.Pan;
 import ca.nanometrics.gflot.client.PlotSelectionArea;
 import ca.nanometrics.gflot.client.Series;
@@ -35,10 +36,13 @@ import ca.nanometrics.gflot.client.event.PlotSelectedListener;
 import ca.nanometrics.gflot.client.event.PlotSelectingListener;
 import ca.nanometrics.gflot.client.event.PlotUnselectedListener;
 import ca.nanometrics.gflot.client.event.PlotZoomListener;
+import ca.nanometrics.gflot.client.options.JsPlotOptions;
 import ca.nanometrics.gflot.client.options.PlotOptions;
 import ca.nanometrics.gflot.client.util.JSONHelper;
 
 import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArrayInteger;
+import com.google.gwt.core.client.JsArrayNumber;
 import com.google.gwt.dom.client.Element;
 import com.google.gwt.user.client.ui.Image;
 
@@ -83,6 +87,12 @@ public class Plot
             .getJavaScriptObject(), optionsJs );
     }
 
+    public static Plot create( Element container, Series[] series, JsPlotOptions options )
+    {
+        return PlotImpl.create( container, JSONHelper.getJSONArray( JSONHelper.wrapArray( series ) )
+            .getJavaScriptObject(), options );
+    }
+
     public static Plot create( Element container, JavaScriptObject data, JavaScriptObject options )
     {
         return PlotImpl.create( container, data, options );
@@ -123,6 +133,101 @@ public class Plot
         PlotImpl.setupGrid( this );
     }
 
+    /**
+     * Draw the plot. The series with a preview stride greater or equal to 0 are only drawn partially (one point every
+     * stride points, nothing if the stride is 0). They must be drawn with {@link #drawSeriesRange(int, int, int)} then
+     * {@link #completeProgressiveDraw()}.
+     *
+     * @param previewStrides the preview stride of each series, a negative stride draws the series completely
+     */
+    public final void draw( JsArrayInteger previewStrides )
+    {
+        PlotImpl.draw( this, previewStrides );
+    }
+
+    /**
+     * Draw the points of a series from index from (inclusive) to index to (exclusive) into the offscreen layer of the
+     * series. The layer is not visible until {@link #completeProgressiveDraw()} is called.
+     */
+    public final void drawSeriesRange( int seriesIndex, int from, int to )
+    {
+        PlotImpl.drawSeriesRange( this, seriesIndex, from, to );
+    }
+
+    /**
+     * Redraw the plot with the layers of the series drawn progressively in place of their previews
+     */
+    public final void completeProgressiveDraw()
+    {
+        PlotImpl.completeProgressiveDraw( this );
+    }
+
+    /**
+     * Initialize on this plot the plugins loaded since its creation. Their default options do not override the options
+     * already set and they apply from the next {@link #setData(Series[])}.
+     */
+    public final void initNewPlugins()
+    {
+        PlotImpl.initNewPlugins( this );
+    }
+
+    /**
+     * @return the number of processed points of each series
+     */
+    public final JsArrayInteger getSeriesSizes()
+    {
+        return PlotImpl.getSeriesSizes( this );
+    }
+
+    /**
+     * Suspend or resume the processing of the throttled hover events
+     */
+    public final void suspendHover( boolean suspended )
+    {
+        PlotImpl.suspendHover( this, suspended );
+    }
+
+    /**
+     * @return the number of times the plot has been drawn
+     */
+    public final int getDrawCount()
+    {
+        return PlotImpl.getDrawCount( this );
+    }
+
+    /**
+     * Resize the canvases to the size of the placeholder. You need to call {@link #setupGrid()} and {@link #draw()}
+     * afterwards.
+     */
+    public final void resize()
+    {
+        PlotImpl.resize( this );
+    }
+
+    /**
+     * Scale the last rendered frame to the given size without redrawing it.
+     */
+    public final void previewSize( int width, int height )
+    {
+        PlotImpl.previewSize( this, width, height );
+    }
+
+    /**
+     * Stop the resize plugin from resizing and redrawing the plot when its placeholder is resized.
+     */
+    public final void unbindResizePlugin()
+    {
+        PlotImpl.unbindResizePlugin( this );
+    }
+
+    /**
+     * Let the resize plugin resize and redraw the plot when its placeholder is resized, if the plugin is loaded.
+     */
+    public final void bindResizePlugin()
+    {
+        PlotImpl.bindResizePlugin( this );
+    }
+
     public final void addPlotSelectedListener( Element container, PlotSelectedListener listener )
     {
         PlotImpl.addPlotSelectedListener( container, listener );
@@ -158,6 +263,11 @@ public class Plot
         PlotImpl.addPlotHoverListener( container, listener, onlyOnDatapoint, this );
     }
 
+    public final void removePlotHoverListener( PlotHoverListener listener )
+    {
+        PlotImpl.removePlotHoverListener( listener, this );
+    }
+
     public final void addPlotClickListener( Element container, PlotClickListener listener, boolean onlyOnDatapoint )
     {
         PlotImpl.addPlotClickListener( container, listener, onlyOnDatapoint, this );
@@ -188,6 +298,28 @@ public class Plot
         return PlotImpl.getPlotOptions( this );
     }
 
+    /**
+     * Compute the value of every series of the plot at the given x coordinate, with a binary search over the processed
+     * data points. The series must be sorted by x. The gap points (null x) are skipped and no value is computed across
+     * a gap, except with {@link Interpolation#NEAREST}.
+     *
+     * @param x the x coordinate, on the x axis of each series
+     * @param interpolation the way the value is computed between two data points
+     * @return the value of each series, in the order of the plot data. NaN for the series without value at x.
+     */
+    public final JsArrayNumber valuesAtX( double x, Interpolation interpolation )
+    {
+        return PlotImpl.valuesAtX( this, x, interpolation.getFlotValue() );
+    }
+
+    /**
+     * @return the live native options of the plot. The changes are applied on the next setupGrid and draw.
+     */
+    public final JsPlotOptions getJsPlotOptions()
+    {
+        return PlotImpl.getJsPlotOptions( this );
+    }
+
     public final void saveAsImage()
     {
         PlotImpl.saveAsImage( this );
@@ -31,9 +31,12 @@ import ca.nanometrics.gflot.client.event.PlotSelectedListener;
 import ca.nanometrics.gflot.client.event.PlotSelectingListener;
 import ca.nanometrics.gflot.client.event.PlotUnselectedListener;
 import ca.nanometrics.gflot.client.event.PlotZoomListener;
+import ca.nanometrics.gflot.client.options.JsPlotOptions;
 import ca.nanometrics.gflot.client.options.PlotOptions;
 
 import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArrayInteger;
+import com.google.gwt.core.client.JsArrayNumber;
 import com.google.gwt.dom.client.Element;
 
 /**
@@ -79,6 +82,116 @@ public class PlotImpl
 		plot.setupGrid();
     }-*/;
 
+    static native void draw( Plot plot, JsArrayInteger previewStrides )
+    /*-{
+		var series = plot.getData();
+		for ( var i = 0; i < series.length; ++i) {
+			if (previewStrides[i] >= 0) {
+				series[i].progressiveStride = previewStrides[i];
+			}
+		}
+		try {
+			plot.draw();
+		} finally {
+			for ( var i = 0; i < series.length; ++i) {
+				delete series[i].progressiveStride;
+			}
+		}
+    }-*/;
+
+    static native void drawSeriesRange( Plot plot, int seriesIndex, int from, int to )
+    /*-{
+		plot.drawSeriesRange(seriesIndex, from, to);
+    }-*/;
+
+    static native void completeProgressiveDraw( Plot plot )
+    /*-{
+		plot.completeProgressiveDraw();
+    }-*/;
+
+    static native void initNewPlugins( Plot plot )
+    /*-{
+		plot.initNewPlugins();
+    }-*/;
+
+    static native JsArrayInteger getSeriesSizes( Plot plot )
+    /*-{
+		var series = plot.getData(), sizes = [];
+		for ( var i = 0; i < series.length; ++i) {
+			var datapoints = series[i].datapoints;
+			sizes.push(datapoints.points.length / datapoints.pointsize);
+		}
+		return sizes;
+    }-*/;
+
+    static native void suspendHover( Plot plot, boolean suspended )
+    /*-{
+		plot.suspendHover(suspended);
+    }-*/;
+
+    static native int getDrawCount( Plot plot )
+    /*-{
+		return plot.getDrawCount();
+    }-*/;
+
+    static native void resize( Plot plot )
+    /*-{
+		var placeholder = plot.getPlaceholder();
+		placeholder.children("canvas").css({
+			width : "",
+			height : ""
+		});
+		placeholder.find(".tickLabels").css("visibility", "");
+		plot.resize();
+    }-*/;
+
+    static native void previewSize( Plot plot, int width, int height )
+    /*-{
+		var placeholder = plot.getPlaceholder();
+		placeholder.children("canvas").css({
+			width : width + "px",
+			height : height + "px"
+		});
+		// the labels are not scaled with the canvases so we hide them until the next redraw
+		placeholder.find(".tickLabels").css("visibility", "hidden");
+    }-*/;
+
+    static native void unbindResizePlugin( Plot plot )
+    /*-{
+		// only the handler of the resize plugin is unbound, the other resize handlers of the placeholder are kept
+		var placeholder = plot.getPlaceholder();
+		var handler = placeholder.data("gflotResize");
+		if (handler) {
+			placeholder.unbind("resize", handler);
+			placeholder.removeData("gflotResize");
+		}
+    }-*/;
+
+    static native void bindResizePlugin( Plot plot )
+    /*-{
+		var placeholder = plot.getPlaceholder();
+		if (placeholder.data("gflotResize")) {
+			return;
+		}
+		var plugins = $wnd.jQuery.plot.plugins;
+		for ( var i = 0; i < plugins.length; ++i) {
+			if (plugins[i].name == "resize") {
+				var onResize = function() {
+					if (placeholder.width() == 0 || placeholder.height() == 0) {
+						return;
+					}
+					plot.resize();
+					plot.setupGrid();
+					plot.draw();
+				};
+				// stored where the shutdown hook of the resize plugin finds it
+				placeholder.data("gflotResize", onResize);
+				placeholder.resize(onResize);
+				return;
+			}
+		}
+    }-*/;
+
     static native void addPlotSelectedListener( Element container, PlotSelectedListener listener )
     /*-{
     	$wnd
@@ -137,25 +250,60 @@ public class PlotImpl
     static native void addPlotHoverListener( Element container, PlotHoverListener listener, boolean onlyOnDatapoint,
                                              Plot plot )
     /*-{
-        $wnd.jQuery("#"+container.id).bind("plothover", function(event, pos, item) {
-            if(item != null || !onlyOnDatapoint){
-                var javaPos = pos==null?null:@ca.nanometrics.gflot.client.event.PlotPosition::new(Lcom/google/gwt/json/client/JSONObject;)(@com.google.gwt.json.client.JSONObject::new(Lcom/google/gwt/core/client/JavaScriptObject;)(pos));
-                var javaItem = item==null?null:@ca.nanometrics.gflot.client.event.PlotItem::new(Lcom/google/gwt/json/client/JSONObject;)(@com.google.gwt.json.client.JSONObject::new(Lcom/google/gwt/core/client/JavaScriptObject;)(item));
-                listener.@ca.nanometrics.gflot.client.event.PlotHoverListener::onPlotHover(Lca/nanometrics/gflot/client/jsni/Plot;Lca/nanometrics/gflot/client/event/PlotPosition;Lca/nanometrics/gflot/client/event/PlotItem;)(plot, javaPos, javaItem);
+        // a single handler per plot dispatches the event to all the listeners, the position is wrapped once and
+        // only if a listener is notified
+        if (!plot.gflotHoverListeners) {
+            plot.gflotHoverListeners = [];
+            $wnd.jQuery("#"+container.id).bind("plothover", function(event, pos, item) {
+                // the array is replaced when a listener is removed, a listener can remove itself while notified
+                var listeners = plot.gflotHoverListeners;
+                var javaPos = null;
+                for (var i = 0; i < listeners.length; ++i) {
+                    if(item != null || !listeners[i].onlyOnDatapoint){
+                        if (javaPos == null && pos != null) {
+                            javaPos = @ca.nanometrics.gflot.client.event.PlotPosition::new(Lcom/google/gwt/core/client/JavaScriptObject;)(pos);
+                        }
+                        listeners[i].listener.@ca.nanometrics.gflot.client.event.PlotHoverListener::onPlotHover(Lca/nanometrics/gflot/client/jsni/Plot;Lca/nanometrics/gflot/client/event/PlotPosition;Lca/nanometrics/gflot/client/event/PlotItem;)(plot, javaPos, item);
+                    }
+                }
+            });
+        }
+        plot.gflotHoverListeners.push({ listener: listener, onlyOnDatapoint: onlyOnDatapoint });
+    }-*/;
+
+    static native void removePlotHoverListener( PlotHoverListener listener, Plot plot )
+    /*-{
+        var listeners = plot.gflotHoverListeners;
+        if (!listeners) {
+            return;
+        }
+        var kept = [];
+        for (var i = 0; i < listeners.length; ++i) {
+            if (listeners[i].listener !== listener) {
+                kept.push(listeners[i]);
             }
-        });
+        }
+        plot.gflotHoverListeners = kept;
     }-*/;
 
     static native void addPlotClickListener( Element container, PlotClickListener listener, boolean onlyOnDatapoint,
                                              Plot plot )
     /*-{
-        $wnd.jQuery("#"+container.id).bind("plotclick", function(event, pos, item) {
-            if(item != null || !onlyOnDatapoint){
-                var javaPos = pos==null?null:@ca.nanometrics.gflot.client.event.PlotPosition::new(Lcom/google/gwt/json/client/JSONObject;)(@com.google.gwt.json.client.JSONObject::new(Lcom/google/gwt/core/client/JavaScriptObject;)(pos));
-                var javaItem = item==null?null:@ca.nanometrics.gflot.client.event.PlotItem::new(Lcom/google/gwt/json/client/JSONObject;)(@com.google.gwt.json.client.JSONObject::new(Lcom/google/gwt/core/client/JavaScriptObject;)(item));
-                listener.@ca.nanometrics.gflot.client.event.PlotClickListener::onPlotClick(Lca/nanometrics/gflot/client/jsni/Plot;Lca/nanometrics/gflot/client/event/PlotPosition;Lca/nanometrics/gflot/client/event/PlotItem;)(plot, javaPos, javaItem);
-            }
-        });
+        if (!plot.gflotClickListeners) {
+            var listeners = plot.gflotClickListeners = [];
+            $wnd.jQuery("#"+container.id).bind("plotclick", function(event, pos, item) {
+                var javaPos = null;
+                for (var i = 0; i < listeners.length; ++i) {
+                    if(item != null || !listeners[i].onlyOnDatapoint){
+                        if (javaPos == null && pos != null) {
+                            javaPos = @ca.nanometrics.gflot.client.event.PlotPosition::new(Lcom/google/gwt/core/client/JavaScriptObject;)(pos);
+                        }
+                        listeners[i].listener.@ca.nanometrics.gflot.client.event.PlotClickListener::onPlotClick(Lca/nanometrics/gflot/client/jsni/Plot;Lca/nanometrics/gflot/client/event/PlotPosition;Lca/nanometrics/gflot/client/event/PlotItem;)(plot, javaPos, item);
+                    }
+                }
+            });
+        }
+        plot.gflotClickListeners.push({ listener: listener, onlyOnDatapoint: onlyOnDatapoint });
     }-*/;
 
     static native int getPlotOffsetLeft( Plot plot )
@@ -189,6 +337,66 @@ public class PlotImpl
     	return options;
     }-*/;
 
+    static native JsArrayNumber valuesAtX( Plot plot, double x, String interpolation )
+    /*-{
+		var series = plot.getData(), values = [];
+		for ( var i = 0; i < series.length; ++i) {
+			var points = series[i].datapoints.points, ps = series[i].datapoints.pointsize, n = points.length / ps;
+			if (n == 0) {
+				values.push(NaN);
+				continue;
+			}
+
+			// index of the first point with a x greater than x. The gap points, with a null x, are compared through the
+			// nearest point before them.
+			var lo = 0, hi = n;
+			while (lo < hi) {
+				var mid = (lo + hi) >> 1, m = mid;
+				while (m >= lo && points[m * ps] == null)
+					m--;
+				if (m < lo || points[m * ps] <= x)
+					lo = mid + 1;
+				else
+					hi = m;
+			}
+
+			// the points surrounding x, skipping the gaps. The line is broken between them if a gap separates them.
+			var prev = lo - 1, next = lo;
+			while (prev >= 0 && points[prev * ps] == null)
+				prev--;
+			while (next < n && points[next * ps] == null)
+				next++;
+			var broken = next - prev > 1;
+
+			var value = NaN;
+			if (interpolation == "nearest") {
+				if (prev < 0)
+					prev = next;
+				else if (next == n)
+					next = prev;
+				if (next < n) {
+					var index = Math.abs(points[next * ps] - x) < Math.abs(x - points[prev * ps]) ? next : prev;
+					value = points[index * ps + 1];
+				}
+			} else if (prev >= 0) {
+				var x1 = points[prev * ps], y1 = points[prev * ps + 1];
+				if (x1 == x || (interpolation == "previous" && !broken)) {
+					value = y1;
+				} else if (interpolation == "linear" && next < n && !broken) {
+					var x2 = points[next * ps], y2 = points[next * ps + 1];
+					value = y1 + (y2 - y1) * (x - x1) / (x2 - x1);
+				}
+			}
+			values.push(value == null ? NaN : value);
+		}
+		return values;
+    }-*/;
+
+    static native JsPlotOptions getJsPlotOptions( Plot plot )
+    /*-{
+		return plot.getOptions();
+    }-*/;
+
     native static void saveAsImage( Plot plot )
     /*-{
 		$wnd.Canvas2Image.saveAsPNG(plot.getCanvas());
@@ -79,6 +79,8 @@ public abstract class AbstractAxisOptions<T extends AbstractAxisOptions<?>>
         CSS, CANVAS, HTML;
     }
 
+    private static final int LABEL_CACHE_SIZE = 1000;
+
     private static final String SHOW_KEY = "show";
 
     private static final String POSITION_KEY = "position";
@@ -386,6 +388,19 @@ public abstract class AbstractAxisOptions<T extends AbstractAxisOptions<?>>
     	};
     }-*/;
 
+    /**
+     * Set a built-in transform. The transform runs entirely in JavaScript, which is much faster than a
+     * {@link TransformAxis} on large series. A logarithmic transform also replaces the ticks by ticks on the decades,
+     * call {@link #setTicks(TickGenerator)} or {@link #setTicks(double)} afterwards to override them.
+     */
+    public T setTransform( AxisTransform transform )
+    {
+        assert null != transform : "transform can't be null";
+
+        transform.install( getWrappedObj().getJavaScriptObject() );
+        return (T) this;
+    }
+
     /**
      * Clear the transform generator
      */
@@ -523,19 +538,38 @@ public abstract class AbstractAxisOptions<T extends AbstractAxisOptions<?>>
     }
 
     /**
-     * Set the tick generator.
+     * Set the tick generator. The generator is called on every setupGrid.
      */
     public T setTicks( TickGenerator generator )
+    {
+        return setTicks( generator, false );
+    }
+
+    /**
+     * Set the tick generator.
+     *
+     * @param memoize if true, the generator is only called when the min, max or tick size of the axis changed since the
+     * last call, the tick size changing with the pixel size of the axis. Use it only if the generator depends on nothing
+     * else. Otherwise, it is called on every setupGrid.
+     */
+    public T setTicks( TickGenerator generator, boolean memoize )
     {
         assert null != generator : "generator can't be null";
 
-        setTickGeneratorNative( getWrappedObj().getJavaScriptObject(), generator );
+        setTickGeneratorNative( getWrappedObj().getJavaScriptObject(), generator, memoize );
         return (T) this;
     }
 
-    private static native void setTickGeneratorNative( JavaScriptObject axisOptions, TickGenerator generator )
+    private static native void setTickGeneratorNative( JavaScriptObject axisOptions, TickGenerator generator,
+        boolean memoize )
     /*-{
+    	// flot passes a new object on every call, the tick size it holds follows the pixel size of the axis
+    	var lastKey = null, lastTicks = null;
     	axisOptions.ticks = function(axis) {
+    		var key = axis.min + "|" + axis.max + "|" + axis.tickSize;
+    		if (memoize && key === lastKey) {
+    			return lastTicks;
+    		}
     		var jsonAxisObject = @com.google.gwt.json.client.JSONObject::new(Lcom/google/gwt/core/client/JavaScriptObject;)(axis);
     		var javaAxisObject = @ca.nanometrics.gflot.client.Axis::new(Lcom/google/gwt/json/client/JSONObject;)(jsonAxisObject);
 
@@ -543,7 +577,9 @@ public abstract class AbstractAxisOptions<T extends AbstractAxisOptions<?>>
 
     		var jsonArrayWrapper = @ca.nanometrics.gflot.client.util.JSONHelper::wrapArray([Lca/nanometrics/gflot/client/util/JSONWrapper;)(generated);
     		var jsonArray = @ca.nanometrics.gflot.client.util.JSONHelper::getJSONArray(Lca/nanometrics/gflot/client/util/JSONArrayWrapper;)(jsonArrayWrapper);
-    		return jsonArray.@com.google.gwt.json.client.JSONArray::getJavaScriptObject()();
+    		lastKey = key;
+    		lastTicks = jsonArray.@com.google.gwt.json.client.JSONArray::getJavaScriptObject()();
+    		return lastTicks;
     	};
     }-*/;
 
@@ -557,20 +593,54 @@ public abstract class AbstractAxisOptions<T extends AbstractAxisOptions<?>>
     }
 
     /**
-     * Set the tick formatter.
+     * Set the tick formatter. The formatter is called for every label.
      */
     public T setTickFormatter( TickFormatter tickFormatter )
     {
-        setTickFormatterNative( getWrappedObj().getJavaScriptObject(), tickFormatter );
+        return setTickFormatter( tickFormatter, false );
+    }
+
+    /**
+     * Set the tick formatter.
+     *
+     * @param memoize if true, the formatted labels are cached by value, tick size and tick decimals so the formatter is
+     * only called for new labels. Use false if the formatter depends on something else.
+     */
+    public T setTickFormatter( TickFormatter tickFormatter, boolean memoize )
+    {
+        setTickFormatterNative( getWrappedObj().getJavaScriptObject(), tickFormatter, memoize, LABEL_CACHE_SIZE );
         return (T) this;
     }
 
-    private static native void setTickFormatterNative( JavaScriptObject axisOptions, TickFormatter tickFormatter )
+    private static native void setTickFormatterNative( JavaScriptObject axisOptions, TickFormatter tickFormatter,
+        boolean memoize, int cacheSize )
     /*-{
+    	// the Axis wrapper reads the axis object live so it is built once per axis
+    	var lastAxis = null, javaAxisObject = null, labels = {}, count = 0;
     	axisOptions.tickFormatter = function(val, axis) {
-    		var jsonAxisObject = @com.google.gwt.json.client.JSONObject::new(Lcom/google/gwt/core/client/JavaScriptObject;)(axis);
-    		var javaAxisObject = @ca.nanometrics.gflot.client.Axis::new(Lcom/google/gwt/json/client/JSONObject;)(jsonAxisObject);
-    		return tickFormatter.@ca.nanometrics.gflot.client.options.TickFormatter::formatTickValue(DLca/nanometrics/gflot/client/Axis;)(val, javaAxisObject);
+    		var key = null;
+    		if (memoize) {
+    			key = val + "|" + axis.tickSize + "|" + axis.tickDecimals;
+    			if (labels.hasOwnProperty(key)) {
+    				return labels[key];
+    			}
+    		}
+    		if (axis !== lastAxis) {
+    			var jsonAxisObject = @com.google.gwt.json.client.JSONObject::new(Lcom/google/gwt/core/client/JavaScriptObject;)(axis);
+    			javaAxisObject = @ca.nanometrics.gflot.client.Axis::new(Lcom/google/gwt/json/client/JSONObject;)(jsonAxisObject);
+    			lastAxis = axis;
+    		}
+    		var label = tickFormatter.@ca.nanometrics.gflot.client.options.TickFormatter::formatTickValue(DLca/nanometrics/gflot/client/Axis;)(val, javaAxisObject);
+    		if (memoize) {
+    			// the cache is flushed when full, the labels of the current view are quickly formatted again
+    			if (count >= cacheSize) {
+    				labels = {};
+    				count = 0;
+    			}
+    			labels[key] = label;
+    			++count;
+    		}
+    		return label;
     	};
     }-*/;
 
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client.options;
+
+import com.google.gwt.core.client.JavaScriptObject;
+
+/**
+ * Built-in axis transforms. Unlike a {@link AbstractAxisOptions.TransformAxis}, they run entirely in JavaScript so
+ * transforming the points doesn't call back into Java.
+ */
+public final class AxisTransform
+{
+    /**
+     * Default smallest positive value displayed by a logarithmic axis
+     */
+    public static final double DEFAULT_LOG_MIN_VALUE = 1e-10;
+
+    /**
+     * Base 10 logarithm. The values lower than {@link #DEFAULT_LOG_MIN_VALUE} are drawn at that value. The ticks are
+     * generated on the decades.
+     */
+    public static final AxisTransform LOG10 = log10( DEFAULT_LOG_MIN_VALUE );
+
+    /**
+     * Signed square root, the negative values are transformed to -sqrt(-v)
+     */
+    public static final AxisTransform SQRT = new AxisTransform( "sqrt", 0, false );
+
+    /**
+     * Reverse the axis so the values appear in inverse order
+     */
+    public static final AxisTransform REVERSE = new AxisTransform( "reverse", 0, false );
+
+    /**
+     * Base 10 logarithm. The ticks are generated on the decades.
+     *
+     * @param minValue the smallest positive value displayed, lower values (including 0 and negative values) are drawn
+     * at that value
+     */
+    public static AxisTransform log10( double minValue )
+    {
+        assert minValue > 0 : "minValue must be positive";
+
+        return new AxisTransform( "log10", minValue, true );
+    }
+
+    /**
+     * Symmetric logarithm: sign(v) * log10(1 + |v| / linearThreshold). It is linear around 0 and logarithmic beyond
+     * the threshold, so it handles 0 and negative values.
+     *
+     * @param linearThreshold the magnitude under which the axis is roughly linear
+     */
+    public static AxisTransform symlog( double linearThreshold )
+    {
+        assert linearThreshold > 0 : "linearThreshold must be positive";
+
+        return new AxisTransform( "symlog", linearThreshold, false );
+    }
+
+    private final String type;
+
+    private final double parameter;
+
+    private final boolean logTicks;
+
+    private AxisTransform( String type, double parameter, boolean logTicks )
+    {
+        this.type = type;
+        this.parameter = parameter;
+        this.logTicks = logTicks;
+    }
+
+    /**
+     * @return true if the transform also generates ticks on the decades
+     */
+    public boolean hasLogTicks()
+    {
+        return logTicks;
+    }
+
+    void install( JavaScriptObject axisOptions )
+    {
+        installTransform( axisOptions, type, parameter );
+        if ( logTicks )
+        {
+            installLogTicks( axisOptions, parameter );
+        }
+    }
+
+    private static native void installTransform( JavaScriptObject axisOptions, String type, double parameter )
+    /*-{
+		var transform, inverseTransform;
+		switch (type) {
+		case "log10":
+			var minValue = parameter;
+			transform = function(v) {
+				return Math.log(v > minValue ? v : minValue) * Math.LOG10E;
+			};
+			inverseTransform = function(v) {
+				return Math.pow(10, v);
+			};
+			break;
+		case "sqrt":
+			transform = function(v) {
+				return v < 0 ? -Math.sqrt(-v) : Math.sqrt(v);
+			};
+			inverseTransform = function(v) {
+				return v < 0 ? -v * v : v * v;
+			};
+			break;
+		case "reverse":
+			transform = inverseTransform = function(v) {
+				return -v;
+			};
+			break;
+		case "symlog":
+			var c = parameter;
+			transform = function(v) {
+				return v < 0 ? -Math.log(1 - v / c) * Math.LOG10E : Math.log(1 + v / c) * Math.LOG10E;
+			};
+			inverseTransform = function(v) {
+				return v < 0 ? -c * (Math.pow(10, -v) - 1) : c * (Math.pow(10, v) - 1);
+			};
+			break;
+		}
+		axisOptions.transform = transform;
+		axisOptions.inverseTransform = inverseTransform;
+    }-*/;
+
+    private static native void installLogTicks( JavaScriptObject axisOptions, double minValue )
+    /*-{
+		function format(v) {
+			return v >= 1e-4 && v < 1e6 ? String(+v.toPrecision(12)) : v.toExponential(0);
+		}
+
+		axisOptions.ticks = function(axis) {
+			var min = Math.max(axis.min, minValue), max = Math.max(axis.max, minValue),
+				lo = Math.floor(Math.log(min) * Math.LOG10E), hi = Math.ceil(Math.log(max) * Math.LOG10E),
+				decades = hi - lo, ticks = [], mantissas = [ 1 ], step = 1;
+
+			// with few decades, the 2 and 5 multiples are also ticked
+			if (decades <= 3)
+				mantissas = [ 1, 2, 5 ];
+			else if (decades > 10)
+				step = Math.ceil(decades / 10);
+
+			for (var e = lo; e <= hi; e += step) {
+				for (var m = 0; m < mantissas.length; ++m) {
+					var v = mantissas[m] * Math.pow(10, e);
+					if (v >= min && v <= max)
+						ticks.push([ v, format(v) ]);
+				}
+			}
+			return ticks;
+		};
+    }-*/;
+}
@@ -37,6 +37,48 @@ import com.google.gwt.json.client.JSONValue;
 public class GridOptions
     extends JSONObjectWrapper
 {
+    /**
+     * Index used to find the data point under the mouse
+     */
+    public enum HoverIndexMode
+    {
+        /**
+         * Bisection on the x values, for series sorted by x. The series that are not sorted use the GRID mode.
+         */
+        SORTED( "sorted" ),
+        /**
+         * Uniform grid of the plot area, for any series
+         */
+        GRID( "grid" );
+
+        private final String flotValue;
+
+        HoverIndexMode( String flotValue )
+        {
+            this.flotValue = flotValue;
+        }
+
+        String getFlotValue()
+        {
+            return flotValue;
+        }
+
+        static HoverIndexMode findByFlotValue( String flotValue )
+        {
+            if ( null != flotValue && !"".equals( flotValue ) )
+            {
+                for ( HoverIndexMode mode : values() )
+                {
+                    if ( mode.getFlotValue().equals( flotValue ) )
+                    {
+                        return mode;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+
     private static final String COLOR_KEY = "color";
 
     private static final String BACKGROUND_COLOR_KEY = "backgroundColor";
@@ -71,6 +113,10 @@ public class GridOptions
 
     private static final String MOUSE_ACTIVE_RADIUS_KEY = "mouseActiveRadius";
 
+    private static final String HOVER_INDEX_KEY = "hoverIndex";
+
+    private static final String HOVER_THROTTLE_KEY = "hoverThrottle";
+
     private static final String CANVAS_TEXT_KEY = "canvasText";
 
     public GridOptions()
@@ -538,6 +584,64 @@ public class GridOptions
         return this;
     }
 
+    /**
+     * Set the index used to find the data point under the mouse for the hover and click events. By default, all the
+     * points are scanned on every mouse event. The index is built on the first mouse event after the data or the axes
+     * changed.
+     */
+    public GridOptions setHoverIndex( HoverIndexMode hoverIndex )
+    {
+        put( HOVER_INDEX_KEY, hoverIndex.getFlotValue() );
+        return this;
+    }
+
+    /**
+     * @return the index used to find the data point under the mouse
+     */
+    public HoverIndexMode getHoverIndex()
+    {
+        return HoverIndexMode.findByFlotValue( getString( HOVER_INDEX_KEY ) );
+    }
+
+    /**
+     * Clear the hover index
+     */
+    public GridOptions clearHoverIndex()
+    {
+        clear( HOVER_INDEX_KEY );
+        return this;
+    }
+
+    /**
+     * Set the minimum delay in milliseconds between two processings of the mouse moves for the hover events. Only the
+     * latest mouse position is processed, on an animation frame, and the processing is skipped while a mouse button is
+     * down (pan or selection drag) or a progressive redraw is running. By default, every mouse move is processed.
+     */
+    public GridOptions setHoverThrottle( int hoverThrottle )
+    {
+        assert hoverThrottle >= 0 : "hoverThrottle can't be negative";
+
+        put( HOVER_THROTTLE_KEY, hoverThrottle );
+        return this;
+    }
+
+    /**
+     * @return the minimum delay in milliseconds between two processings of the mouse moves
+     */
+    public Integer getHoverThrottle()
+    {
+        return getInteger( HOVER_THROTTLE_KEY );
+    }
+
+    /**
+     * Clear the hover throttle
+     */
+    public GridOptions clearHoverThrottle()
+    {
+        clear( HOVER_THROTTLE_KEY );
+        return this;
+    }
+
     /**
      * Set canvas text plugin options
      */
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client.options;
+
+import ca.nanometrics.gflot.client.options.AbstractAxisOptions.AxisPosition;
+
+/**
+ * Overlay type over the native options of an axis. When obtained from the live options of a plot, the changes are
+ * applied on the next setupGrid and draw of the plot.
+ */
+public class JsAxisOptions
+    extends JsOptionsObject
+{
+    private static final String SHOW_KEY = "show";
+
+    private static final String POSITION_KEY = "position";
+
+    private static final String MODE_KEY = "mode";
+
+    private static final String TIME_MODE_KEY = "time";
+
+    private static final String COLOR_KEY = "color";
+
+    private static final String TICK_COLOR_KEY = "tickColor";
+
+    private static final String MIN_KEY = "min";
+
+    private static final String MAX_KEY = "max";
+
+    private static final String AUTOSCALE_MARGIN_KEY = "autoscaleMargin";
+
+    private static final String LABEL_WIDTH_KEY = "labelWidth";
+
+    private static final String LABEL_HEIGHT_KEY = "labelHeight";
+
+    private static final String RESERVE_SPACE_KEY = "reserveSpace";
+
+    private static final String TICKS_KEY = "ticks";
+
+    private static final String TICK_SIZE_KEY = "tickSize";
+
+    private static final String MIN_TICK_SIZE_KEY = "minTickSize";
+
+    private static final String TICK_DECIMALS_KEY = "tickDecimals";
+
+    private static final String TICK_LENGTH_KEY = "tickLength";
+
+    private static final String AXIS_LABEL_KEY = "axisLabel";
+
+    public static JsAxisOptions create()
+    {
+        return createObject().cast();
+    }
+
+    protected JsAxisOptions()
+    {
+        // empty
+    }
+
+    public final JsAxisOptions setShow( boolean show )
+    {
+        put( SHOW_KEY, show );
+        return this;
+    }
+
+    public final Boolean getShow()
+    {
+        return getBoolean( SHOW_KEY );
+    }
+
+    public final JsAxisOptions setPosition( AxisPosition position )
+    {
+        put( POSITION_KEY, position.getFlotValue() );
+        return this;
+    }
+
+    public final AxisPosition getPosition()
+    {
+        return AxisPosition.findByFlotValue( getString( POSITION_KEY ) );
+    }
+
+    /**
+     * Set the axis to interpret the data as timestamps in milliseconds
+     */
+    public final JsAxisOptions setTimeMode()
+    {
+        put( MODE_KEY, TIME_MODE_KEY );
+        return this;
+    }
+
+    public final boolean isTimeMode()
+    {
+        return TIME_MODE_KEY.equals( getString( MODE_KEY ) );
+    }
+
+    public final JsAxisOptions setColor( String color )
+    {
+        put( COLOR_KEY, color );
+        return this;
+    }
+
+    public final String getColor()
+    {
+        return getString( COLOR_KEY );
+    }
+
+    public final JsAxisOptions setTickColor( String tickColor )
+    {
+        put( TICK_COLOR_KEY, tickColor );
+        return this;
+    }
+
+    public final String getTickColor()
+    {
+        return getString( TICK_COLOR_KEY );
+    }
+
+    public final JsAxisOptions setMinimum( double min )
+    {
+        put( MIN_KEY, min );
+        return this;
+    }
+
+    public final Double getMinimum()
+    {
+        return getDouble( MIN_KEY );
+    }
+
+    public final JsAxisOptions clearMinimum()
+    {
+        clear( MIN_KEY );
+        return this;
+    }
+
+    public final JsAxisOptions setMaximum( double max )
+    {
+        put( MAX_KEY, max );
+        return this;
+    }
+
+    public final Double getMaximum()
+    {
+        return getDouble( MAX_KEY );
+    }
+
+    public final JsAxisOptions clearMaximum()
+    {
+        clear( MAX_KEY );
+        return this;
+    }
+
+    /**
+     * Set the minimum and maximum of the axis at once
+     */
+    public final JsAxisOptions setRange( double min, double max )
+    {
+        put( MIN_KEY, min );
+        put( MAX_KEY, max );
+        return this;
+    }
+
+    public final JsAxisOptions setAutoscaleMargin( double margin )
+    {
+        put( AUTOSCALE_MARGIN_KEY, margin );
+        return this;
+    }
+
+    public final Double getAutoscaleMargin()
+    {
+        return getDouble( AUTOSCALE_MARGIN_KEY );
+    }
+
+    public final JsAxisOptions setLabelWidth( double labelWidth )
+    {
+        put( LABEL_WIDTH_KEY, labelWidth );
+        return this;
+    }
+
+    public final Double getLabelWidth()
+    {
+        return getDouble( LABEL_WIDTH_KEY );
+    }
+
+    public final JsAxisOptions setLabelHeight( double labelHeight )
+    {
+        put( LABEL_HEIGHT_KEY, labelHeight );
+        return this;
+    }
+
+    public final Double getLabelHeight()
+    {
+        return getDouble( LABEL_HEIGHT_KEY );
+    }
+
+    public final JsAxisOptions setReserveSpace( boolean reserveSpace )
+    {
+        put( RESERVE_SPACE_KEY, reserveSpace );
+        return this;
+    }
+
+    public final Boolean getReserveSpace()
+    {
+        return getBoolean( RESERVE_SPACE_KEY );
+    }
+
+    /**
+     * Set the approximate number of ticks
+     */
+    public final JsAxisOptions setTicks( double ticks )
+    {
+        put( TICKS_KEY, ticks );
+        return this;
+    }
+
+    public final JsAxisOptions setTickSize( double tickSize )
+    {
+        put( TICK_SIZE_KEY, tickSize );
+        return this;
+    }
+
+    public final Double getTickSize()
+    {
+        return getDouble( TICK_SIZE_KEY );
+    }
+
+    public final JsAxisOptions setMinTickSize( double minTickSize )
+    {
+        put( MIN_TICK_SIZE_KEY, minTickSize );
+        return this;
+    }
+
+    public final Double getMinTickSize()
+    {
+        return getDouble( MIN_TICK_SIZE_KEY );
+    }
+
+    public final JsAxisOptions setTickDecimals( double tickDecimals )
+    {
+        put( TICK_DECIMALS_KEY, tickDecimals );
+        return this;
+    }
+
+    public final Double getTickDecimals()
+    {
+        return getDouble( TICK_DECIMALS_KEY );
+    }
+
+    public final JsAxisOptions setTickLength( double tickLength )
+    {
+        put( TICK_LENGTH_KEY, tickLength );
+        return this;
+    }
+
+    public final Double getTickLength()
+    {
+        return getDouble( TICK_LENGTH_KEY );
+    }
+
+    public final JsAxisOptions setLabel( String label )
+    {
+        put( AXIS_LABEL_KEY, label );
+        return this;
+    }
+
+    public final String getLabel()
+    {
+        return getString( AXIS_LABEL_KEY );
+    }
+}
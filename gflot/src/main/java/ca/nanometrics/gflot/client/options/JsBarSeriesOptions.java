@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client.options;
+
+import ca.nanometrics.gflot.client.options.BarSeriesOptions.BarAlignment;
+
+/**
+ * Overlay type over the native bars options of a series.
+ */
+public class JsBarSeriesOptions
+    extends JsBasicSeriesOptions<JsBarSeriesOptions>
+{
+    private static final String BAR_WIDTH_KEY = "barWidth";
+
+    private static final String ALIGNMENT_KEY = "align";
+
+    private static final String HORIZONTAL_KEY = "horizontal";
+
+    public static JsBarSeriesOptions create()
+    {
+        return createObject().cast();
+    }
+
+    protected JsBarSeriesOptions()
+    {
+        // empty
+    }
+
+    public final JsBarSeriesOptions setBarWidth( double barWidth )
+    {
+        put( BAR_WIDTH_KEY, barWidth );
+        return this;
+    }
+
+    public final Double getBarWidth()
+    {
+        return getDouble( BAR_WIDTH_KEY );
+    }
+
+    public final JsBarSeriesOptions setAlignment( BarAlignment alignment )
+    {
+        put( ALIGNMENT_KEY, alignment.getFlotValue() );
+        return this;
+    }
+
+    public final BarAlignment getAlignment()
+    {
+        return BarAlignment.findByFlotValue( getString( ALIGNMENT_KEY ) );
+    }
+
+    public final JsBarSeriesOptions setHorizontal( boolean horizontal )
+    {
+        put( HORIZONTAL_KEY, horizontal );
+        return this;
+    }
+
+    public final Boolean getHorizontal()
+    {
+        return getBoolean( HORIZONTAL_KEY );
+    }
+}
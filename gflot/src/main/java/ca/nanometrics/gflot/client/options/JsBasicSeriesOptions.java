@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client.options;
+
+/**
+ * Base overlay type over the native options shared by the lines, points and bars of a series.
+ */
+public class JsBasicSeriesOptions<T extends JsBasicSeriesOptions<T>>
+    extends JsOptionsObject
+{
+    private static final String SHOW_KEY = "show";
+
+    private static final String LINE_WIDTH_KEY = "lineWidth";
+
+    private static final String FILL_KEY = "fill";
+
+    private static final String FILL_COLOR_KEY = "fillColor";
+
+    protected JsBasicSeriesOptions()
+    {
+        // empty
+    }
+
+    public final T setShow( boolean show )
+    {
+        put( SHOW_KEY, show );
+        return this.<T> cast();
+    }
+
+    public final Boolean getShow()
+    {
+        return getBoolean( SHOW_KEY );
+    }
+
+    public final T setLineWidth( double lineWidth )
+    {
+        put( LINE_WIDTH_KEY, lineWidth );
+        return this.<T> cast();
+    }
+
+    public final Double getLineWidth()
+    {
+        return getDouble( LINE_WIDTH_KEY );
+    }
+
+    public final T setFill( boolean fill )
+    {
+        put( FILL_KEY, fill );
+        return this.<T> cast();
+    }
+
+    /**
+     * Set the opacity of the fill, between 0 (fully transparent) and 1 (fully opaque)
+     */
+    public final T setFill( double opacity )
+    {
+        put( FILL_KEY, opacity );
+        return this.<T> cast();
+    }
+
+    public final T setFillColor( String cssColor )
+    {
+        put( FILL_COLOR_KEY, cssColor );
+        return this.<T> cast();
+    }
+
+    public final String getFillColor()
+    {
+        return getString( FILL_COLOR_KEY );
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client.options;
+
+import com.google.gwt.core.client.JsArrayInteger;
+
+/**
+ * Overlay type over the native options of the canvas text plugin.
+ */
+public class JsCanvasTextOptions
+    extends JsOptionsObject
+{
+    private static final String SHOW_KEY = "show";
+
+    private static final String FONT_KEY = "font";
+
+    private static final String SERIES_KEY = "series";
+
+    private static final String SERIES_FONT_KEY = "seriesFont";
+
+    private static final String LINE_BREAKS_KEY = "lineBreaks";
+
+    private static final String MARGIN_TOP_KEY = "marginTop";
+
+    private static final String MARGIN_BOTTOM_KEY = "marginBottom";
+
+    private static final String LINE_SPACING_KEY = "lineSpacing";
+
+    private static final String FONT = "sans ";
+
+    public static JsCanvasTextOptions create()
+    {
+        return createObject().cast();
+    }
+
+    protected JsCanvasTextOptions()
+    {
+        // empty
+    }
+
+    public final JsCanvasTextOptions setShow( boolean show )
+    {
+        put( SHOW_KEY, show );
+        return this;
+    }
+
+    public final Boolean getShow()
+    {
+        return getBoolean( SHOW_KEY );
+    }
+
+    /**
+     * Set the font size. Default is "8px"
+     */
+    public final JsCanvasTextOptions setFontSize( String fontSize )
+    {
+        put( FONT_KEY, FONT + fontSize );
+        return this;
+    }
+
+    /**
+     * Set the font size of the series values. Default is "8px"
+     */
+    public final JsCanvasTextOptions setSeriesFontSize( String fontSize )
+    {
+        put( SERIES_FONT_KEY, FONT + fontSize );
+        return this;
+    }
+
+    /**
+     * Set the index of the series whose y values are written on the plot
+     */
+    public final JsCanvasTextOptions setSeries( int... series )
+    {
+        JsArrayInteger array = createArray().cast();
+        for ( int index : series )
+        {
+            array.push( index );
+        }
+        put( SERIES_KEY, array );
+        return this;
+    }
+
+    public final JsCanvasTextOptions setLineBreaks( boolean show, int marginTop, int marginBottom, int lineSpacing )
+    {
+        JsOptionsObject lineBreaks = getOrCreateObject( LINE_BREAKS_KEY ).cast();
+        lineBreaks.put( SHOW_KEY, show );
+        lineBreaks.put( MARGIN_TOP_KEY, marginTop );
+        lineBreaks.put( MARGIN_BOTTOM_KEY, marginBottom );
+        lineBreaks.put( LINE_SPACING_KEY, lineSpacing );
+        return this;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client.options;
+
+import ca.nanometrics.gflot.client.options.CrosshairOptions.Mode;
+
+/**
+ * Overlay type over the native crosshair options.
+ */
+public class JsCrosshairOptions
+    extends JsOptionsObject
+{
+    private static final String MODE_KEY = "mode";
+
+    private static final String COLOR_KEY = "color";
+
+    private static final String LINE_WIDTH_KEY = "lineWidth";
+
+    public static JsCrosshairOptions create()
+    {
+        return createObject().cast();
+    }
+
+    protected JsCrosshairOptions()
+    {
+        // empty
+    }
+
+    public final JsCrosshairOptions setMode( Mode mode )
+    {
+        put( MODE_KEY, mode.getFlotValue() );
+        return this;
+    }
+
+    public final Mode getMode()
+    {
+        return Mode.findByFlotValue( getString( MODE_KEY ) );
+    }
+
+    public final JsCrosshairOptions setColor( String color )
+    {
+        put( COLOR_KEY, color );
+        return this;
+    }
+
+    public final String getColor()
+    {
+        return getString( COLOR_KEY );
+    }
+
+    public final JsCrosshairOptions setLineWidth( double lineWidth )
+    {
+        put( LINE_WIDTH_KEY, lineWidth );
+        return this;
+    }
+
+    public final Double getLineWidth()
+    {
+        return getDouble( LINE_WIDTH_KEY );
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client.options;
+
+import ca.nanometrics.gflot.client.options.GridOptions.HoverIndexMode;
+
+/**
+ * Overlay type over the native grid options.
+ */
+public class JsGridOptions
+    extends JsOptionsObject
+{
+    private static final String COLOR_KEY = "color";
+
+    private static final String BACKGROUND_COLOR_KEY = "backgroundColor";
+
+    private static final String SHOW_KEY = "show";
+
+    private static final String ABOVE_DATA_KEY = "aboveData";
+
+    private static final String LABEL_MARGIN_KEY = "labelMargin";
+
+    private static final String AXIS_MARGIN_KEY = "axisMargin";
+
+    private static final String MARKINGS_COLOR_KEY = "markingsColor";
+
+    private static final String MARKINGS_LINE_WIDTH_KEY = "markingsLineWidth";
+
+    private static final String BORDER_WIDTH_KEY = "borderWidth";
+
+    private static final String BORDER_COLOR_KEY = "borderColor";
+
+    private static final String MIN_BORDER_MARGIN_KEY = "minBorderMargin";
+
+    private static final String CLICKABLE_KEY = "clickable";
+
+    private static final String HOVERABLE_KEY = "hoverable";
+
+    private static final String AUTO_HIGHLIGHT_KEY = "autoHighlight";
+
+    private static final String MOUSE_ACTIVE_RADIUS_KEY = "mouseActiveRadius";
+
+    private static final String HOVER_INDEX_KEY = "hoverIndex";
+
+    private static final String HOVER_THROTTLE_KEY = "hoverThrottle";
+
+    private static final String CANVAS_TEXT_KEY = "canvasText";
+
+    public static JsGridOptions create()
+    {
+        return createObject().cast();
+    }
+
+    protected JsGridOptions()
+    {
+        // empty
+    }
+
+    public final JsGridOptions setColor( String color )
+    {
+        put( COLOR_KEY, color );
+        return this;
+    }
+
+    public final String getColor()
+    {
+        return getString( COLOR_KEY );
+    }
+
+    public final JsGridOptions setBackgroundColor( String backgroundColor )
+    {
+        put( BACKGROUND_COLOR_KEY, backgroundColor );
+        return this;
+    }
+
+    public final String getBackgroundColor()
+    {
+        return getString( BACKGROUND_COLOR_KEY );
+    }
+
+    public final JsGridOptions setShow( boolean show )
+    {
+        put( SHOW_KEY, show );
+        return this;
+    }
+
+    public final Boolean getShow()
+    {
+        return getBoolean( SHOW_KEY );
+    }
+
+    public final JsGridOptions setAboveData( boolean aboveData )
+    {
+        put( ABOVE_DATA_KEY, aboveData );
+        return this;
+    }
+
+    public final Boolean getAboveData()
+    {
+        return getBoolean( ABOVE_DATA_KEY );
+    }
+
+    public final JsGridOptions setLabelMargin( int labelMargin )
+    {
+        put( LABEL_MARGIN_KEY, labelMargin );
+        return this;
+    }
+
+    public final Integer getLabelMargin()
+    {
+        return getInteger( LABEL_MARGIN_KEY );
+    }
+
+    public final JsGridOptions setAxisMargin( int axisMargin )
+    {
+        put( AXIS_MARGIN_KEY, axisMargin );
+        return this;
+    }
+
+    public final Integer getAxisMargin()
+    {
+        return getInteger( AXIS_MARGIN_KEY );
+    }
+
+    public final JsGridOptions setMarkingsColor( String markingsColor )
+    {
+        put( MARKINGS_COLOR_KEY, markingsColor );
+        return this;
+    }
+
+    public final String getMarkingsColor()
+    {
+        return getString( MARKINGS_COLOR_KEY );
+    }
+
+    public final JsGridOptions setMarkingsLineWidth( int markingsLineWidth )
+    {
+        put( MARKINGS_LINE_WIDTH_KEY, markingsLineWidth );
+        return this;
+    }
+
+    public final Integer getMarkingsLineWidth()
+    {
+        return getInteger( MARKINGS_LINE_WIDTH_KEY );
+    }
+
+    public final JsGridOptions setBorderWidth( int borderWidth )
+    {
+        put( BORDER_WIDTH_KEY, borderWidth );
+        return this;
+    }
+
+    public final Integer getBorderWidth()
+    {
+        return getInteger( BORDER_WIDTH_KEY );
+    }
+
+    public final JsGridOptions setBorderColor( String borderColor )
+    {
+        put( BORDER_COLOR_KEY, borderColor );
+        return this;
+    }
+
+    public final String getBorderColor()
+    {
+        return getString( BORDER_COLOR_KEY );
+    }
+
+    public final JsGridOptions setMinBorderMargin( int minBorderMargin )
+    {
+        put( MIN_BORDER_MARGIN_KEY, minBorderMargin );
+        return this;
+    }
+
+    public final Integer getMinBorderMargin()
+    {
+        return getInteger( MIN_BORDER_MARGIN_KEY );
+    }
+
+    public final JsGridOptions setClickable( boolean clickable )
+    {
+        put( CLICKABLE_KEY, clickable );
+        return this;
+    }
+
+    public final Boolean getClickable()
+    {
+        return getBoolean( CLICKABLE_KEY );
+    }
+
+    public final JsGridOptions setHoverable( boolean hoverable )
+    {
+        put( HOVERABLE_KEY, hoverable );
+        return this;
+    }
+
+    public final Boolean getHoverable()
+    {
+        return getBoolean( HOVERABLE_KEY );
+    }
+
+    public final JsGridOptions setAutoHighlight( boolean autoHighlight )
+    {
+        put( AUTO_HIGHLIGHT_KEY, autoHighlight );
+        return this;
+    }
+
+    public final Boolean getAutoHighlight()
+    {
+        return getBoolean( AUTO_HIGHLIGHT_KEY );
+    }
+
+    public final JsGridOptions setMouseActiveRadius( int mouseActiveRadius )
+    {
+        put( MOUSE_ACTIVE_RADIUS_KEY, mouseActiveRadius );
+        return this;
+    }
+
+    public final Integer getMouseActiveRadius()
+    {
+        return getInteger( MOUSE_ACTIVE_RADIUS_KEY );
+    }
+
+    public final JsGridOptions setHoverIndex( HoverIndexMode hoverIndex )
+    {
+        put( HOVER_INDEX_KEY, hoverIndex.getFlotValue() );
+        return this;
+    }
+
+    public final HoverIndexMode getHoverIndex()
+    {
+        return HoverIndexMode.findByFlotValue( getString( HOVER_INDEX_KEY ) );
+    }
+
+    public final JsGridOptions setHoverThrottle( int hoverThrottle )
+    {
+        put( HOVER_THROTTLE_KEY, hoverThrottle );
+        return this;
+    }
+
+    public final Integer getHoverThrottle()
+    {
+        return getInteger( HOVER_THROTTLE_KEY );
+    }
+
+    /**
+     * @return the markings, created if not present. Markings given as a function are replaced by an empty array.
+     */
+    public final native JsMarkings getMarkings()
+    /*-{
+		if (Object.prototype.toString.call(this.markings) != "[object Array]") {
+			this.markings = [];
+		}
+		return this.markings;
+    }-*/;
+
+    /**
+     * @return the canvas text plugin options, created if not present
+     */
+    public final JsCanvasTextOptions getCanvasTextOptions()
+    {
+        return getOrCreateObject( CANVAS_TEXT_KEY ).cast();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client.options;
+
+import ca.nanometrics.gflot.client.options.ImageSeriesOptions.ImageAnchor;
+
+/**
+ * Overlay type over the native images options of a series.
+ */
+public class JsImageSeriesOptions
+    extends JsOptionsObject
+{
+    private static final String SHOW_KEY = "show";
+
+    private static final String ANCHOR_KEY = "anchor";
+
+    private static final String ALPHA_KEY = "alpha";
+
+    public static JsImageSeriesOptions create()
+    {
+        return createObject().cast();
+    }
+
+    protected JsImageSeriesOptions()
+    {
+        // empty
+    }
+
+    public final JsImageSeriesOptions setShow( boolean show )
+    {
+        put( SHOW_KEY, show );
+        return this;
+    }
+
+    public final Boolean getShow()
+    {
+        return getBoolean( SHOW_KEY );
+    }
+
+    public final JsImageSeriesOptions setAnchor( ImageAnchor anchor )
+    {
+        put( ANCHOR_KEY, anchor.getFlotValue() );
+        return this;
+    }
+
+    public final ImageAnchor getAnchor()
+    {
+        return ImageAnchor.findByFlotValue( getString( ANCHOR_KEY ) );
+    }
+
+    public final JsImageSeriesOptions setAlpha( double alpha )
+    {
+        put( ALPHA_KEY, alpha );
+        return this;
+    }
+
+    public final Double getAlpha()
+    {
+        return getDouble( ALPHA_KEY );
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client.options;
+
+import ca.nanometrics.gflot.client.options.LegendOptions.LegendPosition;
+
+/**
+ * Overlay type over the native legend options.
+ */
+public class JsLegendOptions
+    extends JsOptionsObject
+{
+    private static final String SHOW_KEY = "show";
+
+    private static final String LABEL_BOX_BORDER_COLOR_KEY = "labelBoxBorderColor";
+
+    private static final String NUM_OF_COLUMNS_KEY = "noColumns";
+
+    private static final String POSITION_KEY = "position";
+
+    private static final String MARGIN_KEY = "margin";
+
+    private static final String BACKGROUND_COLOR_KEY = "backgroundColor";
+
+    private static final String BACKGROUND_OPACITY_KEY = "backgroundOpacity";
+
+    public static JsLegendOptions create()
+    {
+        return createObject().cast();
+    }
+
+    protected JsLegendOptions()
+    {
+        // empty
+    }
+
+    public final JsLegendOptions setShow( boolean show )
+    {
+        put( SHOW_KEY, show );
+        return this;
+    }
+
+    public final Boolean getShow()
+    {
+        return getBoolean( SHOW_KEY );
+    }
+
+    public final JsLegendOptions setLabelBoxBorderColor( String labelBoxBorderColor )
+    {
+        put( LABEL_BOX_BORDER_COLOR_KEY, labelBoxBorderColor );
+        return this;
+    }
+
+    public final String getLabelBoxBorderColor()
+    {
+        return getString( LABEL_BOX_BORDER_COLOR_KEY );
+    }
+
+    public final JsLegendOptions setNumOfColumns( int numOfColumns )
+    {
+        put( NUM_OF_COLUMNS_KEY, numOfColumns );
+        return this;
+    }
+
+    public final Integer getNumOfColumns()
+    {
+        return getInteger( NUM_OF_COLUMNS_KEY );
+    }
+
+    public final JsLegendOptions setPosition( LegendPosition position )
+    {
+        put( POSITION_KEY, position.getFlotValue() );
+        return this;
+    }
+
+    public final LegendPosition getPosition()
+    {
+        return LegendPosition.findByFlotValue( getString( POSITION_KEY ) );
+    }
+
+    public final JsLegendOptions setMargin( double margin )
+    {
+        put( MARGIN_KEY, margin );
+        return this;
+    }
+
+    public final JsLegendOptions setBackgroundColor( String backgroundColor )
+    {
+        put( BACKGROUND_COLOR_KEY, backgroundColor );
+        return this;
+    }
+
+    public final String getBackgroundColor()
+    {
+        return getString( BACKGROUND_COLOR_KEY );
+    }
+
+    public final JsLegendOptions setBackgroundOpacity( double backgroundOpacity )
+    {
+        put( BACKGROUND_OPACITY_KEY, backgroundOpacity );
+        return this;
+    }
+
+    public final Double getBackgroundOpacity()
+    {
+        return getDouble( BACKGROUND_OPACITY_KEY );
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client.options;
+
+/**
+ * Overlay type over the native lines options of a series.
+ */
+public class JsLineSeriesOptions
+    extends JsBasicSeriesOptions<JsLineSeriesOptions>
+{
+    private static final String STEPS_KEY = "steps";
+
+    private static final String DECIMATE_KEY = "decimate";
+
+    public static JsLineSeriesOptions create()
+    {
+        return createObject().cast();
+    }
+
+    protected JsLineSeriesOptions()
+    {
+        // empty
+    }
+
+    public final JsLineSeriesOptions setSteps( boolean steps )
+    {
+        put( STEPS_KEY, steps );
+        return this;
+    }
+
+    public final Boolean getSteps()
+    {
+        return getBoolean( STEPS_KEY );
+    }
+
+    public final JsLineSeriesOptions setDecimate( boolean decimate )
+    {
+        put( DECIMATE_KEY, decimate );
+        return this;
+    }
+
+    public final Boolean getDecimate()
+    {
+        return getBoolean( DECIMATE_KEY );
+    }
+}
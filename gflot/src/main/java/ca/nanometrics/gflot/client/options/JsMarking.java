@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client.options;
+
+/**
+ * Overlay type over a native marking of the grid.
+ */
+public class JsMarking
+    extends JsOptionsObject
+{
+    private static final String FROM_KEY = "from";
+
+    private static final String TO_KEY = "to";
+
+    private static final String COLOR_KEY = "color";
+
+    private static final String LINE_WIDTH_KEY = "lineWidth";
+
+    public static JsMarking create()
+    {
+        return createObject().cast();
+    }
+
+    protected JsMarking()
+    {
+        // empty
+    }
+
+    /**
+     * Set the range of the marking on the first x axis
+     */
+    public final JsMarking setX( double from, double to )
+    {
+        return setX( from, to, 1 );
+    }
+
+    /**
+     * Set the range of the marking on x axis number xAxisNumber
+     *
+     * @param xAxisNumber number of the x axis, starting at 1
+     */
+    public final JsMarking setX( double from, double to, int xAxisNumber )
+    {
+        assert xAxisNumber > 0 : "xAxisNumber starts at 1";
+        setRange( xAxisNumber == 1 ? "xaxis" : "x" + xAxisNumber + "axis", from, to );
+        return this;
+    }
+
+    /**
+     * Set the range of the marking on the first y axis
+     */
+    public final JsMarking setY( double from, double to )
+    {
+        return setY( from, to, 1 );
+    }
+
+    /**
+     * Set the range of the marking on y axis number yAxisNumber
+     *
+     * @param yAxisNumber number of the y axis, starting at 1
+     */
+    public final JsMarking setY( double from, double to, int yAxisNumber )
+    {
+        assert yAxisNumber > 0 : "yAxisNumber starts at 1";
+        setRange( yAxisNumber == 1 ? "yaxis" : "y" + yAxisNumber + "axis", from, to );
+        return this;
+    }
+
+    public final JsMarking setColor( String color )
+    {
+        put( COLOR_KEY, color );
+        return this;
+    }
+
+    public final String getColor()
+    {
+        return getString( COLOR_KEY );
+    }
+
+    public final JsMarking setLineWidth( int lineWidth )
+    {
+        put( LINE_WIDTH_KEY, lineWidth );
+        return this;
+    }
+
+    public final Integer getLineWidth()
+    {
+        return getInteger( LINE_WIDTH_KEY );
+    }
+
+    private void setRange( String key, double from, double to )
+    {
+        JsOptionsObject range = getOrCreateObject( key ).cast();
+        range.put( FROM_KEY, from );
+        range.put( TO_KEY, to );
+    }
+}
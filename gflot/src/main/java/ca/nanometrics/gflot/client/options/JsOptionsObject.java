@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client.options;
+
+import com.google.gwt.core.client.JavaScriptObject;
+
+/**
+ * Base class of the overlay types over the native option objects consumed by Flot. Unlike the {@link ca.nanometrics.gflot.client.util.JSONObjectWrapper}
+ * based options, the setters write directly to the native object without any intermediate wrapper.
+ */
+public class JsOptionsObject
+    extends JavaScriptObject
+{
+    protected JsOptionsObject()
+    {
+        // empty
+    }
+
+    protected final native void put( String key, double value )
+    /*-{
+		this[key] = value;
+    }-*/;
+
+    protected final native void put( String key, boolean value )
+    /*-{
+		this[key] = value;
+    }-*/;
+
+    protected final native void put( String key, String value )
+    /*-{
+		this[key] = value;
+    }-*/;
+
+    protected final native void put( String key, JavaScriptObject value )
+    /*-{
+		this[key] = value;
+    }-*/;
+
+    /**
+     * @return true if the option is set
+     */
+    public final native boolean has( String key )
+    /*-{
+		return this[key] != null;
+    }-*/;
+
+    /**
+     * Clear the option
+     */
+    public final native void clear( String key )
+    /*-{
+		delete this[key];
+    }-*/;
+
+    protected final Double getDouble( String key )
+    {
+        return has( key ) ? getDoubleValue( key ) : null;
+    }
+
+    protected final Integer getInteger( String key )
+    {
+        return has( key ) ? (int) getDoubleValue( key ) : null;
+    }
+
+    protected final Boolean getBoolean( String key )
+    {
+        return has( key ) ? getBooleanValue( key ) : null;
+    }
+
+    protected final native String getString( String key )
+    /*-{
+		var value = this[key];
+		return value == null ? null : String(value);
+    }-*/;
+
+    protected final native JavaScriptObject getObject( String key )
+    /*-{
+		var value = this[key];
+		return value == null ? null : value;
+    }-*/;
+
+    /**
+     * @return the object stored under the key, creating an empty one if none is present
+     */
+    protected final native JavaScriptObject getOrCreateObject( String key )
+    /*-{
+		var value = this[key];
+		if (value == null || typeof value != "object") {
+			value = this[key] = {};
+		}
+		return value;
+    }-*/;
+
+    private native double getDoubleValue( String key )
+    /*-{
+		return this[key];
+    }-*/;
+
+    private native boolean getBooleanValue( String key )
+    /*-{
+		return !!this[key];
+    }-*/;
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client.options;
+
+/**
+ * Overlay type over the native pan options of the navigate plugin.
+ */
+public class JsPanOptions
+    extends JsOptionsObject
+{
+    private static final String INTERACTIVE_KEY = "interactive";
+
+    private static final String CURSOR_KEY = "cursor";
+
+    private static final String FRAME_RATE_KEY = "frameRate";
+
+    private static final String PREVIEW_KEY = "preview";
+
+    public static JsPanOptions create()
+    {
+        return createObject().cast();
+    }
+
+    protected JsPanOptions()
+    {
+        // empty
+    }
+
+    public final JsPanOptions setInteractive( boolean interactive )
+    {
+        put( INTERACTIVE_KEY, interactive );
+        return this;
+    }
+
+    public final Boolean getInteractive()
+    {
+        return getBoolean( INTERACTIVE_KEY );
+    }
+
+    public final JsPanOptions setCursor( String cursor )
+    {
+        put( CURSOR_KEY, cursor );
+        return this;
+    }
+
+    public final String getCursor()
+    {
+        return getString( CURSOR_KEY );
+    }
+
+    public final JsPanOptions setFrameRate( int frameRate )
+    {
+        put( FRAME_RATE_KEY, frameRate );
+        return this;
+    }
+
+    public final Integer getFrameRate()
+    {
+        return getInteger( FRAME_RATE_KEY );
+    }
+
+    public final JsPanOptions setPreview( boolean preview )
+    {
+        put( PREVIEW_KEY, preview );
+        return this;
+    }
+
+    public final Boolean getPreview()
+    {
+        return getBoolean( PREVIEW_KEY );
+    }
+}
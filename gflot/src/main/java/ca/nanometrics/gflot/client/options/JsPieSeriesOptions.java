@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client.options;
+
+/**
+ * Overlay type over the native pie options of a series.
+ */
+public class JsPieSeriesOptions
+    extends JsOptionsObject
+{
+    private static final String SHOW_KEY = "show";
+
+    private static final String RADIUS_KEY = "radius";
+
+    private static final String INNER_RADIUS_KEY = "innerRadius";
+
+    private static final String START_ANGLE_KEY = "startAngle";
+
+    private static final String TILT_KEY = "tilt";
+
+    private static final String OFFSET_KEY = "offset";
+
+    private static final String STROKE_KEY = "stroke";
+
+    private static final String LABEL_KEY = "label";
+
+    private static final String COMBINE_KEY = "combine";
+
+    private static final String HIGHLIGHT_KEY = "highlight";
+
+    private static final String ANGLE_INDEX_KEY = "angleIndex";
+
+    private static final String TOP_KEY = "top";
+
+    private static final String LEFT_KEY = "left";
+
+    private static final String COLOR_KEY = "color";
+
+    private static final String WIDTH_KEY = "width";
+
+    private static final String THRESHOLD_KEY = "threshold";
+
+    private static final String OPACITY_KEY = "opacity";
+
+    public static JsPieSeriesOptions create()
+    {
+        return createObject().cast();
+    }
+
+    protected JsPieSeriesOptions()
+    {
+        // empty
+    }
+
+    public final JsPieSeriesOptions setShow( boolean show )
+    {
+        put( SHOW_KEY, show );
+        return this;
+    }
+
+    public final Boolean getShow()
+    {
+        return getBoolean( SHOW_KEY );
+    }
+
+    /**
+     * Set the radius of the pie, a value between 0 and 1 is a proportion of the plot size, a greater value is in pixels
+     */
+    public final JsPieSeriesOptions setRadius( double radius )
+    {
+        put( RADIUS_KEY, radius );
+        return this;
+    }
+
+    public final Double getRadius()
+    {
+        return getDouble( RADIUS_KEY );
+    }
+
+    public final JsPieSeriesOptions setInnerRadius( double innerRadius )
+    {
+        put( INNER_RADIUS_KEY, innerRadius );
+        return this;
+    }
+
+    public final Double getInnerRadius()
+    {
+        return getDouble( INNER_RADIUS_KEY );
+    }
+
+    public final JsPieSeriesOptions setStartAngle( double startAngle )
+    {
+        put( START_ANGLE_KEY, startAngle );
+        return this;
+    }
+
+    public final Double getStartAngle()
+    {
+        return getDouble( START_ANGLE_KEY );
+    }
+
+    public final JsPieSeriesOptions setTilt( double tilt )
+    {
+        put( TILT_KEY, tilt );
+        return this;
+    }
+
+    public final Double getTilt()
+    {
+        return getDouble( TILT_KEY );
+    }
+
+    public final JsPieSeriesOptions setOffset( int top, int left )
+    {
+        JsOptionsObject offset = getOrCreateObject( OFFSET_KEY ).cast();
+        offset.put( TOP_KEY, top );
+        offset.put( LEFT_KEY, left );
+        return this;
+    }
+
+    public final JsPieSeriesOptions setStroke( String color, int width )
+    {
+        JsOptionsObject stroke = getOrCreateObject( STROKE_KEY ).cast();
+        stroke.put( COLOR_KEY, color );
+        stroke.put( WIDTH_KEY, width );
+        return this;
+    }
+
+    public final JsPieSeriesOptions setLabelShow( boolean show )
+    {
+        getOrCreateObject( LABEL_KEY ).<JsOptionsObject> cast().put( SHOW_KEY, show );
+        return this;
+    }
+
+    public final JsPieSeriesOptions setLabelRadius( double radius )
+    {
+        getOrCreateObject( LABEL_KEY ).<JsOptionsObject> cast().put( RADIUS_KEY, radius );
+        return this;
+    }
+
+    /**
+     * Set the minimum proportion of the pie a slice must have to show its label
+     */
+    public final JsPieSeriesOptions setLabelThreshold( double threshold )
+    {
+        getOrCreateObject( LABEL_KEY ).<JsOptionsObject> cast().put( THRESHOLD_KEY, threshold );
+        return this;
+    }
+
+    /**
+     * Combine the slices smaller than the threshold into one slice with the given color and label
+     */
+    public final JsPieSeriesOptions setCombine( double threshold, String color, String label )
+    {
+        JsOptionsObject combine = getOrCreateObject( COMBINE_KEY ).cast();
+        combine.put( THRESHOLD_KEY, threshold );
+        combine.put( COLOR_KEY, color );
+        combine.put( LABEL_KEY, label );
+        return this;
+    }
+
+    public final JsPieSeriesOptions setHighlightOpacity( double opacity )
+    {
+        getOrCreateObject( HIGHLIGHT_KEY ).<JsOptionsObject> cast().put( OPACITY_KEY, opacity );
+        return this;
+    }
+
+    /**
+     * Find the hovered or clicked slice with a binary search on the pointer angle
+     */
+    public final JsPieSeriesOptions setAngleIndex( boolean angleIndex )
+    {
+        put( ANGLE_INDEX_KEY, angleIndex );
+        return this;
+    }
+
+    public final Boolean getAngleIndex()
+    {
+        return getBoolean( ANGLE_INDEX_KEY );
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client.options;
+
+import com.google.gwt.core.client.JsArrayString;
+import com.google.gwt.json.client.JSONObject;
+
+/**
+ * Overlay type over the native options object given to Flot. It can be built before creating a plot or obtained from
+ * a created plot, in which case the changes are applied on the next setupGrid and draw of the plot without any
+ * conversion.
+ */
+public class JsPlotOptions
+    extends JsOptionsObject
+{
+    private static final String COLORS_KEY = "colors";
+
+    private static final String LEGEND_KEY = "legend";
+
+    private static final String SERIES_KEY = "series";
+
+    private static final String GRID_KEY = "grid";
+
+    private static final String SELECTION_KEY = "selection";
+
+    private static final String CROSSHAIR_KEY = "crosshair";
+
+    private static final String ZOOM_KEY = "zoom";
+
+    private static final String PAN_KEY = "pan";
+
+    public static JsPlotOptions create()
+    {
+        return createObject().cast();
+    }
+
+    protected JsPlotOptions()
+    {
+        // empty
+    }
+
+    /**
+     * @return a {@link PlotOptions} backed by the same native object, to give these options to a {@link
+     * ca.nanometrics.gflot.client.SimplePlot}
+     */
+    public final PlotOptions asPlotOptions()
+    {
+        return new PlotOptions( new JSONObject( this ) );
+    }
+
+    public final JsPlotOptions setDefaultColorTheme( String... colors )
+    {
+        JsArrayString array = createArray().cast();
+        for ( String color : colors )
+        {
+            array.push( color );
+        }
+        put( COLORS_KEY, array );
+        return this;
+    }
+
+    /**
+     * @return the legend options, created if not present
+     */
+    public final JsLegendOptions getLegendOptions()
+    {
+        return getOrCreateObject( LEGEND_KEY ).cast();
+    }
+
+    /**
+     * @return the options shared by all the series, created if not present
+     */
+    public final JsSeriesOptions getGlobalSeriesOptions()
+    {
+        return getOrCreateObject( SERIES_KEY ).cast();
+    }
+
+    /**
+     * @return the grid options, created if not present
+     */
+    public final JsGridOptions getGridOptions()
+    {
+        return getOrCreateObject( GRID_KEY ).cast();
+    }
+
+    /**
+     * @return the selection options, created if not present
+     */
+    public final JsSelectionOptions getSelectionOptions()
+    {
+        return getOrCreateObject( SELECTION_KEY ).cast();
+    }
+
+    /**
+     * @return the crosshair options, created if not present
+     */
+    public final JsCrosshairOptions getCrosshairOptions()
+    {
+        return getOrCreateObject( CROSSHAIR_KEY ).cast();
+    }
+
+    /**
+     * @return the zoom options, created if not present
+     */
+    public final JsZoomOptions getZoomOptions()
+    {
+        return getOrCreateObject( ZOOM_KEY ).cast();
+    }
+
+    /**
+     * @return the pan options, created if not present
+     */
+    public final JsPanOptions getPanOptions()
+    {
+        return getOrCreateObject( PAN_KEY ).cast();
+    }
+
+    /**
+     * @param axisNumber the number of the axis, starting at 1
+     * @return the options of the x axis, created if not present
+     */
+    public final native JsAxisOptions getXAxisOptions( int axisNumber )
+    /*-{
+		if (!this.xaxes) {
+			this.xaxes = [];
+		}
+		return this.xaxes[axisNumber - 1] || (this.xaxes[axisNumber - 1] = {});
+    }-*/;
+
+    /**
+     * @param axisNumber the number of the axis, starting at 1
+     * @return the options of the y axis, created if not present
+     */
+    public final native JsAxisOptions getYAxisOptions( int axisNumber )
+    /*-{
+		if (!this.yaxes) {
+			this.yaxes = [];
+		}
+		return this.yaxes[axisNumber - 1] || (this.yaxes[axisNumber - 1] = {});
+    }-*/;
+
+    /**
+     * @return the options of the first x axis, created if not present
+     */
+    public final JsAxisOptions getXAxisOptions()
+    {
+        return getXAxisOptions( 1 );
+    }
+
+    /**
+     * @return the options of the first y axis, created if not present
+     */
+    public final JsAxisOptions getYAxisOptions()
+    {
+        return getYAxisOptions( 1 );
+    }
+}
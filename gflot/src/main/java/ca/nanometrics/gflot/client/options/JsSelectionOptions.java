@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client.options;
+
+import ca.nanometrics.gflot.client.options.SelectionOptions.SelectionMode;
+
+/**
+ * Overlay type over the native selection options.
+ */
+public class JsSelectionOptions
+    extends JsOptionsObject
+{
+    private static final String MODE_KEY = "mode";
+
+    private static final String COLOR_KEY = "color";
+
+    public static JsSelectionOptions create()
+    {
+        return createObject().cast();
+    }
+
+    protected JsSelectionOptions()
+    {
+        // empty
+    }
+
+    public final JsSelectionOptions setMode( SelectionMode mode )
+    {
+        put( MODE_KEY, mode.getFlotValue() );
+        return this;
+    }
+
+    public final SelectionMode getMode()
+    {
+        return SelectionMode.findByFlotValue( getString( MODE_KEY ) );
+    }
+
+    public final JsSelectionOptions setColor( String color )
+    {
+        put( COLOR_KEY, color );
+        return this;
+    }
+
+    public final String getColor()
+    {
+        return getString( COLOR_KEY );
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client.options;
+
+/**
+ * Overlay type over the native options shared by all the series.
+ */
+public class JsSeriesOptions
+    extends JsOptionsObject
+{
+    private static final String LINE_SERIES_KEY = "lines";
+
+    private static final String POINTS_SERIES_KEY = "points";
+
+    private static final String BAR_SERIES_KEY = "bars";
+
+    private static final String IMAGES_SERIES_KEY = "images";
+
+    private static final String PIE_SERIES_KEY = "pie";
+
+    private static final String SHADOW_SIZE_KEY = "shadowSize";
+
+    private static final String STACK_KEY = "stack";
+
+    public static JsSeriesOptions create()
+    {
+        return createObject().cast();
+    }
+
+    protected JsSeriesOptions()
+    {
+        // empty
+    }
+
+    /**
+     * @return the lines options, created if not present
+     */
+    public final JsLineSeriesOptions getLineSeriesOptions()
+    {
+        return getOrCreateObject( LINE_SERIES_KEY ).cast();
+    }
+
+    /**
+     * @return the points options, created if not present
+     */
+    public final JsPointsSeriesOptions getPointsSeriesOptions()
+    {
+        return getOrCreateObject( POINTS_SERIES_KEY ).cast();
+    }
+
+    /**
+     * @return the bars options, created if not present
+     */
+    public final JsBarSeriesOptions getBarSeriesOptions()
+    {
+        return getOrCreateObject( BAR_SERIES_KEY ).cast();
+    }
+
+    /**
+     * @return the images options, created if not present
+     */
+    public final JsImageSeriesOptions getImageSeriesOptions()
+    {
+        return getOrCreateObject( IMAGES_SERIES_KEY ).cast();
+    }
+
+    /**
+     * @return the pie options, created if not present
+     */
+    public final JsPieSeriesOptions getPieSeriesOptions()
+    {
+        return getOrCreateObject( PIE_SERIES_KEY ).cast();
+    }
+
+    public final JsSeriesOptions setShadowSize( double shadowSize )
+    {
+        put( SHADOW_SIZE_KEY, shadowSize );
+        return this;
+    }
+
+    public final Double getShadowSize()
+    {
+        return getDouble( SHADOW_SIZE_KEY );
+    }
+
+    public final JsSeriesOptions setStack( boolean stack )
+    {
+        put( STACK_KEY, stack );
+        return this;
+    }
+}
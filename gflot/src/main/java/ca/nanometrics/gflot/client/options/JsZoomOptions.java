@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client.options;
+
+import ca.nanometrics.gflot.client.options.ZoomOptions.ZoomTrigger;
+
+/**
+ * Overlay type over the native zoom options of the navigate plugin.
+ */
+public class JsZoomOptions
+    extends JsOptionsObject
+{
+    private static final String INTERACTIVE_KEY = "interactive";
+
+    private static final String TRIGGER_KEY = "trigger";
+
+    private static final String AMOUNT_KEY = "amount";
+
+    private static final String PREVIEW_KEY = "preview";
+
+    private static final String PREVIEW_DELAY_KEY = "previewDelay";
+
+    public static JsZoomOptions create()
+    {
+        return createObject().cast();
+    }
+
+    protected JsZoomOptions()
+    {
+        // empty
+    }
+
+    public final JsZoomOptions setInteractive( boolean interactive )
+    {
+        put( INTERACTIVE_KEY, interactive );
+        return this;
+    }
+
+    public final Boolean getInteractive()
+    {
+        return getBoolean( INTERACTIVE_KEY );
+    }
+
+    public final JsZoomOptions setTrigger( ZoomTrigger trigger )
+    {
+        put( TRIGGER_KEY, trigger.getFlotValue() );
+        return this;
+    }
+
+    public final ZoomTrigger getTrigger()
+    {
+        return ZoomTrigger.findByFlotValue( getString( TRIGGER_KEY ) );
+    }
+
+    public final JsZoomOptions setAmount( double amount )
+    {
+        put( AMOUNT_KEY, amount );
+        return this;
+    }
+
+    public final Double getAmount()
+    {
+        return getDouble( AMOUNT_KEY );
+    }
+
+    public final JsZoomOptions setPreview( boolean preview )
+    {
+        put( PREVIEW_KEY, preview );
+        return this;
+    }
+
+    public final Boolean getPreview()
+    {
+        return getBoolean( PREVIEW_KEY );
+    }
+
+    public final JsZoomOptions setPreviewDelay( int previewDelay )
+    {
+        put( PREVIEW_DELAY_KEY, previewDelay );
+        return this;
+    }
+
+    public final Integer getPreviewDelay()
+    {
+        return getInteger( PREVIEW_DELAY_KEY );
+    }
+}
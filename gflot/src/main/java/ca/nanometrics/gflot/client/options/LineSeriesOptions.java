@@ -32,6 +32,8 @@ public class LineSeriesOptions
 
     private static final String STEPS_KEY = "steps";
 
+    private static final String DECIMATE_KEY = "decimate";
+
     public LineSeriesOptions()
     {
         super();
@@ -70,4 +72,32 @@ public class LineSeriesOptions
         return this;
     }
 
+    /**
+     * Set whether the consecutive data points falling in the same pixel column are collapsed into the entry, min, max
+     * and exit points of the column before being drawn. The line looks the same but is drawn much faster when there are
+     * more data points than pixels.
+     */
+    public LineSeriesOptions setDecimate( boolean decimate )
+    {
+        put( DECIMATE_KEY, decimate );
+        return this;
+    }
+
+    /**
+     * @return true if the consecutive data points falling in the same pixel column are collapsed before being drawn
+     */
+    public Boolean getDecimate()
+    {
+        return getBoolean( DECIMATE_KEY );
+    }
+
+    /**
+     * Clear the decimate option
+     */
+    public LineSeriesOptions clearDecimate()
+    {
+        clear( DECIMATE_KEY );
+        return this;
+    }
+
 }
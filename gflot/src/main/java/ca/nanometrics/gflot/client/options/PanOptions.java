@@ -37,6 +37,7 @@ public class PanOptions
     private static final String INTERACTIVE_KEY = "interactive";
     private static final String CURSOR_KEY = "cursor";
     private static final String FRAME_RATE_KEY = "frameRate";
+    private static final String PREVIEW_KEY = "preview";
 
     public PanOptions()
     {
@@ -135,4 +136,31 @@ public class PanOptions
         clear( FRAME_RATE_KEY );
         return this;
     }
+
+    /**
+     * Sets whether dragging translates the last rendered image of the plot instead of redrawing it at the frame rate.
+     * The plot is redrawn and the pan event fired once, when the mouse button is released.
+     */
+    public PanOptions setPreview( boolean preview )
+    {
+        put( PREVIEW_KEY, preview );
+        return this;
+    }
+
+    /**
+     * @return whether dragging translates the last rendered image of the plot
+     */
+    public Boolean getPreview()
+    {
+        return getBoolean( PREVIEW_KEY );
+    }
+
+    /**
+     * Clear the preview option
+     */
+    public PanOptions clearPreview()
+    {
+        clear( PREVIEW_KEY );
+        return this;
+    }
 }
@@ -541,6 +541,7 @@ public class PieSeriesOptions
     private static final String LABEL_KEY = "label";
     private static final String COMBINE_KEY = "combine";
     private static final String HIGHLIGHT_KEY = "highlight";
+    private static final String ANGLE_INDEX_KEY = "angleIndex";
 
     public PieSeriesOptions()
     {
@@ -791,4 +792,31 @@ public class PieSeriesOptions
             return new Highlight( obj );
         }
     }
+
+    /**
+     * Set if the slice under the pointer is found by a binary search on the pointer angle instead of testing the path
+     * of each slice. Hover and click hit-testing then stays cheap on pies with hundreds of slices.
+     */
+    public PieSeriesOptions setAngleIndex( boolean angleIndex )
+    {
+        put( ANGLE_INDEX_KEY, angleIndex );
+        return this;
+    }
+
+    /**
+     * @return true if the slices are hit-tested by angle
+     */
+    public Boolean getAngleIndex()
+    {
+        return getBoolean( ANGLE_INDEX_KEY );
+    }
+
+    /**
+     * Clear the angle index option
+     */
+    public PieSeriesOptions clearAngleIndex()
+    {
+        clear( ANGLE_INDEX_KEY );
+        return this;
+    }
 }
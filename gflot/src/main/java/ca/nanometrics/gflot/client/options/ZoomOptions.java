@@ -68,6 +68,8 @@ public class ZoomOptions
     private static final String INTERACTIVE_KEY = "interactive";
     private static final String TRIGGER_KEY = "trigger";
     private static final String AMOUNT_KEY = "amount";
+    private static final String PREVIEW_KEY = "preview";
+    private static final String PREVIEW_DELAY_KEY = "previewDelay";
 
     public ZoomOptions()
     {
@@ -168,4 +170,57 @@ public class ZoomOptions
         clear( AMOUNT_KEY );
         return this;
     }
+
+    /**
+     * Sets whether the mouse wheel zoom scales the last rendered image of the plot instead of redrawing it on every
+     * wheel tick. The plot is redrawn and the zoom event fired once the wheel stops.
+     */
+    public ZoomOptions setPreview( boolean preview )
+    {
+        put( PREVIEW_KEY, preview );
+        return this;
+    }
+
+    /**
+     * @return whether the mouse wheel zoom scales the last rendered image of the plot
+     */
+    public Boolean getPreview()
+    {
+        return getBoolean( PREVIEW_KEY );
+    }
+
+    /**
+     * Clear the preview option
+     */
+    public ZoomOptions clearPreview()
+    {
+        clear( PREVIEW_KEY );
+        return this;
+    }
+
+    /**
+     * Sets how long in milliseconds the mouse wheel must stop before the plot is redrawn, when the preview is enabled
+     */
+    public ZoomOptions setPreviewDelay( int previewDelay )
+    {
+        put( PREVIEW_DELAY_KEY, previewDelay );
+        return this;
+    }
+
+    /**
+     * @return how long in milliseconds the mouse wheel must stop before the plot is redrawn
+     */
+    public Integer getPreviewDelay()
+    {
+        return getInteger( PREVIEW_DELAY_KEY );
+    }
+
+    /**
+     * Clear the preview delay option
+     */
+    public ZoomOptions clearPreviewDelay()
+    {
+        clear( PREVIEW_DELAY_KEY );
+        return this;
+    }
 }
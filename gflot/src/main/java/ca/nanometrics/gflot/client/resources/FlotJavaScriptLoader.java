@@ -1,6 +1,20 @@
 package ca.nanometrics.gflot.client.resources;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import ca.nanometrics.gflot.client.util.JavaScriptInjector;
+
 import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.RunAsyncCallback;
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.core.client.Scheduler.RepeatingCommand;
+import com.google.gwt.user.client.Command;
 
 public class FlotJavaScriptLoader
 {
@@ -22,6 +36,36 @@ public class FlotJavaScriptLoader
         return impl;
     }
 
+    /**
+     * @param plugins the names of the plugins, see {@link PluginDetector}
+     * @return true if Flot and the given plugins are loaded. Always false with an implementation not implementing
+     * {@link PluginAwareImpl}.
+     */
+    public static boolean isLoaded( List<String> plugins )
+    {
+        Impl current = get();
+        return current instanceof PluginAwareImpl && ( (PluginAwareImpl) current ).isLoaded( plugins );
+    }
+
+    /**
+     * Load Flot and the given plugins. An implementation not implementing {@link PluginAwareImpl} loads all its
+     * libraries.
+     *
+     * @param plugins the names of the plugins, see {@link PluginDetector}
+     */
+    public static void loadPlugins( List<String> plugins, FlotJavaScriptCallback callback )
+    {
+        Impl current = get();
+        if ( current instanceof PluginAwareImpl )
+        {
+            ( (PluginAwareImpl) current ).loadPlugins( plugins, callback );
+        }
+        else
+        {
+            current.loadRequiredFlotLibrary( callback );
+        }
+    }
+
     public static interface Impl
     {
         void loadRequiredFlotLibrary( final FlotJavaScriptCallback callback );
@@ -61,8 +105,25 @@ public class FlotJavaScriptLoader
         PluginLoader getFlotFillBetweenLoader();
     }
 
+    /**
+     * Implementation able to load only some plugins. {@link SynchronousImpl} implements it by loading all the plugins.
+     */
+    public static interface PluginAwareImpl
+        extends Impl
+    {
+        /**
+         * @return true if Flot and the given plugins are loaded
+         */
+        boolean isLoaded( List<String> plugins );
+
+        /**
+         * Load Flot and the given plugins, the implementations may load the other plugins too
+         */
+        void loadPlugins( List<String> plugins, FlotJavaScriptCallback callback );
+    }
+
     public static class SynchronousImpl
-        implements Impl
+        implements PluginAwareImpl
     {
         private boolean loaded = false;
 
@@ -111,6 +172,84 @@ public class FlotJavaScriptLoader
             callback.onSuccess();
         }
 
+        @Override
+        public boolean isLoaded( List<String> plugins )
+        {
+            return loaded;
+        }
+
+        @Override
+        public void loadPlugins( List<String> plugins, FlotJavaScriptCallback callback )
+        {
+            // every enabled plugin is loaded at once
+            loadRequiredFlotLibrary( callback );
+        }
+
+        /**
+         * @param plugin the name of a plugin, see {@link PluginDetector}
+         * @return the loader of the plugin, null if unknown
+         */
+        protected PluginLoader getPluginLoader( String plugin )
+        {
+            if ( PluginDetector.SELECTION.equals( plugin ) )
+            {
+                return getFlotSelectionLoader();
+            }
+            else if ( PluginDetector.SYMBOL.equals( plugin ) )
+            {
+                return getFlotSymbolLoader();
+            }
+            else if ( PluginDetector.IMAGE.equals( plugin ) )
+            {
+                return getFlotImageLoader();
+            }
+            else if ( PluginDetector.PIE.equals( plugin ) )
+            {
+                return getFlotPieLoader();
+            }
+            else if ( PluginDetector.STACK.equals( plugin ) )
+            {
+                return getFlotStackLoader();
+            }
+            else if ( PluginDetector.TEXT.equals( plugin ) )
+            {
+                return getFlotTextLoader();
+            }
+            else if ( PluginDetector.RESIZE.equals( plugin ) )
+            {
+                return getFlotResizeLoader();
+            }
+            else if ( PluginDetector.CANVAS2IMAGE.equals( plugin ) )
+            {
+                return getCanvas2ImageLoader();
+            }
+            else if ( PluginDetector.AXIS_LABELS.equals( plugin ) )
+            {
+                return getFlotAxisLabelsLoader();
+            }
+            else if ( PluginDetector.THRESHOLD.equals( plugin ) )
+            {
+                return getFlotThresholdLoader();
+            }
+            else if ( PluginDetector.NAVIGATE.equals( plugin ) )
+            {
+                return getFlotNavigateLoader();
+            }
+            else if ( PluginDetector.CROSSHAIR.equals( plugin ) )
+            {
+                return getFlotCrosshairLoader();
+            }
+            else if ( PluginDetector.MULTIPLE_BARS.equals( plugin ) )
+            {
+                return getFlotMultipleBarsLoader();
+            }
+            else if ( PluginDetector.FILL_BETWEEN.equals( plugin ) )
+            {
+                return getFlotFillBetweenLoader();
+            }
+            return null;
+        }
+
         @Override
         public PluginLoader getJqueryLoader()
         {
@@ -302,4 +441,617 @@ public class FlotJavaScriptLoader
             getFlotFillBetweenLoader().load();
         }
     }
+
+    /**
+     * Loads the libraries asynchronously, selected with the <code>gflot.load.mode</code> property set to
+     * <code>ASYNCHRONOUS</code>.
+     * <p>
+     * The core libraries (jQuery, excanvas and Flot) and each plugin are behind their own split point so they are left
+     * out of the initial download. {@link #loadPlugins(List, FlotJavaScriptCallback)} loads only the given plugins,
+     * e.g. the ones used by a plot (see {@link PluginDetector}). The fragments are requested at once, then the scripts
+     * are injected one per event loop iteration so the page stays responsive while they are parsed, the plugins after
+     * the core. Each plugin is loaded once and shared by all the plots. The callbacks are notified once the libraries they need are injected and
+     * $.plot.plugins sorted in the order of the synchronous loading. A plugin needed by series added later is loaded on
+     * the next redraw of the plot and initialized on the existing plot.
+     * </p>
+     */
+    public static class AsynchronousImpl
+        extends SynchronousImpl
+    {
+        private static class PendingLoad
+        {
+            private final List<String> plugins;
+
+            private final FlotJavaScriptCallback callback;
+
+            PendingLoad( List<String> plugins, FlotJavaScriptCallback callback )
+            {
+                this.plugins = plugins;
+                this.callback = callback;
+            }
+        }
+
+        private abstract class PluginFragment
+            implements RunAsyncCallback
+        {
+            private final String name;
+
+            PluginFragment( String name )
+            {
+                this.name = name;
+            }
+
+            protected abstract PluginLoader getLoader();
+
+            @Override
+            public void onFailure( Throwable reason )
+            {
+                onPluginFailure( name, reason );
+            }
+
+            @Override
+            public void onSuccess()
+            {
+                onFragmentLoaded( name, getLoader() );
+            }
+        }
+
+        private boolean coreRequested;
+
+        private boolean coreInjected;
+
+        private final Set<String> requested = new HashSet<String>();
+
+        private final Set<String> injected = new HashSet<String>();
+
+        private final List<String> waitingForCore = new ArrayList<String>();
+
+        private final Map<String, PluginLoader> fragmentLoaders = new HashMap<String, PluginLoader>();
+
+        private final List<String> injectQueue = new ArrayList<String>();
+
+        private boolean injecting;
+
+        private final List<PendingLoad> pendingLoads = new ArrayList<PendingLoad>();
+
+        @Override
+        public void loadRequiredFlotLibrary( FlotJavaScriptCallback callback )
+        {
+            load( Arrays.asList( PluginDetector.ALL_PLUGINS ), callback );
+        }
+
+        @Override
+        public boolean isLoaded( List<String> plugins )
+        {
+            return coreInjected && injected.containsAll( plugins );
+        }
+
+        @Override
+        public void loadPlugins( List<String> plugins, FlotJavaScriptCallback callback )
+        {
+            load( plugins, callback );
+        }
+
+        private void load( List<String> plugins, FlotJavaScriptCallback callback )
+        {
+            PendingLoad pending = new PendingLoad( plugins, callback );
+            if ( isComplete( pending ) )
+            {
+                callback.onSuccess();
+                return;
+            }
+            pendingLoads.add( pending );
+
+            if ( !coreRequested )
+            {
+                coreRequested = true;
+                GWT.runAsync( new RunAsyncCallback() {
+                    @Override
+                    public void onFailure( Throwable reason )
+                    {
+                        onCoreFailure( reason );
+                    }
+
+                    @Override
+                    public void onSuccess()
+                    {
+                        fragmentLoaders.put( "excanvas", getExcanvasLoader() );
+                        fragmentLoaders.put( "jquery", getJqueryLoader() );
+                        fragmentLoaders.put( "flot", getFlotLoader() );
+                        injectQueue.add( 0, "excanvas" );
+                        injectQueue.add( 1, "jquery" );
+                        injectQueue.add( 2, "flot" );
+                        startInjecting();
+                    }
+                } );
+            }
+
+            for ( String plugin : plugins )
+            {
+                if ( requested.add( plugin ) )
+                {
+                    requestPlugin( plugin );
+                }
+            }
+        }
+
+        /**
+         * Request the fragment of a plugin. Each plugin has its own split point.
+         */
+        private void requestPlugin( String plugin )
+        {
+            if ( PluginDetector.SELECTION.equals( plugin ) )
+            {
+                GWT.runAsync( new PluginFragment( plugin ) {
+                    @Override
+                    protected PluginLoader getLoader()
+                    {
+                        return getFlotSelectionLoader();
+                    }
+                } );
+            }
+            else if ( PluginDetector.SYMBOL.equals( plugin ) )
+            {
+                GWT.runAsync( new PluginFragment( plugin ) {
+                    @Override
+                    protected PluginLoader getLoader()
+                    {
+                        return getFlotSymbolLoader();
+                    }
+                } );
+            }
+            else if ( PluginDetector.IMAGE.equals( plugin ) )
+            {
+                GWT.runAsync( new PluginFragment( plugin ) {
+                    @Override
+                    protected PluginLoader getLoader()
+                    {
+                        return getFlotImageLoader();
+                    }
+                } );
+            }
+            else if ( PluginDetector.PIE.equals( plugin ) )
+            {
+                GWT.runAsync( new PluginFragment( plugin ) {
+                    @Override
+                    protected PluginLoader getLoader()
+                    {
+                        return getFlotPieLoader();
+                    }
+                } );
+            }
+            else if ( PluginDetector.STACK.equals( plugin ) )
+            {
+                GWT.runAsync( new PluginFragment( plugin ) {
+                    @Override
+                    protected PluginLoader getLoader()
+                    {
+                        return getFlotStackLoader();
+                    }
+                } );
+            }
+            else if ( PluginDetector.TEXT.equals( plugin ) )
+            {
+                GWT.runAsync( new PluginFragment( plugin ) {
+                    @Override
+                    protected PluginLoader getLoader()
+                    {
+                        return getFlotTextLoader();
+                    }
+                } );
+            }
+            else if ( PluginDetector.RESIZE.equals( plugin ) )
+            {
+                GWT.runAsync( new PluginFragment( plugin ) {
+                    @Override
+                    protected PluginLoader getLoader()
+                    {
+                        return getFlotResizeLoader();
+                    }
+                } );
+            }
+            else if ( PluginDetector.CANVAS2IMAGE.equals( plugin ) )
+            {
+                GWT.runAsync( new PluginFragment( plugin ) {
+                    @Override
+                    protected PluginLoader getLoader()
+                    {
+                        return getCanvas2ImageLoader();
+                    }
+                } );
+            }
+            else if ( PluginDetector.AXIS_LABELS.equals( plugin ) )
+            {
+                GWT.runAsync( new PluginFragment( plugin ) {
+                    @Override
+                    protected PluginLoader getLoader()
+                    {
+                        return getFlotAxisLabelsLoader();
+                    }
+                } );
+            }
+            else if ( PluginDetector.THRESHOLD.equals( plugin ) )
+            {
+                GWT.runAsync( new PluginFragment( plugin ) {
+                    @Override
+                    protected PluginLoader getLoader()
+                    {
+                        return getFlotThresholdLoader();
+                    }
+                } );
+            }
+            else if ( PluginDetector.NAVIGATE.equals( plugin ) )
+            {
+                GWT.runAsync( new PluginFragment( plugin ) {
+                    @Override
+                    protected PluginLoader getLoader()
+                    {
+                        return getFlotNavigateLoader();
+                    }
+                } );
+            }
+            else if ( PluginDetector.CROSSHAIR.equals( plugin ) )
+            {
+                GWT.runAsync( new PluginFragment( plugin ) {
+                    @Override
+                    protected PluginLoader getLoader()
+                    {
+                        return getFlotCrosshairLoader();
+                    }
+                } );
+            }
+            else if ( PluginDetector.MULTIPLE_BARS.equals( plugin ) )
+            {
+                GWT.runAsync( new PluginFragment( plugin ) {
+                    @Override
+                    protected PluginLoader getLoader()
+                    {
+                        return getFlotMultipleBarsLoader();
+                    }
+                } );
+            }
+            else if ( PluginDetector.FILL_BETWEEN.equals( plugin ) )
+            {
+                GWT.runAsync( new PluginFragment( plugin ) {
+                    @Override
+                    protected PluginLoader getLoader()
+                    {
+                        return getFlotFillBetweenLoader();
+                    }
+                } );
+            }
+            else
+            {
+                // unknown plugin, nothing to load
+                injected.add( plugin );
+            }
+        }
+
+        private void onFragmentLoaded( String plugin, PluginLoader loader )
+        {
+            if ( !requested.contains( plugin ) || injected.contains( plugin ) || fragmentLoaders.containsKey( plugin ) )
+            {
+                // requested before a failure of the core, or requested again since and already loaded
+                return;
+            }
+            fragmentLoaders.put( plugin, loader );
+            if ( coreInjected )
+            {
+                injectQueue.add( plugin );
+                startInjecting();
+            }
+            else
+            {
+                waitingForCore.add( plugin );
+            }
+        }
+
+        /**
+         * Inject the queued scripts, one per event loop iteration
+         */
+        private void startInjecting()
+        {
+            if ( injecting )
+            {
+                return;
+            }
+            injecting = true;
+            Scheduler.get().scheduleIncremental( new RepeatingCommand() {
+                @Override
+                public boolean execute()
+                {
+                    if ( injectQueue.isEmpty() )
+                    {
+                        injecting = false;
+                        if ( coreInjected )
+                        {
+                            // the plugins are injected in the order their fragment arrives
+                            PluginDetector.sortFlotPlugins();
+                        }
+                        notifyCompleteLoads();
+                        return false;
+                    }
+
+                    String name = injectQueue.remove( 0 );
+                    try
+                    {
+                        fragmentLoaders.remove( name ).load();
+                    }
+                    catch ( Throwable e )
+                    {
+                        if ( isCore( name ) )
+                        {
+                            injecting = false;
+                            onCoreFailure( e );
+                            return false;
+                        }
+                        // the other plugins can still be injected
+                        onPluginFailure( name, e );
+                        return true;
+                    }
+                    injected.add( name );
+
+                    if ( "flot".equals( name ) )
+                    {
+                        coreInjected = true;
+                        injectQueue.addAll( waitingForCore );
+                        waitingForCore.clear();
+                    }
+                    return true;
+                }
+            } );
+        }
+
+        private boolean isCore( String name )
+        {
+            return "excanvas".equals( name ) || "jquery".equals( name ) || "flot".equals( name );
+        }
+
+        private boolean isComplete( PendingLoad pending )
+        {
+            return isLoaded( pending.plugins );
+        }
+
+        private void notifyCompleteLoads()
+        {
+            List<PendingLoad> complete = new ArrayList<PendingLoad>();
+            for ( PendingLoad pending : pendingLoads )
+            {
+                if ( isComplete( pending ) )
+                {
+                    complete.add( pending );
+                }
+            }
+            pendingLoads.removeAll( complete );
+            for ( PendingLoad pending : complete )
+            {
+                pending.callback.onSuccess();
+            }
+        }
+
+        /**
+         * Fail all the pending loads. The plugins not injected are forgotten so the next call requests them again with
+         * the core.
+         */
+        private void onCoreFailure( Throwable caught )
+        {
+            coreRequested = false;
+            coreInjected = false;
+            requested.retainAll( injected );
+            waitingForCore.clear();
+            injectQueue.clear();
+            fragmentLoaders.clear();
+
+            List<PendingLoad> failed = new ArrayList<PendingLoad>( pendingLoads );
+            pendingLoads.clear();
+            for ( PendingLoad pending : failed )
+            {
+                pending.callback.onError( caught );
+            }
+        }
+
+        /**
+         * Fail only the pending loads needing the plugin. The next call needing it requests it again.
+         */
+        private void onPluginFailure( String plugin, Throwable caught )
+        {
+            requested.remove( plugin );
+            fragmentLoaders.remove( plugin );
+
+            List<PendingLoad> failed = new ArrayList<PendingLoad>();
+            for ( PendingLoad pending : pendingLoads )
+            {
+                if ( pending.plugins.contains( plugin ) )
+                {
+                    failed.add( pending );
+                }
+            }
+            pendingLoads.removeAll( failed );
+            for ( PendingLoad pending : failed )
+            {
+                pending.callback.onError( caught );
+            }
+        }
+    }
+
+    /**
+     * Loads Flot and its plugins from a single script, selected with the <code>gflot.load.mode</code> property set to
+     * <code>BUNDLE</code>.
+     * <p>
+     * The bundle is generated by the maven build of gflot. It concatenates Flot and the plugins enabled by the
+     * <code>gflot.load.flot.*</code> maven properties, which default to the values of GFlot.gwt.xml, in the order they
+     * are loaded by {@link SynchronousImpl}. It is deployed in the public path of the module with a name built from the
+     * hash of its content, so it can be cached forever by the browser and shared by all the permutations, the small
+     * gflot-bundle.nocache.js giving that name.
+     * </p>
+     * <p>
+     * Once the bundle is loaded, the <code>gflot.load.flot.*</code> properties of the GWT module apply: an enabled
+     * plugin missing from the bundle is loaded with its own loader and a disabled plugin of the bundle is unregistered
+     * from Flot. jQuery, excanvas and canvas2image keep their own loaders.
+     * </p>
+     */
+    public static class BundleImpl
+        extends SynchronousImpl
+    {
+        private static final String BUNDLE_NAME_SCRIPT = "gflot-bundle.nocache.js";
+
+        private boolean loaded;
+
+        private boolean loading;
+
+        private final List<FlotJavaScriptCallback> callbacks = new ArrayList<FlotJavaScriptCallback>();
+
+        @Override
+        public void loadRequiredFlotLibrary( FlotJavaScriptCallback callback )
+        {
+            if ( loaded )
+            {
+                callback.onSuccess();
+                return;
+            }
+            callbacks.add( callback );
+            if ( loading )
+            {
+                return;
+            }
+            loading = true;
+
+            try
+            {
+                getExcanvasLoader().load();
+                getJqueryLoader().load();
+            }
+            catch ( Throwable e )
+            {
+                onLoadFailure( e );
+                return;
+            }
+
+            JavaScriptInjector.injectUrl( GWT.getModuleBaseURL() + BUNDLE_NAME_SCRIPT, new Command() {
+                @Override
+                public void execute()
+                {
+                    String bundleName = getBundleName();
+                    if ( null == bundleName )
+                    {
+                        onLoadFailure( new RuntimeException( "Unable to find the name of the Flot bundle" ) );
+                        return;
+                    }
+                    injectBundle( GWT.getModuleBaseURL() + bundleName );
+                }
+            }, new Command() {
+                @Override
+                public void execute()
+                {
+                    onLoadFailure( new RuntimeException( "Unable to load " + BUNDLE_NAME_SCRIPT ) );
+                }
+            } );
+        }
+
+        private void injectBundle( String url )
+        {
+            JavaScriptInjector.injectUrl( url, new Command() {
+                @Override
+                public void execute()
+                {
+                    try
+                    {
+                        applyPluginProperties();
+                    }
+                    catch ( Throwable e )
+                    {
+                        onLoadFailure( e );
+                        return;
+                    }
+                    loading = false;
+                    loaded = true;
+                    List<FlotJavaScriptCallback> loadedCallbacks = new ArrayList<FlotJavaScriptCallback>( callbacks );
+                    callbacks.clear();
+                    for ( FlotJavaScriptCallback loadedCallback : loadedCallbacks )
+                    {
+                        loadedCallback.onSuccess();
+                    }
+                }
+            }, new Command() {
+                @Override
+                public void execute()
+                {
+                    onLoadFailure( new RuntimeException( "Unable to load the Flot bundle" ) );
+                }
+            } );
+        }
+
+        @Override
+        public boolean isLoaded( List<String> plugins )
+        {
+            // the enabled plugins missing from the bundle are loaded with it
+            return loaded;
+        }
+
+        /**
+         * Load the enabled plugins missing from the bundle and unregister the disabled ones
+         */
+        private void applyPluginProperties()
+        {
+            for ( String plugin : PluginDetector.ALL_PLUGINS )
+            {
+                PluginLoader loader = getPluginLoader( plugin );
+                String flotName = PluginDetector.getFlotPluginName( plugin );
+                if ( null == flotName )
+                {
+                    // not a Flot plugin, never part of the bundle
+                    loader.load();
+                }
+                else if ( !isRegistered( flotName ) )
+                {
+                    if ( loader.isPluginEnabled() )
+                    {
+                        loader.load();
+                    }
+                }
+                else if ( !loader.isPluginEnabled() )
+                {
+                    unregister( flotName );
+                }
+            }
+        }
+
+        private static native String getBundleName()
+        /*-{
+			return $wnd.gflotBundle || null;
+        }-*/;
+
+        private static native boolean isRegistered( String flotName )
+        /*-{
+			var plugins = $wnd.jQuery.plot.plugins;
+			for ( var i = 0; i < plugins.length; i++) {
+				if (plugins[i].name == flotName) {
+					return true;
+				}
+			}
+			return false;
+        }-*/;
+
+        private static native void unregister( String flotName )
+        /*-{
+			var plugins = $wnd.jQuery.plot.plugins;
+			for ( var i = plugins.length - 1; i >= 0; i--) {
+				if (plugins[i].name == flotName) {
+					plugins.splice(i, 1);
+				}
+			}
+        }-*/;
+
+        private void onLoadFailure( Throwable caught )
+        {
+            // the next call will try again
+            loading = false;
+            List<FlotJavaScriptCallback> failedCallbacks = new ArrayList<FlotJavaScriptCallback>( callbacks );
+            callbacks.clear();
+            for ( FlotJavaScriptCallback failedCallback : failedCallbacks )
+            {
+                failedCallback.onError( caught );
+            }
+        }
+    }
 }
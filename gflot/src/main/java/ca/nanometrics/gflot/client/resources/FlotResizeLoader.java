@@ -12,7 +12,7 @@ public class FlotResizeLoader
     interface Bundle
         extends ClientBundle
     {
-        @Source( "jquery.flot-0.7.resize.min.js" )
+        @Source( "jquery.flot-0.7.resize-modified.min.js" )
         TextResource flotResize();
     }
 
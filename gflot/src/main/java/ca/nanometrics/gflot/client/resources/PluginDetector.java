@@ -0,0 +1,222 @@
+package ca.nanometrics.gflot.client.resources;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import ca.nanometrics.gflot.client.Series;
+import ca.nanometrics.gflot.client.options.PlotOptions;
+import ca.nanometrics.gflot.client.util.JSONHelper;
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArrayString;
+
+/**
+ * Finds the plugins used by the options and the series of a plot, so the asynchronous loader only loads those.
+ * <p>
+ * The resize and canvas2image plugins are always required. The navigate and crosshair plugins are detected from the
+ * zoom, pan and crosshair options, {@link ca.nanometrics.gflot.client.SimplePlot} loads them on demand when its zoom,
+ * pan or crosshair methods are called. The plugins are returned in the order of {@link #ALL_PLUGINS}, the order of the
+ * synchronous loading.
+ * </p>
+ */
+public class PluginDetector
+{
+    public static final String SELECTION = "selection";
+
+    public static final String SYMBOL = "symbol";
+
+    public static final String IMAGE = "image";
+
+    public static final String PIE = "pie";
+
+    public static final String STACK = "stack";
+
+    public static final String TEXT = "text";
+
+    public static final String RESIZE = "resize";
+
+    public static final String CANVAS2IMAGE = "canvas2image";
+
+    public static final String AXIS_LABELS = "axislabels";
+
+    public static final String THRESHOLD = "threshold";
+
+    public static final String NAVIGATE = "navigate";
+
+    public static final String CROSSHAIR = "crosshair";
+
+    public static final String MULTIPLE_BARS = "multiplebars";
+
+    public static final String FILL_BETWEEN = "fillbetween";
+
+    public static final String[] ALL_PLUGINS = new String[] { SELECTION, SYMBOL, IMAGE, PIE, STACK, TEXT, RESIZE,
+        CANVAS2IMAGE, AXIS_LABELS, THRESHOLD, NAVIGATE, CROSSHAIR, MULTIPLE_BARS, FILL_BETWEEN };
+
+    /**
+     * Names of the plugins registered in $.plot.plugins, in the order of {@link #ALL_PLUGINS}
+     */
+    private static final String[] FLOT_PLUGIN_NAMES = new String[] { "selection", "symbols", "image", "pie", "stack",
+        "flot.canvas.text", "resize", "axisLabels", "threshold", "navigate", "crosshair", "multiplebars", "fillbetween" };
+
+    private PluginDetector()
+    {
+    }
+
+    /**
+     * @param series the series of the plot, can be null
+     * @param options the options of the plot, can be null
+     * @param loadDataImages true if the images of the series are loaded before creating the plot
+     * @return the names of the plugins required by the plot
+     */
+    public static List<String> detect( Series[] series, PlotOptions options, boolean loadDataImages )
+    {
+        // the native objects wrapped by the options are inspected in place
+        JavaScriptObject need = JavaScriptObject.createObject();
+        if ( null != options )
+        {
+            detectOptions( need, JSONHelper.getJSONObject( options ).getJavaScriptObject() );
+        }
+        if ( null != series )
+        {
+            for ( Series s : series )
+            {
+                detectSeries( need, JSONHelper.getJSONObject( s ).getJavaScriptObject() );
+            }
+        }
+
+        List<String> plugins = new ArrayList<String>();
+        for ( String plugin : ALL_PLUGINS )
+        {
+            if ( RESIZE.equals( plugin ) || CANVAS2IMAGE.equals( plugin ) || ( loadDataImages && IMAGE.equals( plugin ) )
+                || isNeeded( need, plugin ) )
+            {
+                plugins.add( plugin );
+            }
+        }
+        return plugins;
+    }
+
+    private static native boolean isNeeded( JavaScriptObject need, String plugin )
+    /*-{
+		return need[plugin] === true;
+    }-*/;
+
+    private static native void detectOptions( JavaScriptObject need, JavaScriptObject opts )
+    /*-{
+		if (opts.selection && opts.selection.mode) {
+			need.selection = true;
+		}
+		if (opts.crosshair && opts.crosshair.mode) {
+			need.crosshair = true;
+		}
+		if (opts.zoom || opts.pan) {
+			need.navigate = true;
+		}
+		if (opts.grid && opts.grid.canvasText && opts.grid.canvasText.show) {
+			need.text = true;
+		}
+		if (opts.multiplebars) {
+			need.multiplebars = true;
+		}
+
+		var axes = [ opts.xaxis, opts.yaxis ].concat(opts.xaxes || [], opts.yaxes || []);
+		for ( var i = 0; i < axes.length; i++) {
+			if (axes[i] && axes[i].axisLabel) {
+				need.axislabels = true;
+			}
+		}
+
+		if (opts.series) {
+			@ca.nanometrics.gflot.client.resources.PluginDetector::detectSeries(Lcom/google/gwt/core/client/JavaScriptObject;Lcom/google/gwt/core/client/JavaScriptObject;)(need, opts.series);
+		}
+    }-*/;
+
+    private static native void detectSeries( JavaScriptObject need, JavaScriptObject s )
+    /*-{
+		if (s.pie && s.pie.show) {
+			need.pie = true;
+		}
+		if (s.images && s.images.show) {
+			need.image = true;
+		}
+		if (s.points && s.points.symbol) {
+			need.symbol = true;
+		}
+		if (s.stack != null) {
+			need.stack = true;
+		}
+		if (s.threshold) {
+			need.threshold = true;
+		}
+		if (s.fillBetween != null) {
+			need.fillbetween = true;
+		}
+		if (s.multiplebars) {
+			need.multiplebars = true;
+		}
+    }-*/;
+
+    /**
+     * @param plugin the name of a plugin, one of {@link #ALL_PLUGINS}
+     * @return the name the plugin is registered with in $.plot.plugins, null if it is not a Flot plugin
+     */
+    public static String getFlotPluginName( String plugin )
+    {
+        if ( CANVAS2IMAGE.equals( plugin ) )
+        {
+            return null;
+        }
+        int index = 0;
+        for ( String name : ALL_PLUGINS )
+        {
+            if ( CANVAS2IMAGE.equals( name ) )
+            {
+                continue;
+            }
+            if ( name.equals( plugin ) )
+            {
+                return FLOT_PLUGIN_NAMES[index];
+            }
+            index++;
+        }
+        return null;
+    }
+
+    /**
+     * Sort $.plot.plugins in the order of {@link #ALL_PLUGINS} so the hooks of the plots run in the same order whatever
+     * the order the plugins have been loaded. The unknown plugins are kept after, in their order.
+     */
+    public static void sortFlotPlugins()
+    {
+        JsArrayString names = JavaScriptObject.createArray().cast();
+        for ( String name : FLOT_PLUGIN_NAMES )
+        {
+            names.push( name );
+        }
+        sortFlotPlugins( names );
+    }
+
+    private static native void sortFlotPlugins( JsArrayString names )
+    /*-{
+		var plugins = $wnd.jQuery.plot.plugins;
+		var rank = function(plugin, index) {
+			for ( var i = 0; i < names.length; i++) {
+				if (names[i] == plugin.name) {
+					return i;
+				}
+			}
+			return names.length + index;
+		};
+		var ranked = [];
+		for ( var i = 0; i < plugins.length; i++) {
+			ranked.push({ plugin: plugins[i], rank: rank(plugins[i], i) });
+		}
+		ranked.sort(function(a, b) {
+			return a.rank - b.rank;
+		});
+		// sorted in place, the plots keep a reference to this array
+		for ( var i = 0; i < ranked.length; i++) {
+			plugins[i] = ranked[i].plugin;
+		}
+    }-*/;
+}
@@ -1 +1 @@
-(function(b){var a={xaxis:{zoomRange:null,panRange:null},zoom:{interactive:false,trigger:"dblclick",amount:1.5},pan:{interactive:false,cursor:"move",frameRate:20}};function c(o){function m(q,p){var r=o.offset();r.left=q.pageX-r.left;r.top=q.pageY-r.top;if(p){o.zoomOut({center:r})}else{o.zoom({center:r})}}function d(p,q){m(p,q<0);return false}var i="default",g=0,e=0,n=null;function f(p){if(p.which!=1){return false}var q=o.getPlaceholder().css("cursor");if(q){i=q}o.getPlaceholder().css("cursor",o.getOptions().pan.cursor);g=p.pageX;e=p.pageY}function j(q){var p=o.getOptions().pan.frameRate;if(n||!p){return}n=setTimeout(function(){o.pan({left:g-q.pageX,top:e-q.pageY});g=q.pageX;e=q.pageY;n=null},1/p*1000)}function h(p){if(n){clearTimeout(n);n=null}o.getPlaceholder().css("cursor",i);o.pan({left:g-p.pageX,top:e-p.pageY})}function l(q,p){var r=q.getOptions();if(r.zoom.interactive){p[r.zoom.trigger](m);p.mousewheel(d)}if(r.pan.interactive){p.bind("dragstart",{distance:10},f);p.bind("drag",j);p.bind("dragend",h)}}o.zoomOut=function(p){if(!p){p={}}if(!p.amount){p.amount=o.getOptions().zoom.amount}p.amount=1/p.amount;o.zoom(p)};o.zoom=function(q){if(!q){q={}}var x=q.center,r=q.amount||o.getOptions().zoom.amount,p=o.width(),t=o.height();if(!x){x={left:p/2,top:t/2}}var s=x.left/p,v=x.top/t,u={x:{min:x.left-s*p/r,max:x.left+(1-s)*p/r},y:{min:x.top-v*t/r,max:x.top+(1-v)*t/r}};b.each(o.getAxes(),function(z,C){var D=C.options,B=u[C.direction].min,w=u[C.direction].max,E=D.zoomRange;if(E===false){return}B=C.c2p(B);w=C.c2p(w);if(B>w){var A=B;B=w;w=A}var y=w-B;if(E&&((E[0]!=null&&y<E[0])||(E[1]!=null&&y>E[1]))){return}D.min=B;D.max=w});o.setupGrid();o.draw();if(!q.preventEvent){o.getPlaceholder().trigger("plotzoom",[o])}};o.pan=function(p){var q={x:+p.left,y:+p.top};if(isNaN(q.x)){q.x=0}if(isNaN(q.y)){q.y=0}b.each(o.getAxes(),function(s,u){var v=u.options,t,r,w=q[u.direction];t=u.c2p(u.p2c(u.min)+w),r=u.c2p(u.p2c(u.max)+w);var x=v.panRange;if(x===false){return}if(x){if(x[0]!=null&&x[0]>t){w=x[0]-t;t+=w;r+=w}if(x[1]!=null&&x[1]<r){w=x[1]-r;t+=w;r+=w}}v.min=t;v.max=r});o.setupGrid();o.draw();if(!p.preventEvent){o.getPlaceholder().trigger("plotpan",[o])}};function k(q,p){p.unbind(q.getOptions().zoom.trigger,m);p.unbind("mousewheel",d);p.unbind("dragstart",f);p.unbind("drag",j);p.unbind("dragend",h);if(n){clearTimeout(n)}}o.hooks.bindEvents.push(l);o.hooks.shutdown.push(k)}b.plot.plugins.push({init:c,options:a,name:"navigate",version:"1.3"})})(jQuery);
\ No newline at end of file
+(function(b){var a={xaxis:{zoomRange:null,panRange:null},zoom:{interactive:false,trigger:"dblclick",amount:1.5,preview:false,previewDelay:250},pan:{interactive:false,cursor:"move",frameRate:20,preview:false}};function c(u){function t(x,w){var y=u.offset();y.left=x.pageX-y.left;y.top=x.pageY-y.top;if(w){u.zoomOut({center:y})}else{u.zoom({center:y})}}function o(w,A){var y=u.getOptions().zoom;if(y.preview){var z=u.offset(),x=u.getPlotOffset();m(A<0?1/y.amount:y.amount,w.pageX-z.left+x.left,w.pageY-z.top+x.top);if(l){clearTimeout(l)}l=setTimeout(j,y.previewDelay)}else{t(w,A<0)}return false}var r=null,l=null;function q(w){if(r&&r.type!=w){j()}if(!r){var x=u.getPlaceholder();r={type:w,s:1,tx:0,ty:0,overflow:x.css("overflow")};x.css("overflow","hidden");x.find(".tickLabels").hide()}return r}function d(){var w=r?"translate("+r.tx+"px,"+r.ty+"px) scale("+r.s+")":"";b(u.getCanvas()).css({"transform-origin":"0 0","-webkit-transform-origin":"0 0","-moz-transform-origin":"0 0","-ms-transform-origin":"0 0",transform:w,"-webkit-transform":w,"-moz-transform":w,"-ms-transform":w})}function m(w,z,x){var y=q("zoom");y.s*=w;y.tx=w*y.tx+(1-w)*z;y.ty=w*y.ty+(1-w)*x;d()}function v(x,w){var y=q("pan");y.tx=x;y.ty=w;d()}function j(){if(l){clearTimeout(l);l=null}if(!r){return}var w=r,y=u.getPlaceholder(),x=u.getPlotOffset();r=null;d();y.css("overflow",w.overflow);y.find(".tickLabels").show();if(w.type=="zoom"&&Math.abs(w.s-1)>1e-9){u.zoom({amount:w.s,center:{left:w.tx/(1-w.s)-x.left,top:w.ty/(1-w.s)-x.top}})}else{if(w.tx!=0||w.ty!=0){u.pan({left:-w.tx,top:-w.ty})}}}var i="default",g=0,e=0,n=null;function k(w){if(w.which!=1){return false}var x=u.getPlaceholder().css("cursor");if(x){i=x}u.getPlaceholder().css("cursor",u.getOptions().pan.cursor);g=w.pageX;e=w.pageY}function p(x){if(u.getOptions().pan.preview){v(x.pageX-g,x.pageY-e);return}var w=u.getOptions().pan.frameRate;if(n||!w){return}n=setTimeout(function(){u.pan({left:g-x.pageX,top:e-x.pageY});g=x.pageX;e=x.pageY;n=null},1/w*1000)}function h(w){if(n){clearTimeout(n);n=null}u.getPlaceholder().css("cursor",i);if(u.getOptions().pan.preview){v(w.pageX-g,w.pageY-e);j();return}u.pan({left:g-w.pageX,top:e-w.pageY})}function f(x,w){var y=x.getOptions();if(y.zoom.interactive){w[y.zoom.trigger](t);w.mousewheel(o)}if(y.pan.interactive){w.bind("dragstart",{distance:10},k);w.bind("drag",p);w.bind("dragend",h)}}u.zoomOut=function(w){if(!w){w={}}if(!w.amount){w.amount=u.getOptions().zoom.amount}w.amount=1/w.amount;u.zoom(w)};u.zoom=function(y){if(!y){y={}}var E=y.center,z=y.amount||u.getOptions().zoom.amount,x=u.width(),B=u.height();if(!E){E={left:x/2,top:B/2}}var A=E.left/x,D=E.top/B,C={x:{min:E.left-A*x/z,max:E.left+(1-A)*x/z},y:{min:E.top-D*B/z,max:E.top+(1-D)*B/z}};b.each(u.getAxes(),function(G,J){var K=J.options,I=C[J.direction].min,w=C[J.direction].max,L=K.zoomRange;if(L===false){return}I=J.c2p(I);w=J.c2p(w);if(I>w){var H=I;I=w;w=H}var F=w-I;if(L&&((L[0]!=null&&F<L[0])||(L[1]!=null&&F>L[1]))){return}K.min=I;K.max=w});u.setupGrid();u.draw();if(!y.preventEvent){u.getPlaceholder().trigger("plotzoom",[u])}};u.pan=function(w){var x={x:+w.left,y:+w.top};if(isNaN(x.x)){x.x=0}if(isNaN(x.y)){x.y=0}b.each(u.getAxes(),function(z,B){var C=B.options,A,y,D=x[B.direction];A=B.c2p(B.p2c(B.min)+D),y=B.c2p(B.p2c(B.max)+D);var E=C.panRange;if(E===false){return}if(E){if(E[0]!=null&&E[0]>A){D=E[0]-A;A+=D;y+=D}if(E[1]!=null&&E[1]<y){D=E[1]-y;A+=D;y+=D}}C.min=A;C.max=y});u.setupGrid();u.draw();if(!w.preventEvent){u.getPlaceholder().trigger("plotpan",[u])}};function s(x,w){w.unbind(x.getOptions().zoom.trigger,t);w.unbind("mousewheel",o);w.unbind("dragstart",k);w.unbind("drag",p);w.unbind("dragend",h);if(n){clearTimeout(n)}if(l){clearTimeout(l)}}u.hooks.bindEvents.push(f);u.hooks.shutdown.push(s)}b.plot.plugins.push({init:c,options:a,name:"navigate",version:"1.3"})})(jQuery);
\ No newline at end of file
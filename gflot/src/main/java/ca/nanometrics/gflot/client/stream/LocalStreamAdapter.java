@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client.stream;
+
+import com.google.gwt.user.client.Timer;
+
+/**
+ * Adapter standing in for a server, to exercise a {@link StreamingSeriesSource} offline. A {@link Generator} is called
+ * at a fixed interval to push points. Like a pausable server, the generation is skipped while the source is
+ * backpressured, unless the backpressure is ignored to test the overflow policies.
+ */
+public class LocalStreamAdapter
+    implements StreamAdapter
+{
+    public interface Generator
+    {
+        /**
+         * Push the points produced since the last call
+         *
+         * @param source the source to push the points to
+         */
+        void generate( StreamingSeriesSource source );
+    }
+
+    private final Generator generator;
+
+    private final int interval;
+
+    private boolean respectBackpressure = true;
+
+    private StreamingSeriesSource source;
+
+    private final Timer timer = new Timer() {
+        @Override
+        public void run()
+        {
+            if ( null != source && !( respectBackpressure && source.isBackpressured() ) )
+            {
+                generator.generate( source );
+            }
+        }
+    };
+
+    /**
+     * @param generator the generator of the points
+     * @param interval the interval in ms between two calls to the generator
+     */
+    public LocalStreamAdapter( Generator generator, int interval )
+    {
+        assert null != generator : "generator can't be null";
+
+        this.generator = generator;
+        this.interval = interval;
+    }
+
+    public boolean isRespectBackpressure()
+    {
+        return respectBackpressure;
+    }
+
+    /**
+     * Set if the generation is skipped while the source is backpressured. Set it to false to let the overflow policy
+     * of the source handle the excess.
+     */
+    public void setRespectBackpressure( boolean respectBackpressure )
+    {
+        this.respectBackpressure = respectBackpressure;
+    }
+
+    @Override
+    public void connect( StreamingSeriesSource source )
+    {
+        this.source = source;
+        timer.scheduleRepeating( interval );
+    }
+
+    @Override
+    public void disconnect()
+    {
+        timer.cancel();
+        source = null;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client.stream;
+
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.http.client.Request;
+import com.google.gwt.http.client.RequestBuilder;
+import com.google.gwt.http.client.RequestCallback;
+import com.google.gwt.http.client.RequestException;
+import com.google.gwt.http.client.Response;
+import com.google.gwt.user.client.Timer;
+
+/**
+ * Adapter polling a URL. The body of each response is pushed with
+ * {@link StreamingSeriesSource#pushMessage(String)} and the next request is sent once the source is no longer
+ * backpressured, so a slow client slows the polling down instead of dropping points.
+ */
+public class LongPollStreamAdapter
+    implements StreamAdapter
+{
+    public static final int DEFAULT_RETRY_DELAY = 1000; // ms
+
+    private static final int BACKPRESSURE_CHECK_DELAY = 50; // ms
+
+    private final String url;
+
+    private int retryDelay = DEFAULT_RETRY_DELAY;
+
+    private StreamingSeriesSource source;
+
+    private Request request;
+
+    private final Timer pollTimer = new Timer() {
+        @Override
+        public void run()
+        {
+            poll();
+        }
+    };
+
+    public LongPollStreamAdapter( String url )
+    {
+        this.url = url;
+    }
+
+    /**
+     * Set the delay before polling again after an error
+     */
+    public void setRetryDelay( int retryDelay )
+    {
+        this.retryDelay = retryDelay;
+    }
+
+    public int getRetryDelay()
+    {
+        return retryDelay;
+    }
+
+    @Override
+    public void connect( StreamingSeriesSource source )
+    {
+        disconnect();
+        this.source = source;
+        poll();
+    }
+
+    @Override
+    public void disconnect()
+    {
+        source = null;
+        pollTimer.cancel();
+        if ( null != request )
+        {
+            request.cancel();
+            request = null;
+        }
+    }
+
+    private void poll()
+    {
+        if ( null == source )
+        {
+            return;
+        }
+        if ( source.isBackpressured() )
+        {
+            pollTimer.schedule( BACKPRESSURE_CHECK_DELAY );
+            return;
+        }
+
+        RequestBuilder builder = new RequestBuilder( RequestBuilder.GET, url );
+        try
+        {
+            request = builder.sendRequest( null, new RequestCallback() {
+                @Override
+                public void onResponseReceived( Request req, Response response )
+                {
+                    request = null;
+                    if ( null == source )
+                    {
+                        return;
+                    }
+                    if ( response.getStatusCode() == Response.SC_OK )
+                    {
+                        String text = response.getText();
+                        if ( null != text && text.length() > 0 )
+                        {
+                            source.pushMessage( text );
+                        }
+                        poll();
+                    }
+                    else
+                    {
+                        pollTimer.schedule( retryDelay );
+                    }
+                }
+
+                @Override
+                public void onError( Request req, Throwable exception )
+                {
+                    request = null;
+                    GWT.log( "Failed to poll " + url, exception );
+                    if ( null != source )
+                    {
+                        pollTimer.schedule( retryDelay );
+                    }
+                }
+            } );
+        }
+        catch ( RequestException e )
+        {
+            GWT.log( "Failed to poll " + url, e );
+            pollTimer.schedule( retryDelay );
+        }
+    }
+}
@@ -0,0 +1,415 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client.stream;
+
+import ca.nanometrics.gflot.client.JsDataPoint;
+import ca.nanometrics.gflot.client.SeriesHandler;
+import ca.nanometrics.gflot.client.util.AnimationFrame;
+
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.JavaScriptException;
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArray;
+import com.google.gwt.core.client.JsArrayNumber;
+import com.google.gwt.user.client.Command;
+
+/**
+ * Queue between a stream of data points and the series of a plot.
+ * <p>
+ * The points pushed by a {@link StreamAdapter} (or directly with {@link #push(int, double, double)}) are queued and
+ * drained into the series in bulk, once per animation frame, at most {@link #getMaxPointsPerFrame()} points at a
+ * time. The command given at construction is executed after each drain, typically to redraw the plot.
+ * </p>
+ * <p>
+ * When the client falls behind, the {@link OverflowPolicy} decides what is lost: the oldest points, the newest points
+ * or the resolution. The adapters able to slow their source down check {@link #isBackpressured()} before requesting
+ * more data.
+ * </p>
+ */
+public class StreamingSeriesSource
+{
+    public static final int DEFAULT_CAPACITY = 50000;
+
+    public static final int DEFAULT_MAX_POINTS_PER_FRAME = 5000;
+
+    public enum OverflowPolicy
+    {
+        /**
+         * The oldest queued points are dropped when the queue is full
+         */
+        DROP_OLDEST,
+        /**
+         * The pushed points are dropped when the queue is full
+         */
+        DROP_NEWEST,
+        /**
+         * When more points are queued than can be drained in a frame, the consecutive points of each series are
+         * averaged so the whole queue is drained at once. The oldest points are dropped if the queue is still full.
+         */
+        AGGREGATE
+    }
+
+    // each queued point takes 4 slots: series index, x, y and arrival time
+    private static final int SLOTS = 4;
+
+    private final SeriesHandler[] handlers;
+
+    private final Command afterDrain;
+
+    private final StreamingStats stats = new StreamingStats();
+
+    private JsArrayNumber queue = JavaScriptObject.createArray().cast();
+
+    private int head;
+
+    private int capacity = DEFAULT_CAPACITY;
+
+    private int maxPointsPerFrame = DEFAULT_MAX_POINTS_PER_FRAME;
+
+    private int highWatermark = DEFAULT_CAPACITY / 2;
+
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+
+    private boolean drainScheduled;
+
+    /**
+     * @param handlers the series fed by the stream, the series index of the pushed points being the index in this array
+     * @param afterDrain the command executed after the queued points have been added to the series, can be null
+     */
+    public StreamingSeriesSource( SeriesHandler[] handlers, Command afterDrain )
+    {
+        assert null != handlers : "handlers can't be null";
+
+        this.handlers = handlers;
+        this.afterDrain = afterDrain;
+    }
+
+    /**
+     * Queue a data point
+     *
+     * @param seriesIndex the index of the series in the handlers of this source
+     * @param x the x coordinate
+     * @param y the y coordinate
+     */
+    public void push( int seriesIndex, double x, double y )
+    {
+        stats.received++;
+        if ( size() >= capacity )
+        {
+            if ( overflowPolicy == OverflowPolicy.DROP_NEWEST )
+            {
+                stats.dropped++;
+                return;
+            }
+            head += SLOTS;
+            stats.dropped++;
+            // the drain may not run for a while (animation frames are paused in background tabs), the dropped slots
+            // are released here so the queue stays bounded by its capacity
+            compact();
+        }
+
+        int index = queue.length();
+        queue.set( index, seriesIndex );
+        queue.set( index + 1, x );
+        queue.set( index + 2, y );
+        queue.set( index + 3, Duration.currentTimeMillis() );
+        scheduleDrain();
+    }
+
+    /**
+     * Queue the data points of a native array of [seriesIndex, x, y] samples
+     */
+    public void push( JsArray<JsArrayNumber> samples )
+    {
+        for ( int i = 0; i < samples.length(); i++ )
+        {
+            JsArrayNumber sample = samples.get( i );
+            push( (int) sample.get( 0 ), sample.get( 1 ), sample.get( 2 ) );
+        }
+    }
+
+    /**
+     * Queue the data points of a message received from a server. The message is a JSON array of [seriesIndex, x, y]
+     * samples, e.g. <code>[[0, 1325376000000, 12.5], [1, 1325376000000, 3.2]]</code>. The message is parsed with the
+     * native JSON parser of the browser, it is rejected if the browser has none or if it is not a JSON array (see
+     * {@link StreamingStats#getRejectedMessages()}).
+     */
+    public void pushMessage( String message )
+    {
+        JsArray<JsArrayNumber> samples = null;
+        JavaScriptException error = null;
+        try
+        {
+            samples = parse( message );
+        }
+        catch ( JavaScriptException e )
+        {
+            error = e;
+        }
+        if ( null == samples )
+        {
+            stats.rejectedMessages++;
+            GWT.log( "Rejected a stream message that is not a JSON array", error );
+            return;
+        }
+        push( samples );
+    }
+
+    /**
+     * @return the parsed array or null if the browser has no native JSON parser or the message is not an array
+     */
+    private static native JsArray<JsArrayNumber> parse( String message )
+    /*-{
+		// the message comes from a server, it is never evaluated as code
+		if (!$wnd.JSON) {
+			return null;
+		}
+		var samples = $wnd.JSON.parse(message);
+		return Object.prototype.toString.call(samples) == "[object Array]" ? samples : null;
+    }-*/;
+
+    /**
+     * @return the number of queued points
+     */
+    public int size()
+    {
+        return ( queue.length() - head ) / SLOTS;
+    }
+
+    /**
+     * @return true if the queue holds more points than its high watermark. The adapters able to pause their source
+     * should wait before requesting more data.
+     */
+    public boolean isBackpressured()
+    {
+        return size() >= highWatermark;
+    }
+
+    /**
+     * @return the statistics of this source, updated live
+     */
+    public StreamingStats getStats()
+    {
+        stats.queued = size();
+        return stats;
+    }
+
+    public int getCapacity()
+    {
+        return capacity;
+    }
+
+    /**
+     * Set the maximum number of queued points. The high watermark is set to half the capacity.
+     */
+    public void setCapacity( int capacity )
+    {
+        assert capacity > 0 : "capacity must be positive";
+
+        this.capacity = capacity;
+        this.highWatermark = capacity / 2;
+    }
+
+    public int getHighWatermark()
+    {
+        return highWatermark;
+    }
+
+    /**
+     * Set the number of queued points from which the source is backpressured
+     */
+    public void setHighWatermark( int highWatermark )
+    {
+        this.highWatermark = highWatermark;
+    }
+
+    public int getMaxPointsPerFrame()
+    {
+        return maxPointsPerFrame;
+    }
+
+    /**
+     * Set the maximum number of points added to the series per animation frame
+     */
+    public void setMaxPointsPerFrame( int maxPointsPerFrame )
+    {
+        assert maxPointsPerFrame > 0 : "maxPointsPerFrame must be positive";
+
+        this.maxPointsPerFrame = maxPointsPerFrame;
+    }
+
+    public OverflowPolicy getOverflowPolicy()
+    {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy( OverflowPolicy overflowPolicy )
+    {
+        assert null != overflowPolicy : "overflowPolicy can't be null";
+
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Drop all the queued points
+     */
+    public void clear()
+    {
+        stats.dropped += size();
+        queue = JavaScriptObject.createArray().cast();
+        head = 0;
+    }
+
+    private void scheduleDrain()
+    {
+        if ( drainScheduled )
+        {
+            return;
+        }
+        drainScheduled = true;
+        AnimationFrame.request( new Command() {
+            @Override
+            public void execute()
+            {
+                drainScheduled = false;
+                drain();
+            }
+        } );
+    }
+
+    private void drain()
+    {
+        int queued = size();
+        if ( queued == 0 )
+        {
+            return;
+        }
+
+        double now = Duration.currentTimeMillis();
+        stats.lag = now - queue.get( head + 3 );
+        stats.maxLag = Math.max( stats.maxLag, stats.lag );
+        stats.frames++;
+
+        if ( queued > maxPointsPerFrame && overflowPolicy == OverflowPolicy.AGGREGATE )
+        {
+            drainAggregated( queued );
+        }
+        else
+        {
+            int count = Math.min( queued, maxPointsPerFrame );
+            for ( int i = 0; i < count; i++, head += SLOTS )
+            {
+                addPoint( (int) queue.get( head ), queue.get( head + 1 ), queue.get( head + 2 ) );
+            }
+            stats.drained += count;
+        }
+
+        compact();
+        if ( null != afterDrain )
+        {
+            afterDrain.execute();
+        }
+        if ( size() > 0 )
+        {
+            scheduleDrain();
+        }
+    }
+
+    /**
+     * Drain the whole queue, averaging each run of consecutive points of a series so at most maxPointsPerFrame points
+     * are added
+     */
+    private void drainAggregated( int queued )
+    {
+        int factor = (int) Math.ceil( (double) queued / maxPointsPerFrame );
+        int n = handlers.length;
+        double[] sumX = new double[n];
+        double[] sumY = new double[n];
+        int[] count = new int[n];
+
+        for ( ; head < queue.length(); head += SLOTS )
+        {
+            int series = (int) queue.get( head );
+            if ( series < 0 || series >= n )
+            {
+                stats.dropped++;
+                continue;
+            }
+            sumX[series] += queue.get( head + 1 );
+            sumY[series] += queue.get( head + 2 );
+            if ( ++count[series] == factor )
+            {
+                flushAggregate( series, sumX, sumY, count );
+            }
+        }
+        for ( int series = 0; series < n; series++ )
+        {
+            if ( count[series] > 0 )
+            {
+                flushAggregate( series, sumX, sumY, count );
+            }
+        }
+    }
+
+    private void flushAggregate( int series, double[] sumX, double[] sumY, int[] count )
+    {
+        addPoint( series, sumX[series] / count[series], sumY[series] / count[series] );
+        stats.drained++;
+        stats.aggregated += count[series] - 1;
+        sumX[series] = 0;
+        sumY[series] = 0;
+        count[series] = 0;
+    }
+
+    private void addPoint( int series, double x, double y )
+    {
+        if ( series < 0 || series >= handlers.length )
+        {
+            stats.dropped++;
+            return;
+        }
+        handlers[series].add( JsDataPoint.create( x, y ) );
+    }
+
+    /**
+     * Remove the drained slots from the beginning of the queue once they take half of it
+     */
+    private void compact()
+    {
+        if ( head == queue.length() )
+        {
+            queue.setLength( 0 );
+            head = 0;
+        }
+        else if ( head > queue.length() / 2 )
+        {
+            splice( queue, head );
+            head = 0;
+        }
+    }
+
+    private static native void splice( JsArrayNumber array, int count )
+    /*-{
+		array.splice(0, count);
+    }-*/;
+}
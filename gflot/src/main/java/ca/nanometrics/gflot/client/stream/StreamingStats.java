@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client.stream;
+
+/**
+ * Statistics of a {@link StreamingSeriesSource}
+ */
+public class StreamingStats
+{
+    int received;
+
+    int drained;
+
+    int dropped;
+
+    int aggregated;
+
+    int rejectedMessages;
+
+    int queued;
+
+    int frames;
+
+    double lag;
+
+    double maxLag;
+
+    StreamingStats()
+    {
+    }
+
+    /**
+     * @return the number of points pushed to the source
+     */
+    public int getReceived()
+    {
+        return received;
+    }
+
+    /**
+     * @return the number of points added to the series
+     */
+    public int getDrained()
+    {
+        return drained;
+    }
+
+    /**
+     * @return the number of points dropped because the queue was full or their series unknown
+     */
+    public int getDropped()
+    {
+        return dropped;
+    }
+
+    /**
+     * @return the number of points merged into an average by the {@link StreamingSeriesSource.OverflowPolicy#AGGREGATE}
+     * policy
+     */
+    public int getAggregated()
+    {
+        return aggregated;
+    }
+
+    /**
+     * @return the number of messages rejected because they are not a valid JSON array or the browser has no native
+     * JSON parser
+     */
+    public int getRejectedMessages()
+    {
+        return rejectedMessages;
+    }
+
+    /**
+     * @return the number of points waiting to be drained
+     */
+    public int getQueued()
+    {
+        return queued;
+    }
+
+    /**
+     * @return the number of frames in which points have been drained
+     */
+    public int getFrames()
+    {
+        return frames;
+    }
+
+    /**
+     * @return the time in ms the oldest point drained in the last frame waited in the queue
+     */
+    public double getLag()
+    {
+        return lag;
+    }
+
+    /**
+     * @return the highest lag in ms since the creation of the source or the last {@link #reset()}
+     */
+    public double getMaxLag()
+    {
+        return maxLag;
+    }
+
+    /**
+     * Reset the counters
+     */
+    public void reset()
+    {
+        received = 0;
+        drained = 0;
+        dropped = 0;
+        aggregated = 0;
+        rejectedMessages = 0;
+        frames = 0;
+        lag = 0;
+        maxLag = 0;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client.stream;
+
+import com.google.gwt.core.client.JavaScriptObject;
+
+/**
+ * Adapter receiving the messages of a WebSocket. Each message is pushed with
+ * {@link StreamingSeriesSource#pushMessage(String)}. A WebSocket can't be paused, so the overflow policy of the source
+ * applies when the client falls behind.
+ */
+public class WebSocketStreamAdapter
+    implements StreamAdapter
+{
+    private final String url;
+
+    private JavaScriptObject socket;
+
+    public WebSocketStreamAdapter( String url )
+    {
+        this.url = url;
+    }
+
+    /**
+     * @return true if the browser supports WebSocket
+     */
+    public static native boolean isSupported()
+    /*-{
+		return !!$wnd.WebSocket;
+    }-*/;
+
+    @Override
+    public void connect( StreamingSeriesSource source )
+    {
+        disconnect();
+        socket = open( url, source );
+    }
+
+    @Override
+    public void disconnect()
+    {
+        if ( null != socket )
+        {
+            close( socket );
+            socket = null;
+        }
+    }
+
+    private static native JavaScriptObject open( String url, StreamingSeriesSource source )
+    /*-{
+		var socket = new $wnd.WebSocket(url);
+		socket.onmessage = $entry(function(event) {
+			source.@ca.nanometrics.gflot.client.stream.StreamingSeriesSource::pushMessage(Ljava/lang/String;)(event.data);
+		});
+		return socket;
+    }-*/;
+
+    private static native void close( JavaScriptObject socket )
+    /*-{
+		socket.onmessage = null;
+		socket.close();
+    }-*/;
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client.util;
+
+import com.google.gwt.user.client.Command;
+
+/**
+ * Runs commands on the next animation frame of the browser, falling back to a timeout on the browsers without
+ * requestAnimationFrame.
+ */
+public class AnimationFrame
+{
+
+    /**
+     * Execute the command before the next repaint of the browser
+     */
+    public static final native void request( Command command )
+    /*-{
+		var requestFrame = $wnd.requestAnimationFrame || $wnd.webkitRequestAnimationFrame
+				|| $wnd.mozRequestAnimationFrame || function(callback) {
+					return $wnd.setTimeout(callback, 16);
+				};
+		requestFrame.call($wnd, $entry(function() {
+			command.@com.google.gwt.user.client.Command::execute()();
+		}));
+    }-*/;
+
+}
@@ -48,11 +48,21 @@ public class JSONArrayWrapper
         arrayObject.shift();
     }-*/;
 
+    private static native void shiftJavaScriptArray( JavaScriptObject arrayObject, int count )
+    /*-{
+        arrayObject.splice(0, count);
+    }-*/;
+
     private static native void clearJavaScriptArray( JavaScriptObject arrayObject )
     /*-{
         arrayObject.length = 0;
     }-*/;
 
+    private static native void setJavaScriptArray( JavaScriptObject arrayObject, int index, JavaScriptObject value )
+    /*-{
+        arrayObject[index] = value;
+    }-*/;
+
     protected JSONArrayWrapper()
     {
         jsonArray = new JSONArray();
@@ -168,6 +178,14 @@ public class JSONArrayWrapper
         set( ++currentIndex, val );
     }
 
+    /**
+     * Push a native object without wrapping it
+     */
+    protected void push( JavaScriptObject value )
+    {
+        setJavaScriptArray( jsonArray.getJavaScriptObject(), ++currentIndex, value );
+    }
+
     protected void pushAll( JSONWrapper[] values )
     {
         for ( int i = 0; i < values.length; i++ )
@@ -259,6 +277,15 @@ public class JSONArrayWrapper
         currentIndex = jsonArray.size() - 1;
     }
 
+    /**
+     * Remove the given number of elements from the beginning of the array in one operation
+     */
+    protected void shift( int count )
+    {
+        shiftJavaScriptArray( jsonArray.getJavaScriptObject(), count );
+        currentIndex = jsonArray.size() - 1;
+    }
+
     protected void clear()
     {
         clearJavaScriptArray( jsonArray.getJavaScriptObject() );
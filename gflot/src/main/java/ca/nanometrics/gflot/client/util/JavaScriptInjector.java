@@ -4,6 +4,7 @@ import com.google.gwt.dom.client.Document;
 import com.google.gwt.dom.client.HeadElement;
 import com.google.gwt.dom.client.ScriptElement;
 import com.google.gwt.dom.client.Element;
+import com.google.gwt.user.client.Command;
 
 /**
  * Wrapper around functionality used to inject external Javascript code into your application.
@@ -23,6 +24,42 @@ public class JavaScriptInjector
         head.appendChild( element );
     }
 
+    /**
+     * Inject a script from an url. The browser downloads and executes it asynchronously and may take it from its cache.
+     *
+     * @param url url of the script
+     * @param onLoad executed once the script is executed
+     * @param onError executed if the script cannot be downloaded
+     */
+    public static void injectUrl( String url, Command onLoad, Command onError )
+    {
+        HeadElement head = getHead();
+        ScriptElement element = createScriptElement();
+        setHandlers( element, onLoad, onError );
+        element.setSrc( url );
+        head.appendChild( element );
+    }
+
+    private static native void setHandlers( ScriptElement script, Command onLoad, Command onError )
+    /*-{
+		var complete = $entry(function(command) {
+			// ie < 9 signals the load through onreadystatechange, only once
+			script.onload = script.onreadystatechange = script.onerror = null;
+			command.@com.google.gwt.user.client.Command::execute()();
+		});
+		script.onload = function() {
+			complete(onLoad);
+		};
+		script.onreadystatechange = function() {
+			if (script.readyState == 'loaded' || script.readyState == 'complete') {
+				complete(onLoad);
+			}
+		};
+		script.onerror = function() {
+			complete(onError);
+		};
+    }-*/;
+
     private static ScriptElement createScriptElement()
     {
         ScriptElement script = Document.get().createScriptElement();
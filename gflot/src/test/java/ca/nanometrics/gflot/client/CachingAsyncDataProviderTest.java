@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import ca.nanometrics.gflot.client.PlotWithOverviewModel.AsyncDataProvider;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import com.google.gwt.user.client.rpc.AsyncCallback;
+
+public class CachingAsyncDataProviderTest
+    extends GWTTestCase
+{
+    /**
+     * Provider keeping the requests until they are answered by the test
+     */
+    private static class RecordingProvider
+        implements AsyncDataProvider
+    {
+        private final List<double[]> requests = new ArrayList<double[]>();
+
+        private final List<AsyncCallback<DataPoint[]>> callbacks = new ArrayList<AsyncCallback<DataPoint[]>>();
+
+        @Override
+        public void getData( double x1, double x2, AsyncCallback<DataPoint[]> callback )
+        {
+            requests.add( new double[] { x1, x2 } );
+            callbacks.add( callback );
+        }
+
+        void respond( int request, double... xs )
+        {
+            DataPoint[] points = new DataPoint[xs.length];
+            for ( int i = 0; i < xs.length; i++ )
+            {
+                points[i] = new DataPoint( xs[i], xs[i] * 2 );
+            }
+            callbacks.get( request ).onSuccess( points );
+        }
+    }
+
+    private static class Result
+        implements AsyncCallback<DataPoint[]>
+    {
+        private DataPoint[] points;
+
+        private Throwable error;
+
+        @Override
+        public void onFailure( Throwable caught )
+        {
+            error = caught;
+        }
+
+        @Override
+        public void onSuccess( DataPoint[] result )
+        {
+            points = result;
+        }
+    }
+
+    private RecordingProvider provider;
+
+    private CachingAsyncDataProvider cache;
+
+    @Override
+    public String getModuleName()
+    {
+        return "ca.nanometrics.gflot.GFlot";
+    }
+
+    @Override
+    protected void gwtSetUp()
+        throws Exception
+    {
+        provider = new RecordingProvider();
+        cache = new CachingAsyncDataProvider( provider );
+    }
+
+    public void testRequestsOnlyTheMissingRange()
+    {
+        fill( 0, 10, 0, 5, 10 );
+
+        Result result = new Result();
+        cache.getData( 5, 20, result );
+        assertRequest( 1, 10, 20 );
+        provider.respond( 1, 15, 20 );
+
+        assertPoints( result, 5, 10, 15, 20 );
+    }
+
+    public void testAnswersCachedRangeSynchronously()
+    {
+        fill( 0, 10, 0, 5, 10 );
+
+        Result result = new Result();
+        cache.getData( 2, 8, result );
+
+        assertEquals( 1, provider.requests.size() );
+        assertPoints( result, 5 );
+    }
+
+    public void testRequestsTheHoleBetweenCachedRanges()
+    {
+        fill( 0, 10, 0, 10 );
+        fill( 20, 30, 20, 30 );
+
+        Result result = new Result();
+        cache.getData( 0, 30, result );
+        assertEquals( 3, provider.requests.size() );
+        assertRequest( 2, 10, 20 );
+        provider.respond( 2, 15 );
+
+        assertPoints( result, 0, 10, 15, 20, 30 );
+    }
+
+    public void testWaitsForTheRequestInProgress()
+    {
+        Result first = new Result();
+        cache.getData( 0, 10, first );
+        Result second = new Result();
+        cache.getData( 5, 15, second );
+
+        // only the range not being requested yet is requested
+        assertEquals( 2, provider.requests.size() );
+        assertRequest( 1, 10, 15 );
+
+        provider.respond( 1, 15 );
+        assertNull( second.points );
+
+        provider.respond( 0, 0, 5, 10 );
+        assertPoints( first, 0, 5, 10 );
+        assertPoints( second, 5, 10, 15 );
+    }
+
+    public void testDoesNotCacheAfterTheLastPoint()
+    {
+        fill( 0, 10, 0, 5 );
+
+        assertTrue( cache.contains( 0, 5 ) );
+        assertFalse( cache.contains( 0, 10 ) );
+
+        // the live tail is requested again
+        cache.getData( 0, 10, new Result() );
+        assertRequest( 1, 5, 10 );
+    }
+
+    public void testDoesNotCacheEmptyRangeAfterTheLastPoint()
+    {
+        fill( 0, 10 );
+
+        assertFalse( cache.contains( 0, 10 ) );
+        cache.getData( 0, 10, new Result() );
+        assertRequest( 1, 0, 10 );
+    }
+
+    public void testCachesEmptyRangeBeforeTheLastPoint()
+    {
+        fill( 10, 20, 15 );
+        fill( 0, 5 );
+
+        assertTrue( cache.contains( 0, 5 ) );
+    }
+
+    public void testReportsFailure()
+    {
+        Result result = new Result();
+        cache.getData( 0, 10, result );
+        RuntimeException error = new RuntimeException();
+        provider.callbacks.get( 0 ).onFailure( error );
+
+        assertSame( error, result.error );
+        assertNull( result.points );
+        assertFalse( cache.contains( 0, 10 ) );
+    }
+
+    public void testEvictsLeastRecentlyUsedRange()
+    {
+        cache = new CachingAsyncDataProvider( provider, 2 );
+        fill( 0, 10, 0, 10 );
+        fill( 20, 30, 20, 30 );
+
+        assertFalse( cache.contains( 0, 10 ) );
+        assertTrue( cache.contains( 20, 30 ) );
+        assertEquals( 2, cache.getSize() );
+    }
+
+    /**
+     * Request a range and answer it with the given points
+     */
+    private void fill( double x1, double x2, double... xs )
+    {
+        int request = provider.requests.size();
+        cache.getData( x1, x2, new Result() );
+        assertRequest( request, x1, x2 );
+        provider.respond( request, xs );
+    }
+
+    private void assertRequest( int request, double x1, double x2 )
+    {
+        double[] range = provider.requests.get( request );
+        assertEquals( x1, range[0], 0 );
+        assertEquals( x2, range[1], 0 );
+    }
+
+    private static void assertPoints( Result result, double... xs )
+    {
+        assertNotNull( result.points );
+        assertEquals( xs.length, result.points.length );
+        for ( int i = 0; i < xs.length; i++ )
+        {
+            assertEquals( xs[i], result.points[i].getX(), 0 );
+        }
+    }
+}
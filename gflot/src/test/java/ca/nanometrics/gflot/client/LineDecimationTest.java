@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client;
+
+import ca.nanometrics.gflot.client.resources.FlotJavaScriptLoader;
+import ca.nanometrics.gflot.client.resources.FlotJavaScriptLoader.FlotJavaScriptCallback;
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArrayNumber;
+import com.google.gwt.junit.client.GWTTestCase;
+
+/**
+ * Tests the column decimator used by the lines.decimate option
+ */
+public class LineDecimationTest
+    extends GWTTestCase
+{
+    @Override
+    public String getModuleName()
+    {
+        return "ca.nanometrics.gflot.GFlot";
+    }
+
+    public void testCollapsesPointsOfAColumn()
+    {
+        assertDecimated( "M0.1,5 L0.1,1 L0.1,8 L0.9,8 L1.2,3", 0.1, 5, 0.5, 1, 0.9, 8, 1.2, 3 );
+    }
+
+    public void testKeepsPointsOfDifferentColumns()
+    {
+        assertDecimated( "M0,1 L1,2 L2,3", 0, 1, 1, 2, 2, 3 );
+    }
+
+    public void testFlushesTheLastColumn()
+    {
+        assertDecimated( "M0,1 L2.1,4 L2.1,0 L2.1,4 L2.9,2", 0, 1, 2.1, 4, 2.5, 0, 2.9, 2 );
+    }
+
+    public void testBoundsThePathCalls()
+    {
+        final double[] xy = new double[2000];
+        for ( int i = 0; i < 1000; i++ )
+        {
+            // 100 points per pixel column
+            xy[2 * i] = i / 100.0;
+            xy[2 * i + 1] = i % 7;
+        }
+        delayTestFinish( 5000 );
+        FlotJavaScriptLoader.get().loadRequiredFlotLibrary( new FlotJavaScriptCallback() {
+            @Override
+            public void onSuccess()
+            {
+                // the moveTo then, for each of the 10 columns, the entry, min, max and exit vertices
+                String calls = decimate( toArray( xy ) );
+                assertTrue( calls.split( " " ).length <= 1 + 10 * 4 );
+                finishTest();
+            }
+
+            @Override
+            public void onError( Throwable caught )
+            {
+                fail( caught.getMessage() );
+            }
+        } );
+    }
+
+    private void assertDecimated( final String expected, final double... xy )
+    {
+        delayTestFinish( 5000 );
+        FlotJavaScriptLoader.get().loadRequiredFlotLibrary( new FlotJavaScriptCallback() {
+            @Override
+            public void onSuccess()
+            {
+                assertEquals( expected, decimate( toArray( xy ) ) );
+                finishTest();
+            }
+
+            @Override
+            public void onError( Throwable caught )
+            {
+                fail( caught.getMessage() );
+            }
+        } );
+    }
+
+    private static JsArrayNumber toArray( double[] values )
+    {
+        JsArrayNumber array = JavaScriptObject.createArray().cast();
+        for ( double value : values )
+        {
+            array.push( value );
+        }
+        return array;
+    }
+
+    /**
+     * Draw a path through the points with the decimator
+     *
+     * @return the path calls received by the context, e.g. "M0,1 L1,2"
+     */
+    private static native String decimate( JsArrayNumber xy )
+    /*-{
+		var calls = [];
+		var ctx = {
+			moveTo : function(x, y) {
+				calls.push("M" + x + "," + y);
+			},
+			lineTo : function(x, y) {
+				calls.push("L" + x + "," + y);
+			}
+		};
+		var path = $wnd.jQuery.plot.columnDecimator(ctx);
+		path.moveTo(xy[0], xy[1]);
+		for ( var i = 2; i < xy.length; i += 2) {
+			path.lineTo(xy[i], xy[i + 1]);
+		}
+		path.flush();
+		return calls.join(" ");
+    }-*/;
+}
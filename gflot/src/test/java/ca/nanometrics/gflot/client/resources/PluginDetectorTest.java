@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client.resources;
+
+import java.util.Arrays;
+import java.util.List;
+
+import ca.nanometrics.gflot.client.Series;
+import ca.nanometrics.gflot.client.options.GlobalSeriesOptions;
+import ca.nanometrics.gflot.client.options.PieSeriesOptions;
+import ca.nanometrics.gflot.client.options.PlotOptions;
+import ca.nanometrics.gflot.client.options.PointsSeriesOptions;
+import ca.nanometrics.gflot.client.options.PointsSeriesOptions.PointSymbol;
+import ca.nanometrics.gflot.client.options.SelectionOptions;
+import ca.nanometrics.gflot.client.options.SelectionOptions.SelectionMode;
+import ca.nanometrics.gflot.client.options.ZoomOptions;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+public class PluginDetectorTest
+    extends GWTTestCase
+{
+    @Override
+    public String getModuleName()
+    {
+        return "ca.nanometrics.gflot.GFlot";
+    }
+
+    public void testAlwaysRequiresResizeAndCanvas2Image()
+    {
+        assertEquals( Arrays.asList( PluginDetector.RESIZE, PluginDetector.CANVAS2IMAGE ),
+            PluginDetector.detect( null, null, false ) );
+        assertEquals( Arrays.asList( PluginDetector.RESIZE, PluginDetector.CANVAS2IMAGE ),
+            PluginDetector.detect( new Series[] { new Series( "plain" ) }, new PlotOptions(), false ) );
+    }
+
+    public void testDetectsOptions()
+    {
+        PlotOptions options = new PlotOptions();
+        options.setSelectionOptions( new SelectionOptions().setMode( SelectionMode.X ) );
+        options.setZoomOptions( new ZoomOptions().setInteractive( true ) );
+
+        List<String> plugins = PluginDetector.detect( null, options, false );
+
+        assertEquals( Arrays.asList( PluginDetector.SELECTION, PluginDetector.RESIZE, PluginDetector.CANVAS2IMAGE,
+            PluginDetector.NAVIGATE ), plugins );
+    }
+
+    public void testDetectsGlobalSeriesOptions()
+    {
+        PlotOptions options = new PlotOptions();
+        options.setGlobalSeriesOptions( new GlobalSeriesOptions().setStack( true ) );
+
+        assertTrue( PluginDetector.detect( null, options, false ).contains( PluginDetector.STACK ) );
+    }
+
+    public void testDetectsEverySeries()
+    {
+        Series points = new Series( "points" ).setPointsOptions( new PointsSeriesOptions()
+            .setSymbol( PointSymbol.DIAMOND ) );
+        Series pie = new Series( "pie" ).setPieSeriesOptions( new PieSeriesOptions().setShow( true ) );
+
+        List<String> plugins = PluginDetector.detect( new Series[] { points, pie }, null, false );
+
+        assertEquals( Arrays.asList( PluginDetector.SYMBOL, PluginDetector.PIE, PluginDetector.RESIZE,
+            PluginDetector.CANVAS2IMAGE ), plugins );
+    }
+
+    public void testRequiresImageWhenLoadingDataImages()
+    {
+        assertFalse( PluginDetector.detect( null, null, false ).contains( PluginDetector.IMAGE ) );
+        assertTrue( PluginDetector.detect( null, null, true ).contains( PluginDetector.IMAGE ) );
+    }
+
+    public void testFlotPluginName()
+    {
+        assertEquals( "selection", PluginDetector.getFlotPluginName( PluginDetector.SELECTION ) );
+        assertEquals( "flot.canvas.text", PluginDetector.getFlotPluginName( PluginDetector.TEXT ) );
+        assertEquals( "axisLabels", PluginDetector.getFlotPluginName( PluginDetector.AXIS_LABELS ) );
+        assertEquals( "fillbetween", PluginDetector.getFlotPluginName( PluginDetector.FILL_BETWEEN ) );
+        assertNull( PluginDetector.getFlotPluginName( PluginDetector.CANVAS2IMAGE ) );
+        assertNull( PluginDetector.getFlotPluginName( "unknown" ) );
+    }
+}
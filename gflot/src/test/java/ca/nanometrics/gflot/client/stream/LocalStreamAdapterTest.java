@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2008 Nanometrics Inc.
+ *
+ *	Permission is hereby granted, free of charge, to any person obtaining a copy
+ *	of this software and associated documentation files (the "Software"), to deal
+ *	in the Software without restriction, including without limitation the rights
+ *	to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *	copies of the Software, and to permit persons to whom the Software is
+ *	furnished to do so, subject to the following conditions:
+ *
+ *	The above copyright notice and this permission notice shall be included in
+ *	all copies or substantial portions of the Software.
+ *
+ *	THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *	IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *	FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *	AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *	LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *	OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *	THE SOFTWARE.
+ */
+package ca.nanometrics.gflot.client.stream;
+
+import ca.nanometrics.gflot.client.PlotModel;
+import ca.nanometrics.gflot.client.SeriesHandler;
+import ca.nanometrics.gflot.client.stream.LocalStreamAdapter.Generator;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import com.google.gwt.user.client.Timer;
+
+public class LocalStreamAdapterTest
+    extends GWTTestCase
+{
+    private static final int CAPACITY = 10;
+
+    private static final int POINTS_PER_GENERATION = 6;
+
+    /**
+     * Generator pushing a burst of points, recording if it has been called while the source was backpressured
+     */
+    private static class BurstGenerator
+        implements Generator
+    {
+        private int calls;
+
+        private boolean calledWhileBackpressured;
+
+        private double x;
+
+        @Override
+        public void generate( StreamingSeriesSource source )
+        {
+            calls++;
+            calledWhileBackpressured |= source.isBackpressured();
+            for ( int i = 0; i < POINTS_PER_GENERATION; i++ )
+            {
+                source.push( 0, x++, 0 );
+            }
+        }
+    }
+
+    private StreamingSeriesSource source;
+
+    private BurstGenerator generator;
+
+    private LocalStreamAdapter adapter;
+
+    @Override
+    public String getModuleName()
+    {
+        return "ca.nanometrics.gflot.GFlot";
+    }
+
+    @Override
+    protected void gwtSetUp()
+        throws Exception
+    {
+        SeriesHandler handler = new PlotModel().addSeries( "stream" );
+        source = new StreamingSeriesSource( new SeriesHandler[] { handler }, null );
+        source.setCapacity( CAPACITY );
+        // the queue drains slower than the generation
+        source.setMaxPointsPerFrame( 1 );
+        generator = new BurstGenerator();
+        adapter = new LocalStreamAdapter( generator, 10 );
+    }
+
+    @Override
+    protected void gwtTearDown()
+        throws Exception
+    {
+        adapter.disconnect();
+    }
+
+    public void testSkipsGenerationWhileBackpressured()
+    {
+        adapter.connect( source );
+        delayTestFinish( 5000 );
+        new Timer() {
+            @Override
+            public void run()
+            {
+                adapter.disconnect();
+                assertTrue( generator.calls > 1 );
+                assertFalse( generator.calledWhileBackpressured );
+                assertEquals( 0, source.getStats().getDropped() );
+                finishTest();
+            }
+        }.schedule( 500 );
+    }
+
+    public void testOverflowsWhenBackpressureIgnored()
+    {
+        adapter.setRespectBackpressure( false );
+        adapter.connect( source );
+        delayTestFinish( 5000 );
+        new Timer() {
+            @Override
+            public void run()
+            {
+                adapter.disconnect();
+                assertTrue( generator.calledWhileBackpressured );
+                assertTrue( source.getStats().getDropped() > 0 );
+                assertTrue( source.size() <= CAPACITY );
+                finishTest();
+            }
+        }.schedule( 500 );
+    }
+}